@@ -33,12 +33,14 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import net.runelite.cache.definitions.ItemDefinition;
-import net.runelite.cache.definitions.ModelDefinition;
-import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.exporters.NdjsonExporter;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.NpcLoader;
+import net.runelite.cache.definitions.loaders.ObjectLoader;
 import net.runelite.cache.definitions.providers.ModelProvider;
 import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.item.ItemSpriteFactory;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -60,6 +62,10 @@ public class Cache
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "models", true, "directory to export models to as obj");
+		options.addOption(null, "ndjson", false, "dump items, npcs and objects to a single ndjson file instead of a file per definition");
+		options.addOption(null, "changed", false, "with --ndjson, also dump the definitions changed or removed since the previous dump to a separate .changed.ndjson file");
+		options.addOption(null, "compact", false, "rewrite the cache data file without unused sectors");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -76,7 +82,16 @@ public class Cache
 
 		String cache = cmd.getOptionValue("cache");
 
+		if (cmd.hasOption("compact"))
+		{
+			System.out.println("Compacting " + cache);
+			DiskStorage.compact(new File(cache));
+			return;
+		}
+
 		Store store = loadStore(cache);
+		boolean ndjson = cmd.hasOption("ndjson");
+		boolean changed = cmd.hasOption("changed");
 
 		if (cmd.hasOption("items"))
 		{
@@ -89,7 +104,14 @@ public class Cache
 			}
 
 			System.out.println("Dumping items to " + itemdir);
-			dumpItems(store, new File(itemdir));
+			if (ndjson)
+			{
+				exportItems(store, new File(itemdir), changed);
+			}
+			else
+			{
+				dumpItems(store, new File(itemdir));
+			}
 		}
 		else if (cmd.hasOption("npcs"))
 		{
@@ -102,7 +124,14 @@ public class Cache
 			}
 
 			System.out.println("Dumping npcs to " + npcdir);
-			dumpNpcs(store, new File(npcdir));
+			if (ndjson)
+			{
+				exportNpcs(store, new File(npcdir), changed);
+			}
+			else
+			{
+				dumpNpcs(store, new File(npcdir));
+			}
 		}
 		else if (cmd.hasOption("objects"))
 		{
@@ -115,7 +144,14 @@ public class Cache
 			}
 
 			System.out.println("Dumping objects to " + objectdir);
-			dumpObjects(store, new File(objectdir));
+			if (ndjson)
+			{
+				exportObjects(store, new File(objectdir), changed);
+			}
+			else
+			{
+				dumpObjects(store, new File(objectdir));
+			}
 		}
 		else if (cmd.hasOption("sprites"))
 		{
@@ -130,6 +166,19 @@ public class Cache
 			System.out.println("Dumping sprites to " + spritedir);
 			dumpSprites(store, new File(spritedir));
 		}
+		else if (cmd.hasOption("models"))
+		{
+			String modeldir = cmd.getOptionValue("models");
+
+			if (modeldir == null)
+			{
+				System.err.println("Model directory must be specified");
+				return;
+			}
+
+			System.out.println("Exporting models to " + modeldir);
+			exportModels(store, new File(modeldir));
+		}
 		else
 		{
 			System.err.println("Nothing to do");
@@ -167,6 +216,45 @@ public class Cache
 		dumper.java(objectdir);
 	}
 
+	private static void exportModels(Store store, File modeldir) throws IOException
+	{
+		TextureManager textureManager = new TextureManager(store);
+		textureManager.load();
+
+		int[] modelIds = store.getIndex(IndexType.MODELS).getArchives().stream()
+			.mapToInt(Archive::getArchiveId)
+			.toArray();
+
+		int count = new ModelManager(store).export(modeldir, modelIds, textureManager);
+		System.out.println("Exported " + count + " models");
+	}
+
+	private static void exportItems(Store store, File itemdir, boolean changed) throws IOException
+	{
+		itemdir.mkdirs();
+		ItemLoader loader = new ItemLoader();
+		int count = NdjsonExporter.export(store, ConfigType.ITEM, loader::load, new File(itemdir, "items.ndjson"), changed);
+		System.out.println("Dumped " + count + (changed ? " changed " : " ") + "items");
+	}
+
+	private static void exportNpcs(Store store, File npcdir, boolean changed) throws IOException
+	{
+		npcdir.mkdirs();
+		NpcLoader loader = new NpcLoader()
+			.configureForRevision(store.getIndex(IndexType.CONFIGS).getArchive(ConfigType.NPC.getId()).getRevision());
+		int count = NdjsonExporter.export(store, ConfigType.NPC, loader::load, new File(npcdir, "npcs.ndjson"), changed);
+		System.out.println("Dumped " + count + (changed ? " changed " : " ") + "npcs");
+	}
+
+	private static void exportObjects(Store store, File objectdir, boolean changed) throws IOException
+	{
+		objectdir.mkdirs();
+		ObjectLoader loader = new ObjectLoader()
+			.configureForRevision(store.getIndex(IndexType.CONFIGS).getArchive(ConfigType.OBJECT.getId()).getRevision());
+		int count = NdjsonExporter.export(store, ConfigType.OBJECT, loader::load, new File(objectdir, "objects.ndjson"), changed);
+		System.out.println("Dumped " + count + (changed ? " changed " : " ") + "objects");
+	}
+
 	private static void dumpSprites(Store store, File spritedir) throws IOException
 	{
 		SpriteManager dumper = new SpriteManager(store);
@@ -225,19 +313,7 @@ public class Cache
 		itemManager.load();
 		itemManager.link();
 
-		ModelProvider modelProvider = new ModelProvider()
-		{
-			@Override
-			public ModelDefinition provide(int modelId) throws IOException
-			{
-				Index models = store.getIndex(IndexType.MODELS);
-				Archive archive = models.getArchive(modelId);
-
-				byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
-				ModelDefinition inventoryModel = new ModelLoader().load(modelId, data);
-				return inventoryModel;
-			}
-		};
+		ModelProvider modelProvider = new ModelManager(store);
 
 		SpriteManager spriteManager = new SpriteManager(store);
 		spriteManager.load();
@@ -35,7 +35,6 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 
 public class DBTableIndexManager
@@ -52,7 +51,6 @@ public class DBTableIndexManager
 	{
 		DBTableIndexLoader loader = new DBTableIndexLoader();
 
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.DBTABLEINDEX);
 		if (index == null)
 		{
@@ -61,8 +59,7 @@ public class DBTableIndexManager
 
 		for (Archive archive : index.getArchives())
 		{
-			byte[] archiveData = storage.loadArchive(archive);
-			ArchiveFiles files = archive.getFiles(archiveData);
+			ArchiveFiles files = store.loadArchiveFiles(archive);
 
 			for (FSFile f : files.getFiles())
 			{
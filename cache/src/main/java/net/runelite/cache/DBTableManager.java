@@ -35,7 +35,6 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 
 public class DBTableManager
@@ -52,7 +51,6 @@ public class DBTableManager
 	{
 		DBTableLoader loader = new DBTableLoader();
 
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.DBTABLE.getId());
 
@@ -62,8 +60,7 @@ public class DBTableManager
 			return;
 		}
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.loadArchiveFiles(archive);
 
 		for (FSFile f : files.getFiles())
 		{
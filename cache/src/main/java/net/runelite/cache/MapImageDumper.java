@@ -32,10 +32,10 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
@@ -52,7 +52,6 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.item.RSTextureProvider;
 import net.runelite.cache.models.JagexColor;
@@ -60,8 +59,10 @@ import net.runelite.cache.region.Location;
 import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.region.UnderlayBlend;
 import net.runelite.cache.util.BigBufferedImage;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.PngWriter;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -75,7 +76,6 @@ import org.apache.commons.cli.ParseException;
 public class MapImageDumper
 {
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
-	private static final int BLEND = 5; // number of surrounding tiles for ground blending
 	private static int[] colorPalette = JagexColor.createPalette(JagexColor.BRIGHTNESS_MAX);
 
 	private static int[][] TILE_SHAPE_2D = new int[][]{{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, {1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1}, {1, 0, 0, 0, 1, 1, 0, 0, 1, 1, 1, 0, 1, 1, 1, 1}, {1, 1, 0, 0, 1, 1, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0}, {0, 0, 1, 1, 0, 0, 1, 1, 0, 0, 0, 1, 0, 0, 0, 1}, {0, 1, 1, 1, 0, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1}, {1, 1, 1, 0, 1, 1, 1, 0, 1, 1, 1, 1, 1, 1, 1, 1}, {1, 1, 0, 0, 1, 1, 0, 0, 1, 1, 0, 0, 1, 1, 0, 0}, {0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 1, 1, 0, 0}, {1, 1, 1, 1, 1, 1, 1, 1, 0, 1, 1, 1, 0, 0, 1, 1}, {1, 1, 1, 1, 1, 1, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0}, {0, 0, 0, 0, 0, 0, 1, 1, 0, 1, 1, 1, 0, 1, 1, 1}, {0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 0, 1, 1, 1, 1}};
@@ -95,6 +95,8 @@ public class MapImageDumper
 	private final SpriteManager sprites;
 	private RSTextureProvider rsTextureProvider;
 	private final ObjectManager objectManager;
+	private UnderlayBlend underlayBlend;
+	private int underlayBlendPlane;
 
 	@Getter
 	@Setter
@@ -185,7 +187,7 @@ public class MapImageDumper
 
 				File imageFile = new File(outDir, "img-" + i + ".png");
 
-				ImageIO.write(image, "png", imageFile);
+				PngWriter.write(image, imageFile);
 				log.info("Wrote image {}", imageFile);
 			}
 		}
@@ -357,264 +359,171 @@ public class MapImageDumper
 
 	private void drawMap(int[][] pixels, Region region, int z)
 	{
-		int baseX = region.getBaseX();
-		int baseY = region.getBaseY();
-
-		int len = Region.X + BLEND * 2;
-		int[] hues = new int[len];
-		int[] sats = new int[len];
-		int[] light = new int[len];
-		int[] mul = new int[len];
-		int[] num = new int[len];
-
-		boolean hasLeftRegion = regionLoader.findRegionForWorldCoordinates(baseX - 1, baseY) != null;
-		boolean hasRightRegion = regionLoader.findRegionForWorldCoordinates(baseX + Region.X, baseY) != null;
-		boolean hasUpRegion = regionLoader.findRegionForWorldCoordinates(baseX, baseY + Region.Y) != null;
-		boolean hasDownRegion = regionLoader.findRegionForWorldCoordinates(baseX, baseY - 1) != null;
+		int[] blend = getUnderlayBlend(z).getRegion(region);
+		if (blend == null)
+		{
+			// a region which isn't part of the loaded world
+			blend = UnderlayBlend.build(Collections.singleton(region), z, this::findUnderlay).getRegion(region);
+		}
 
-		for (int xi = (hasLeftRegion ? -BLEND * 2 : -BLEND); xi < Region.X + (hasRightRegion ? BLEND * 2 : BLEND); ++xi)
+		for (int xi = 0; xi < Region.X; ++xi)
 		{
-			for (int yi = (hasDownRegion ? -BLEND : 0); yi < Region.Y + (hasUpRegion ? BLEND : 0); ++yi)
+			for (int yi = 0; yi < Region.Y; ++yi)
 			{
-				int xr = xi + BLEND;
-				if (xr >= (hasLeftRegion ? -BLEND : 0) && xr < Region.X + (hasRightRegion ? BLEND : 0))
+				int underlayId = region.getUnderlayId(z, xi, yi);
+				int overlayId = region.getOverlayId(z, xi, yi);
+
+			if (underlayId > 0 || overlayId > 0)
+			{
+				int underlayHsl = -1;
+				int underlayBlend = blend[xi << 6 | yi];
+				if (underlayId > 0 && underlayBlend != UnderlayBlend.NONE)
 				{
-					Region r = regionLoader.findRegionForWorldCoordinates(baseX + xr, baseY + yi);
-					if (r != null)
-					{
-						int underlayId = r.getUnderlayId(z, convert(xr), convert(yi));
-						if (underlayId > 0)
-						{
-							UnderlayDefinition underlay = findUnderlay(underlayId - 1);
-							hues[yi + BLEND] += underlay.getHue();
-							sats[yi + BLEND] += underlay.getSaturation();
-							light[yi + BLEND] += underlay.getLightness();
-							mul[yi + BLEND] += underlay.getHueMultiplier();
-							num[yi + BLEND]++;
-						}
-					}
+					// randomness is added to the hue here
+					underlayHsl = packHsl(UnderlayBlend.getHue(underlayBlend),
+						UnderlayBlend.getSaturation(underlayBlend),
+						UnderlayBlend.getLightness(underlayBlend));
 				}
 
-				int xl = xi - BLEND;
-				if (xl >= (hasLeftRegion ? -BLEND : 0) && xl < Region.X + (hasRightRegion ? BLEND : 0))
+				int underlayRgb = 0;
+				if (underlayHsl != -1)
 				{
-					Region r = regionLoader.findRegionForWorldCoordinates(baseX + xl, baseY + yi);
-					if (r != null)
-					{
-						int underlayId = r.getUnderlayId(z, convert(xl), convert(yi));
-						if (underlayId > 0)
-						{
-							UnderlayDefinition underlay = findUnderlay(underlayId - 1);
-							hues[yi + BLEND] -= underlay.getHue();
-							sats[yi + BLEND] -= underlay.getSaturation();
-							light[yi + BLEND] -= underlay.getLightness();
-							mul[yi + BLEND] -= underlay.getHueMultiplier();
-							num[yi + BLEND]--;
-						}
-					}
+					int var0 = method1792(underlayHsl, 96);
+					underlayRgb = colorPalette[var0] | 0xFF000000;
 				}
-			}
-
-			if (xi >= 0 && xi < Region.X)
-			{
-				int runningHues = 0;
-				int runningSat = 0;
-				int runningLight = 0;
-				int runningMultiplier = 0;
-				int runningNumber = 0;
 
-				for (int yi = (hasDownRegion ? -BLEND * 2 : -BLEND); yi < Region.Y + (hasUpRegion ? BLEND * 2 : BLEND); ++yi)
+				int shape, rotation;
+				int overlayRgb = 0;
+				if (overlayId == 0)
+				{
+					shape = rotation = 0;
+				}
+				else
 				{
-					int yu = yi + BLEND;
-					if (yu >= (hasDownRegion ? -BLEND : 0) && yu < Region.Y + (hasUpRegion ? BLEND : 0))
+					shape = region.getOverlayPath(z, xi, yi) + 1;
+					rotation = region.getOverlayRotation(z, xi, yi);
+
+					OverlayDefinition overlayDefinition = findOverlay(overlayId - 1);
+					int overlayTexture = overlayDefinition.getTexture();
+					int hsl;
+
+					if (overlayTexture >= 0)
 					{
-						runningHues += hues[yu + BLEND];
-						runningSat += sats[yu + BLEND];
-						runningLight += light[yu + BLEND];
-						runningMultiplier += mul[yu + BLEND];
-						runningNumber += num[yu + BLEND];
+						hsl = rsTextureProvider.getAverageTextureRGB(overlayTexture);
+					}
+					else if (overlayDefinition.getRgbColor() == 0xFF_00FF)
+					{
+						hsl = -2;
+					}
+					else
+					{
+						// randomness added here
+						int overlayHsl = packHsl(overlayDefinition.getHue(), overlayDefinition.getSaturation(), overlayDefinition.getLightness());
+						hsl = overlayHsl;
+					}
+
+					if (hsl != -2)
+					{
+						int var0 = adjustHSLListness0(hsl, 96);
+						overlayRgb = colorPalette[var0] | 0xFF000000;
 					}
 
-					int yd = yi - BLEND;
-					if (yd >= (hasDownRegion ? -BLEND : 0) && yd < Region.Y + (hasUpRegion ? BLEND : 0))
+					if (overlayDefinition.getSecondaryRgbColor() != -1)
 					{
-						runningHues -= hues[yd + BLEND];
-						runningSat -= sats[yd + BLEND];
-						runningLight -= light[yd + BLEND];
-						runningMultiplier -= mul[yd + BLEND];
-						runningNumber -= num[yd + BLEND];
+						int hue = overlayDefinition.getOtherHue();
+						int sat = overlayDefinition.getOtherSaturation();
+						int olight = overlayDefinition.getOtherLightness();
+						hsl = packHsl(hue, sat, olight);
+						int var0 = adjustHSLListness0(hsl, 96);
+						overlayRgb = colorPalette[var0] | 0xFF000000;
 					}
+				}
 
-					if (yi >= 0 && yi < Region.Y)
+				if (shape == 0)
+				{
+					int drawX = xi;
+					int drawY = Region.Y - 1 - yi;
+					if (underlayRgb != 0)
 					{
-						Region r = regionLoader.findRegionForWorldCoordinates(baseX + xi, baseY + yi);
-						if (r != null)
+						drawMapSquare(pixels, drawX, drawY, underlayRgb);
+					}
+				}
+				else if (shape == 1)
+				{
+					int drawX = xi;
+					int drawY = Region.Y - 1 - yi;
+					drawMapSquare(pixels, drawX, drawY, overlayRgb);
+				}
+				else
+				{
+					int drawX = xi * MAP_SCALE;
+					int drawY = (Region.Y - 1 - yi) * MAP_SCALE;
+					int[] tileShapes = TILE_SHAPE_2D[shape];
+					int[] tileRotations = TILE_ROTATION_2D[rotation];
+					if (underlayRgb != 0)
+					{
+						int rotIdx = 0;
+						for (int i = 0; i < Region.Z; ++i)
+						{
+							int p1 = tileShapes[tileRotations[rotIdx++]] == 0 ? underlayRgb : overlayRgb;
+							int p2 = tileShapes[tileRotations[rotIdx++]] == 0 ? underlayRgb : overlayRgb;
+							int p3 = tileShapes[tileRotations[rotIdx++]] == 0 ? underlayRgb : overlayRgb;
+							int p4 = tileShapes[tileRotations[rotIdx++]] == 0 ? underlayRgb : overlayRgb;
+							pixels[drawX + 0][drawY + i] = p1;
+							pixels[drawX + 1][drawY + i] = p2;
+							pixels[drawX + 2][drawY + i] = p3;
+							pixels[drawX + 3][drawY + i] = p4;
+						}
+					}
+					else
+					{
+						int rotIdx = 0;
+						for (int i = 0; i < Region.Z; ++i)
 						{
-							int underlayId = r.getUnderlayId(z, convert(xi), convert(yi));
-							int overlayId = r.getOverlayId(z, convert(xi), convert(yi));
+							int p1 = tileShapes[tileRotations[rotIdx++]];
+							int p2 = tileShapes[tileRotations[rotIdx++]];
+							int p3 = tileShapes[tileRotations[rotIdx++]];
+							int p4 = tileShapes[tileRotations[rotIdx++]];
 
-							if (underlayId > 0 || overlayId > 0)
+							if (p1 != 0)
 							{
-								int underlayHsl = -1;
-								if (underlayId > 0)
-								{
-									int avgHue = runningHues * 256 / runningMultiplier;
-									int avgSat = runningSat / runningNumber;
-									int avgLight = runningLight / runningNumber;
-									// randomness is added to avgHue here
-
-									if (avgLight < 0)
-									{
-										avgLight = 0;
-									}
-									else if (avgLight > 255)
-									{
-										avgLight = 255;
-									}
-
-									underlayHsl = packHsl(avgHue, avgSat, avgLight);
-								}
-
-								int underlayRgb = 0;
-								if (underlayHsl != -1)
-								{
-									int var0 = method1792(underlayHsl, 96);
-									underlayRgb = colorPalette[var0] | 0xFF000000;
-								}
-
-								int shape, rotation;
-								int overlayRgb = 0;
-								if (overlayId == 0)
-								{
-									shape = rotation = 0;
-								}
-								else
-								{
-									shape = r.getOverlayPath(z, convert(xi), convert(yi)) + 1;
-									rotation = r.getOverlayRotation(z, convert(xi), convert(yi));
-
-									OverlayDefinition overlayDefinition = findOverlay(overlayId - 1);
-									int overlayTexture = overlayDefinition.getTexture();
-									int hsl;
-
-									if (overlayTexture >= 0)
-									{
-										hsl = rsTextureProvider.getAverageTextureRGB(overlayTexture);
-									}
-									else if (overlayDefinition.getRgbColor() == 0xFF_00FF)
-									{
-										hsl = -2;
-									}
-									else
-									{
-										// randomness added here
-										int overlayHsl = packHsl(overlayDefinition.getHue(), overlayDefinition.getSaturation(), overlayDefinition.getLightness());
-										hsl = overlayHsl;
-									}
+								pixels[drawX + 0][drawY + i] = overlayRgb;
+							}
 
-									if (hsl != -2)
-									{
-										int var0 = adjustHSLListness0(hsl, 96);
-										overlayRgb = colorPalette[var0] | 0xFF000000;
-									}
+							if (p2 != 0)
+							{
+								pixels[drawX + 1][drawY + i] = overlayRgb;
+							}
 
-									if (overlayDefinition.getSecondaryRgbColor() != -1)
-									{
-										int hue = overlayDefinition.getOtherHue();
-										int sat = overlayDefinition.getOtherSaturation();
-										int olight = overlayDefinition.getOtherLightness();
-										hsl = packHsl(hue, sat, olight);
-										int var0 = adjustHSLListness0(hsl, 96);
-										overlayRgb = colorPalette[var0] | 0xFF000000;
-									}
-								}
+							if (p3 != 0)
+							{
+								pixels[drawX + 2][drawY + i] = overlayRgb;
+							}
 
-								if (shape == 0)
-								{
-									int drawX = xi;
-									int drawY = Region.Y - 1 - yi;
-									if (underlayRgb != 0)
-									{
-										drawMapSquare(pixels, drawX, drawY, underlayRgb);
-									}
-								}
-								else if (shape == 1)
-								{
-									int drawX = xi;
-									int drawY = Region.Y - 1 - yi;
-									drawMapSquare(pixels, drawX, drawY, overlayRgb);
-								}
-								else
-								{
-									int drawX = xi * MAP_SCALE;
-									int drawY = (Region.Y - 1 - yi) * MAP_SCALE;
-									int[] tileShapes = TILE_SHAPE_2D[shape];
-									int[] tileRotations = TILE_ROTATION_2D[rotation];
-									if (underlayRgb != 0)
-									{
-										int rotIdx = 0;
-										for (int i = 0; i < Region.Z; ++i)
-										{
-											int p1 = tileShapes[tileRotations[rotIdx++]] == 0 ? underlayRgb : overlayRgb;
-											int p2 = tileShapes[tileRotations[rotIdx++]] == 0 ? underlayRgb : overlayRgb;
-											int p3 = tileShapes[tileRotations[rotIdx++]] == 0 ? underlayRgb : overlayRgb;
-											int p4 = tileShapes[tileRotations[rotIdx++]] == 0 ? underlayRgb : overlayRgb;
-											pixels[drawX + 0][drawY + i] = p1;
-											pixels[drawX + 1][drawY + i] = p2;
-											pixels[drawX + 2][drawY + i] = p3;
-											pixels[drawX + 3][drawY + i] = p4;
-										}
-									}
-									else
-									{
-										int rotIdx = 0;
-										for (int i = 0; i < Region.Z; ++i)
-										{
-											int p1 = tileShapes[tileRotations[rotIdx++]];
-											int p2 = tileShapes[tileRotations[rotIdx++]];
-											int p3 = tileShapes[tileRotations[rotIdx++]];
-											int p4 = tileShapes[tileRotations[rotIdx++]];
-
-											if (p1 != 0)
-											{
-												pixels[drawX + 0][drawY + i] = overlayRgb;
-											}
-
-											if (p2 != 0)
-											{
-												pixels[drawX + 1][drawY + i] = overlayRgb;
-											}
-
-											if (p3 != 0)
-											{
-												pixels[drawX + 2][drawY + i] = overlayRgb;
-											}
-
-											if (p4 != 0)
-											{
-												pixels[drawX + 3][drawY + i] = overlayRgb;
-											}
-										}
-									}
-								}
+							if (p4 != 0)
+							{
+								pixels[drawX + 3][drawY + i] = overlayRgb;
 							}
 						}
 					}
 				}
 			}
+			}
 		}
 	}
 
-	private static int convert(int d)
+	/**
+	 * @return the underlay blend of plane z of the whole world, which is built on
+	 * first use and kept until another plane is drawn
+	 */
+	private synchronized UnderlayBlend getUnderlayBlend(int z)
 	{
-		if (d >= 0)
-		{
-			return d % 64;
-		}
-		else
+		if (underlayBlend == null || underlayBlendPlane != z)
 		{
-			return 64 - -(d % 64) - 1;
+			underlayBlend = UnderlayBlend.build(regionLoader.getRegions(), z, this::findUnderlay);
+			underlayBlendPlane = z;
 		}
+		return underlayBlend;
 	}
 
 	private void drawObjects(BufferedImage image, int drawBaseX, int drawBaseY, Region region, int z)
@@ -1040,12 +949,10 @@ public class MapImageDumper
 
 	private void loadUnderlays(Store store) throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.UNDERLAY.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.loadArchiveFiles(archive);
 
 		for (FSFile file : files.getFiles())
 		{
@@ -1063,12 +970,10 @@ public class MapImageDumper
 
 	private void loadOverlays(Store store) throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.OVERLAY.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.loadArchiveFiles(archive);
 
 		for (FSFile file : files.getFiles())
 		{
@@ -1086,10 +991,9 @@ public class MapImageDumper
 
 	private void loadSprites() throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 		Archive a = index.findArchiveByName("mapscene");
-		byte[] contents = a.decompress(storage.loadArchive(a));
+		byte[] contents = store.loadArchiveData(a);
 
 		SpriteLoader loader = new SpriteLoader();
 		mapDecorations = loader.load(a.getArchiveId(), contents);
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.models.ObjExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decodes and exports models in bulk. Models are decoded, have their normals
+ * and texture coordinates computed, and are formatted on the common pool.
+ */
+public class ModelManager implements ModelProvider
+{
+	private static final Logger logger = LoggerFactory.getLogger(ModelManager.class);
+
+	private static final ThreadLocal<StringBuilder[]> BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder[]{
+		new StringBuilder(), new StringBuilder()
+	});
+
+	private final Store store;
+	private final ModelLoader loader = new ModelLoader();
+
+	public ModelManager(Store store)
+	{
+		this.store = store;
+	}
+
+	@Override
+	public ModelDefinition provide(int modelId) throws IOException
+	{
+		Index index = store.getIndex(IndexType.MODELS);
+		Archive archive = index.getArchive(modelId);
+		if (archive == null)
+		{
+			return null;
+		}
+
+		byte[] data = store.loadArchiveData(archive);
+		if (data == null)
+		{
+			return null;
+		}
+
+		return loader.load(modelId, data);
+	}
+
+	/**
+	 * Decode the given models in parallel, with normals and texture coordinates
+	 * computed. Models which are missing are left out.
+	 *
+	 * @param modelIds model archive ids
+	 * @return the models, in the order of {@code modelIds}
+	 */
+	public List<ModelDefinition> load(int[] modelIds)
+	{
+		return Arrays.stream(modelIds)
+			.parallel()
+			.mapToObj(this::decode)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Export the given models to {@code <id>.obj} and {@code <id>.mtl} files in
+	 * {@code out}, in parallel.
+	 *
+	 * @param out output directory
+	 * @param modelIds model archive ids
+	 * @param textureManager loaded textures, for textured faces
+	 * @return the number of models exported
+	 * @throws IOException
+	 */
+	public int export(File out, int[] modelIds, TextureManager textureManager) throws IOException
+	{
+		out.mkdirs();
+
+		try
+		{
+			return Arrays.stream(modelIds)
+				.parallel()
+				.mapToObj(this::decode)
+				.filter(Objects::nonNull)
+				.mapToInt(model ->
+				{
+					export(out, model, textureManager);
+					return 1;
+				})
+				.sum();
+		}
+		catch (UncheckedIOException ex)
+		{
+			throw ex.getCause();
+		}
+	}
+
+	private ModelDefinition decode(int modelId)
+	{
+		ModelDefinition model;
+		try
+		{
+			model = provide(modelId);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+
+		if (model == null)
+		{
+			logger.warn("Unable to load model {}", modelId);
+			return null;
+		}
+
+		model.computeNormals();
+		model.computeTextureUVCoordinates();
+		return model;
+	}
+
+	private static void export(File out, ModelDefinition model, TextureManager textureManager)
+	{
+		StringBuilder[] buffers = BUFFERS.get();
+		StringBuilder obj = buffers[0];
+		StringBuilder mtl = buffers[1];
+		obj.setLength(0);
+		mtl.setLength(0);
+
+		new ObjExporter(textureManager, model).export(obj, mtl);
+
+		try
+		{
+			write(new File(out, model.id + ".obj"), obj);
+			write(new File(out, model.id + ".mtl"), mtl);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static void write(File file, CharSequence contents) throws IOException
+	{
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))
+		{
+			writer.append(contents);
+		}
+	}
+}
@@ -202,7 +202,7 @@ public class SimbaCacheDumper
 				Index models = store.getIndex(IndexType.MODELS);
 				Archive archive = models.getArchive(modelId);
 
-				byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+				byte[] data = store.loadArchiveData(archive);
 				ModelDefinition inventoryModel = new ModelLoader().load(modelId, data);
 				return inventoryModel;
 			}
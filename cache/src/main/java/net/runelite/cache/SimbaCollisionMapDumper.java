@@ -40,11 +40,12 @@ import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.BigBufferedImage;
+import net.runelite.cache.util.ImageUtil;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.PngWriter;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.*;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.*;
 import java.util.List;
@@ -78,6 +79,7 @@ public class SimbaCollisionMapDumper
 	private final SpriteManager sprites;
 	private RSTextureProvider rsTextureProvider;
 	private final ObjectManager objectManager;
+	private final Map<Integer, byte[]> uniformChunks = new HashMap<>();
 	public static boolean exportFullMap = false;
 	private static boolean exportChunks = true;
 	private static final boolean exportEmptyImages = true;
@@ -184,7 +186,7 @@ public class SimbaCollisionMapDumper
 				BufferedImage image = dumper.drawRegions(i, zip);
 				if (exportFullMap) {
 					File imageFile = new File(outDir, "img-" + i + ".png");
-					ImageIO.write(image, "png", imageFile);
+					PngWriter.write(image, imageFile);
 					log.info("Wrote image {}", imageFile);
 				}
 			}
@@ -247,15 +249,45 @@ public class SimbaCollisionMapDumper
 	public static boolean isImageEmpty(BufferedImage img) {
 		if (exportEmptyImages) return false;
 
-		int color = img.getRGB(0,0);
-		for (int y = 1; y < img.getHeight(); y++)
-			for (int x = 0; x < img.getWidth(); x++)
-				if (img.getRGB(x, y) != color)
-					return false;
-		return true;
+		return ImageUtil.isUniform(img);
+	}
+
+	/**
+	 * @return the planes whose locations can be drawn when rendering plane z,
+	 * which includes bridges and locations pushed down from the planes above
+	 */
+	private static int renderedPlanes(int z)
+	{
+		return (7 << z) & ((1 << Region.Z) - 1);
+	}
+
+	/**
+	 * Write a chunk to the zip. Chunks of a single color, such as fully walkable
+	 * chunks, all encode the same so are only encoded once.
+	 */
+	private void writeChunk(BufferedImage chunk, ZipOutputStream zip) throws IOException
+	{
+		if (!ImageUtil.isUniform(chunk))
+		{
+			PngWriter.write(chunk, zip);
+			return;
+		}
+
+		byte[] png = uniformChunks.get(chunk.getRGB(0, 0));
+		if (png == null)
+		{
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			PngWriter.write(chunk, out);
+			png = out.toByteArray();
+			uniformChunks.put(chunk.getRGB(0, 0), png);
+		}
+		zip.write(png);
 	}
 
 	private void drawRegions(BufferedImage image, int z, ZipOutputStream zip) throws IOException {
+		uniformChunks.clear();
+
+		int planes = renderedPlanes(z);
 		for (Region region : regionLoader.getRegions())
 		{
 			if (x1 != -1 &&  x2 != -1 && y1 != -1 && y2 != -1)
@@ -277,13 +309,16 @@ public class SimbaCollisionMapDumper
 			int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
 
 			drawRegions(image, drawBaseX, drawBaseY, z, region);
-			drawObjects(image, drawBaseX, drawBaseY, region, z);
+			if ((region.getLocationPlanes() & planes) != 0)
+			{
+				drawObjects(image, drawBaseX, drawBaseY, region, z);
+			}
 
 			if (exportChunks) {
 				BufferedImage chunk = image.getSubimage(drawBaseX * MAP_SCALE, drawBaseY * MAP_SCALE, Region.X * MAP_SCALE, Region.Y * MAP_SCALE);
 				if (!isImageEmpty(chunk)) {
 					zip.putNextEntry(new ZipEntry(z + "/" + region.getRegionX() + "-" + region.getRegionY() + ".png"));
-					ImageIO.write(chunk, "png", zip);
+					writeChunk(chunk, zip);
 				}
 			}
 		}
@@ -902,12 +937,10 @@ public class SimbaCollisionMapDumper
 
 	private void loadUnderlays(Store store) throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.UNDERLAY.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.loadArchiveFiles(archive);
 
 		for (FSFile file : files.getFiles())
 		{
@@ -925,12 +958,10 @@ public class SimbaCollisionMapDumper
 
 	private void loadOverlays(Store store) throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.OVERLAY.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.loadArchiveFiles(archive);
 
 		for (FSFile file : files.getFiles())
 		{
@@ -948,10 +979,9 @@ public class SimbaCollisionMapDumper
 
 	private void loadSprites() throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 		Archive a = index.findArchiveByName("mapscene");
-		byte[] contents = a.decompress(storage.loadArchive(a));
+		byte[] contents = store.loadArchiveData(a);
 
 		SpriteLoader loader = new SpriteLoader();
 	}
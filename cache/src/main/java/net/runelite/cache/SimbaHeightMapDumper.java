@@ -28,13 +28,14 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.ImageUtil;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.PngWriter;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
@@ -84,11 +85,7 @@ public class SimbaHeightMapDumper
 
 	public static boolean isImageEmpty(BufferedImage img) {
 		if (exportEmptyImages) return false;
-		for (int y = 0; y < img.getHeight(); y++)
-			for (int x = 0; x < img.getWidth(); x++)
-				if (img.getRGB(x, y) != 0xFF000000)
-					return false;
-		return true;
+		return img.getRGB(0, 0) == 0xFF000000 && ImageUtil.isUniform(img);
 	}
 
 	private void drawRegions(BufferedImage image, int z, ZipOutputStream zip) throws IOException {
@@ -134,7 +131,7 @@ public class SimbaHeightMapDumper
 				BufferedImage chunk = image.getSubimage(drawBaseX * MAP_SCALE, drawBaseY * MAP_SCALE, Region.X * MAP_SCALE, Region.Y * MAP_SCALE);
 				if (!isImageEmpty(chunk)) {
 					zip.putNextEntry(new ZipEntry(region.getRegionX() + "-" + region.getRegionY() + ".png"));
-					ImageIO.write(chunk, "png", zip);
+					PngWriter.write(chunk, zip);
 				}
 			}
 		}
@@ -227,7 +224,7 @@ public class SimbaHeightMapDumper
 
 			if (exportFullMap) {
 				File imageFile = new File(outDir, "img.png");
-				ImageIO.write(image, "png", imageFile);
+				PngWriter.write(image, imageFile);
 				log.info("Wrote image {}", imageFile);
 			}
 		}
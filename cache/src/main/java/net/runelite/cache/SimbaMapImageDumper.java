@@ -40,11 +40,12 @@ import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.BigBufferedImage;
+import net.runelite.cache.util.ImageUtil;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.PngWriter;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.*;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
@@ -78,6 +79,7 @@ public class SimbaMapImageDumper
 	private final SpriteManager sprites;
 	private RSTextureProvider rsTextureProvider;
 	private final ObjectManager objectManager;
+	private final Map<Integer, byte[]> uniformChunks = new HashMap<>();
 
 	@Getter
 	@Setter
@@ -185,7 +187,7 @@ public class SimbaMapImageDumper
 				BufferedImage image = dumper.drawRegions(i, zip);
 				if (exportFullMap) {
 					File imageFile = new File(outDir, "img-" + i + ".png");
-					ImageIO.write(image, "png", imageFile);
+					PngWriter.write(image, imageFile);
 					log.info("Wrote image {}", imageFile);
 				}
 			}
@@ -251,16 +253,53 @@ public class SimbaMapImageDumper
 	}
 
 	public static boolean isImageEmpty(BufferedImage img) {
-		int color = img.getRGB(0,0);
-		for (int y = 1; y < img.getHeight(); y++)
-			for (int x = 0; x < img.getWidth(); x++)
-				if (img.getRGB(x, y) != color)
-					return false;
-		return true;
+		return ImageUtil.isUniform(img);
 	}
+
+	/**
+	 * @return the planes whose tiles and locations can be drawn when rendering plane z,
+	 * which includes bridges and tiles pushed down from the planes above
+	 */
+	private static int renderedPlanes(int z)
+	{
+		return (7 << z) & ((1 << Region.Z) - 1);
+	}
+
+	/**
+	 * Write a chunk to the zip. Chunks of a single color, such as the chunks of empty
+	 * regions, all encode the same so are only encoded once.
+	 */
+	private void writeChunk(BufferedImage chunk, ZipOutputStream zip) throws IOException
+	{
+		if (!ImageUtil.isUniform(chunk))
+		{
+			PngWriter.write(chunk, zip);
+			return;
+		}
+
+		byte[] png = uniformChunks.get(chunk.getRGB(0, 0));
+		if (png == null)
+		{
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			PngWriter.write(chunk, out);
+			png = out.toByteArray();
+			uniformChunks.put(chunk.getRGB(0, 0), png);
+		}
+		zip.write(png);
+	}
+
 	private void drawRegions(BufferedImage image, int z, ZipOutputStream zip) throws IOException {
+		uniformChunks.clear();
+
+		int planes = renderedPlanes(z);
 		for (Region region : regionLoader.getRegions())
 		{
+			if (region.isEmpty(planes))
+			{
+				// nothing on the planes this would draw
+				continue;
+			}
+
 			int baseX = region.getBaseX();
 			int baseY = region.getBaseY();
 
@@ -287,7 +326,7 @@ public class SimbaMapImageDumper
 				BufferedImage chunk = image.getSubimage(drawBaseX * MAP_SCALE, drawBaseY * MAP_SCALE, Region.X * MAP_SCALE, Region.Y * MAP_SCALE);
 				if (exportEmptyImages || !isImageEmpty(chunk)) {
 					zip.putNextEntry(new ZipEntry(z + "/" + region.getRegionX() + "-" + region.getRegionY() + ".png"));
-					ImageIO.write(chunk, "png", zip);
+					writeChunk(chunk, zip);
 				}
 			}
 		}
@@ -904,12 +943,10 @@ public class SimbaMapImageDumper
 
 	private void loadUnderlays(Store store) throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.UNDERLAY.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.loadArchiveFiles(archive);
 
 		for (FSFile file : files.getFiles())
 		{
@@ -927,12 +964,10 @@ public class SimbaMapImageDumper
 
 	private void loadOverlays(Store store) throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.OVERLAY.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.loadArchiveFiles(archive);
 
 		for (FSFile file : files.getFiles())
 		{
@@ -950,10 +985,9 @@ public class SimbaMapImageDumper
 
 	private void loadSprites() throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 		Archive a = index.findArchiveByName("mapscene");
-		byte[] contents = a.decompress(storage.loadArchive(a));
+		byte[] contents = store.loadArchiveData(a);
 
 		SpriteLoader loader = new SpriteLoader();
 		mapDecorations = loader.load(a.getArchiveId(), contents);
@@ -56,7 +56,6 @@ public class SimbaNPCDumper
 	{
 		NpcLoader loader = new NpcLoader();
 
-		Storage storage = store.getStorage();
 		Index configsIndex = store.getIndex(IndexType.CONFIGS);
 		Archive archive = configsIndex.getArchive(ConfigType.NPC.getId());
 
@@ -64,8 +63,7 @@ public class SimbaNPCDumper
 		textureManager = new TextureManager(store);
 		textureManager.load();
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.loadArchiveFiles(archive);
 
 		for (FSFile f : files.getFiles())
 		{
@@ -96,7 +94,7 @@ public class SimbaNPCDumper
 			if (def.getModels() != null) {
 				for (int i = 0; i < def.getModels().length; i++) {
 					Archive archive = index.getArchive(def.getModels()[i]);
-					byte[] contents = archive.decompress(store.getStorage().loadArchive(archive));
+					byte[] contents = store.loadArchiveData(archive);
 					ModelDefinition model = modelLoader.load(archive.getArchiveId(), contents);
 
 					ObjExporter exporter = new ObjExporter(textureManager, model);
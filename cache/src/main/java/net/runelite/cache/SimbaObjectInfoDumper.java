@@ -45,6 +45,7 @@ import org.apache.commons.cli.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -53,6 +54,7 @@ import java.util.zip.ZipOutputStream;
 public class SimbaObjectInfoDumper
 {
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
+	private static final long ARCHIVE_CACHE_BYTES = 256L * 1024 * 1024;
 	private final Store store;
 	private static Index index;
 	private static TextureManager textureManager;
@@ -128,6 +130,7 @@ public class SimbaObjectInfoDumper
 		try (Store store = new Store(base))
 		{
 			store.load();
+			store.enableArchiveCache(ARCHIVE_CACHE_BYTES);
 
 			SimbaObjectInfoDumper dumper = new SimbaObjectInfoDumper(store, xteaKeyManager);
 			dumper.load();
@@ -160,6 +163,18 @@ public class SimbaObjectInfoDumper
 	{
 		objectManager.load();
 		index = store.getIndex(IndexType.MODELS);
+
+		if (store.isArchiveCacheEnabled())
+		{
+			// the same models are used by many locations, so start decoding them while the regions load
+			store.prefetch(objectManager.getObjects().stream()
+				.filter(o -> o.getInteractType() != 0 && o.getObjectModels() != null)
+				.flatMapToInt(o -> Arrays.stream(o.getObjectModels()))
+				.distinct()
+				.mapToObj(index::getArchive)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList()));
+		}
 		textureManager = new TextureManager(store);
 		textureManager.load();
 
@@ -305,7 +320,7 @@ public class SimbaObjectInfoDumper
 						{
 							for (int i = 0; i < object.getObjectModels().length; i++) {
 								Archive archive = index.getArchive(object.getObjectModels()[i]);
-								byte[] contents = archive.decompress(store.getStorage().loadArchive(archive));
+								byte[] contents = store.loadArchiveData(archive);
 								ModelDefinition model = modelLoader.load(archive.getArchiveId(), contents);
 
 								ObjExporter exporter = new ObjExporter(textureManager, model);
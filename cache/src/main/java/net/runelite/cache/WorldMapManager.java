@@ -32,7 +32,6 @@ import net.runelite.cache.definitions.loaders.WorldMapCompositeLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.region.Position;
@@ -58,12 +57,11 @@ public class WorldMapManager
 
 	public void load() throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.WORLDMAP);
 		Archive compositeMapArchive = index.findArchiveByName("compositemap");
 		WorldMapCompositeLoader worldMapCompositeLoader = new WorldMapCompositeLoader();
 
-		ArchiveFiles compositeMapFiles = compositeMapArchive.getFiles(storage.loadArchive(compositeMapArchive));
+		ArchiveFiles compositeMapFiles = store.loadArchiveFiles(compositeMapArchive);
 		for (FSFile compositeFile : compositeMapFiles.getFiles())
 		{
 			WorldMapCompositeDefinition composite = worldMapCompositeLoader.load(compositeFile.getContents());
@@ -79,8 +77,7 @@ public class WorldMapManager
 		final int intermapLinkScriptId = 1705;
 		Index scriptIndex = store.getIndex(IndexType.CLIENTSCRIPT);
 		Archive intermapLinkScript = scriptIndex.getArchive(intermapLinkScriptId);
-		byte[] data = storage.loadArchive(intermapLinkScript);
-		FSFile file = intermapLinkScript.getFiles(data).findFile(0);
+		FSFile file = store.loadArchiveFiles(intermapLinkScript).findFile(0);
 
 		ScriptLoader scriptLoader = new ScriptLoader();
 		ScriptDefinition scriptDefinition = scriptLoader.load(intermapLinkScriptId, file.getContents());
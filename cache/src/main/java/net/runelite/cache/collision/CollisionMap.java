@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.collision;
+
+import java.util.Collection;
+import java.util.function.IntFunction;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.region.Region;
+
+/**
+ * The movement flags of every tile in the world. Each tile stores whether it is possible to move
+ * north, east, north east and south east from it, and the other four directions are found from the
+ * neighbouring tiles. The flags are packed 4 bits to a tile in pages of a region each, so the whole
+ * world takes a few kilobytes per region.
+ */
+public class CollisionMap
+{
+	static final int NORTH = 0;
+	static final int EAST = 1;
+	static final int NORTH_EAST = 2;
+	static final int SOUTH_EAST = 3;
+
+	static final int PAGE_LONGS = MapDefinition.TILES * 4 / 64;
+
+	private static final int WORLD_SIZE = 256 * Region.X;
+
+	private final long[][] pages = new long[1 << 16][];
+
+	/**
+	 * Build the collision map for a set of regions. The regions are processed in parallel.
+	 *
+	 * @param regions the regions, with their terrain and locations loaded
+	 * @param objects looks up an object definition by id
+	 */
+	public static CollisionMap build(Collection<Region> regions, IntFunction<ObjectDefinition> objects)
+	{
+		return new CollisionMapBuilder(regions, objects).build();
+	}
+
+	void setPage(int regionId, long[] page)
+	{
+		pages[regionId] = page;
+	}
+
+	public boolean hasRegion(int regionId)
+	{
+		return regionId >= 0 && regionId < pages.length && pages[regionId] != null;
+	}
+
+	/**
+	 * Test if a single step can be made from a tile
+	 *
+	 * @param dx the x step, from -1 to 1
+	 * @param dy the y step, from -1 to 1
+	 */
+	public boolean canMove(int x, int y, int z, int dx, int dy)
+	{
+		if (dx == 0)
+		{
+			if (dy == 1)
+			{
+				return get(x, y, z, NORTH);
+			}
+			return dy == -1 && get(x, y - 1, z, NORTH);
+		}
+		else if (dx == 1)
+		{
+			if (dy == 0)
+			{
+				return get(x, y, z, EAST);
+			}
+			return get(x, y, z, dy == 1 ? NORTH_EAST : SOUTH_EAST);
+		}
+		else
+		{
+			if (dy == 0)
+			{
+				return get(x - 1, y, z, EAST);
+			}
+			// moving south west is moving north east from the destination, and north west is south east
+			return dy == -1 ? get(x - 1, y - 1, z, NORTH_EAST) : get(x - 1, y + 1, z, SOUTH_EAST);
+		}
+	}
+
+	/**
+	 * Test if a tile can be left in any direction
+	 */
+	public boolean isWalkable(int x, int y, int z)
+	{
+		for (int dx = -1; dx <= 1; ++dx)
+		{
+			for (int dy = -1; dy <= 1; ++dy)
+			{
+				if (canMove(x, y, z, dx, dy))
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean get(int x, int y, int z, int direction)
+	{
+		if (x < 0 || y < 0 || x >= WORLD_SIZE || y >= WORLD_SIZE || z < 0 || z >= Region.Z)
+		{
+			return false;
+		}
+
+		long[] page = pages[(x >> 6) << 8 | y >> 6];
+		if (page == null)
+		{
+			return false;
+		}
+
+		int bit = MapDefinition.index(z, x & 63, y & 63) << 2 | direction;
+		return (page[bit >>> 6] & 1L << bit) != 0;
+	}
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.collision;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.region.Location;
+import net.runelite.cache.region.Position;
+import net.runelite.cache.region.Region;
+
+/**
+ * Builds a {@link CollisionMap} in two parallel passes. The first pass computes the collision flags
+ * of the tiles of each region, as the client does when it loads a map. The second pass packs the
+ * flags of each tile, and of its neighbours, into the movement bits of the collision map.
+ */
+@Slf4j
+class CollisionMapBuilder
+{
+	private static final int WALL_NORTH_WEST = 0x1;
+	private static final int WALL_NORTH = 0x2;
+	private static final int WALL_NORTH_EAST = 0x4;
+	private static final int WALL_EAST = 0x8;
+	private static final int WALL_SOUTH_EAST = 0x10;
+	private static final int WALL_SOUTH = 0x20;
+	private static final int WALL_SOUTH_WEST = 0x40;
+	private static final int WALL_WEST = 0x80;
+	private static final int OBJECT = 0x100;
+	private static final int FLOOR = 0x200;
+
+	private static final int BLOCKED = OBJECT | FLOOR;
+
+	private final Collection<Region> regions;
+	private final IntFunction<ObjectDefinition> objects;
+	/**
+	 * the collision flags of each region, indexed by MapDefinition.index
+	 */
+	private final Map<Integer, short[]> flags = new HashMap<>();
+
+	CollisionMapBuilder(Collection<Region> regions, IntFunction<ObjectDefinition> objects)
+	{
+		this.regions = regions;
+		this.objects = objects;
+	}
+
+	CollisionMap build()
+	{
+		for (Region region : regions)
+		{
+			flags.put(region.getRegionID(), new short[MapDefinition.TILES]);
+		}
+
+		// flags which fall outside of the region being processed, such as the far side of a wall on
+		// the edge of the region, are applied after all of the regions are done
+		List<long[]> spills = new ArrayList<>();
+		regions.parallelStream()
+			.map(this::addRegionFlags)
+			.forEachOrdered(spills::add);
+		for (long[] regionSpills : spills)
+		{
+			for (long spill : regionSpills)
+			{
+				addFlag((int) (spill >>> 32 & 0x3fff), (int) (spill >>> 18 & 0x3fff), (int) (spill >>> 16 & 3), (int) (spill & 0xffff));
+			}
+		}
+
+		CollisionMap map = new CollisionMap();
+		regions.parallelStream()
+			.forEach(region -> map.setPage(region.getRegionID(), pack(region)));
+
+		log.debug("Built collision map of {} regions", regions.size());
+		return map;
+	}
+
+	private long[] addRegionFlags(Region region)
+	{
+		short[] regionFlags = flags.get(region.getRegionID());
+		List<Long> spills = new ArrayList<>();
+		FlagSink sink = (x, y, z, flag) ->
+		{
+			int localX = x - region.getBaseX();
+			int localY = y - region.getBaseY();
+			if (localX >= 0 && localY >= 0 && localX < Region.X && localY < Region.Y)
+			{
+				regionFlags[MapDefinition.index(z, localX, localY)] |= flag;
+			}
+			else if (x >= 0 && y >= 0)
+			{
+				spills.add((long) x << 32 | (long) y << 18 | (long) z << 16 | flag);
+			}
+		};
+
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					if ((region.getTileSetting(z, x, y) & 1) != 0)
+					{
+						int plane = plane(region, z, x, y);
+						if (plane >= 0)
+						{
+							sink.add(region.getBaseX() + x, region.getBaseY() + y, plane, FLOOR);
+						}
+					}
+				}
+			}
+		}
+
+		for (Location location : region.getLocations())
+		{
+			ObjectDefinition object = objects.apply(location.getId());
+			if (object == null || object.getInteractType() == 0)
+			{
+				continue;
+			}
+
+			Position position = location.getPosition();
+			int plane = plane(region, position.getZ(), position.getX() - region.getBaseX(), position.getY() - region.getBaseY());
+			if (plane < 0)
+			{
+				continue;
+			}
+
+			int type = location.getType();
+			if (type >= 0 && type <= 3)
+			{
+				addWall(sink, position.getX(), position.getY(), plane, type, location.getOrientation());
+			}
+			else if (type >= 9 && type <= 21)
+			{
+				int sizeX = object.getSizeX();
+				int sizeY = object.getSizeY();
+				if (location.getOrientation() == 1 || location.getOrientation() == 3)
+				{
+					sizeX = object.getSizeY();
+					sizeY = object.getSizeX();
+				}
+
+				for (int x = 0; x < sizeX; ++x)
+				{
+					for (int y = 0; y < sizeY; ++y)
+					{
+						sink.add(position.getX() + x, position.getY() + y, plane, OBJECT);
+					}
+				}
+			}
+			else if (type == 22 && object.getInteractType() == 1)
+			{
+				sink.add(position.getX(), position.getY(), plane, OBJECT);
+			}
+		}
+
+		return spills.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	/**
+	 * Get the plane the collision of a tile is on. Tiles under a bridge are moved down a plane.
+	 */
+	private static int plane(Region region, int z, int localX, int localY)
+	{
+		if ((region.getTileSetting(1, localX, localY) & 2) != 0)
+		{
+			return z - 1;
+		}
+		return z;
+	}
+
+	/**
+	 * Add a wall to a tile, and the matching wall to the tile on the other side of it
+	 */
+	private static void addWall(FlagSink sink, int x, int y, int z, int type, int orientation)
+	{
+		if (type == 0 || type == 2)
+		{
+			// a straight wall, and the first side of a wall corner
+			addWallSide(sink, x, y, z, orientation);
+			if (type == 2)
+			{
+				addWallSide(sink, x, y, z, orientation + 1 & 3);
+			}
+		}
+		else
+		{
+			// a pillar at a corner of the tile
+			switch (orientation)
+			{
+				case 0:
+					sink.add(x, y, z, WALL_NORTH_WEST);
+					sink.add(x - 1, y + 1, z, WALL_SOUTH_EAST);
+					break;
+				case 1:
+					sink.add(x, y, z, WALL_NORTH_EAST);
+					sink.add(x + 1, y + 1, z, WALL_SOUTH_WEST);
+					break;
+				case 2:
+					sink.add(x, y, z, WALL_SOUTH_EAST);
+					sink.add(x + 1, y - 1, z, WALL_NORTH_WEST);
+					break;
+				case 3:
+					sink.add(x, y, z, WALL_SOUTH_WEST);
+					sink.add(x - 1, y - 1, z, WALL_NORTH_EAST);
+					break;
+			}
+		}
+	}
+
+	private static void addWallSide(FlagSink sink, int x, int y, int z, int orientation)
+	{
+		switch (orientation)
+		{
+			case 0:
+				sink.add(x, y, z, WALL_WEST);
+				sink.add(x - 1, y, z, WALL_EAST);
+				break;
+			case 1:
+				sink.add(x, y, z, WALL_NORTH);
+				sink.add(x, y + 1, z, WALL_SOUTH);
+				break;
+			case 2:
+				sink.add(x, y, z, WALL_EAST);
+				sink.add(x + 1, y, z, WALL_WEST);
+				break;
+			case 3:
+				sink.add(x, y, z, WALL_SOUTH);
+				sink.add(x, y - 1, z, WALL_NORTH);
+				break;
+		}
+	}
+
+	private void addFlag(int x, int y, int z, int flag)
+	{
+		short[] regionFlags = flags.get((x >> 6) << 8 | y >> 6);
+		if (regionFlags != null)
+		{
+			regionFlags[MapDefinition.index(z, x & 63, y & 63)] |= flag;
+		}
+	}
+
+	/**
+	 * Get the collision flags of a tile. Tiles outside of the loaded regions are blocked.
+	 */
+	private int getFlags(int x, int y, int z)
+	{
+		short[] regionFlags = x >= 0 && y >= 0 ? flags.get((x >> 6) << 8 | y >> 6) : null;
+		if (regionFlags == null)
+		{
+			return BLOCKED;
+		}
+		return regionFlags[MapDefinition.index(z, x & 63, y & 63)];
+	}
+
+	private long[] pack(Region region)
+	{
+		long[] page = new long[CollisionMap.PAGE_LONGS];
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int localX = 0; localX < Region.X; ++localX)
+			{
+				for (int localY = 0; localY < Region.Y; ++localY)
+				{
+					int x = region.getBaseX() + localX;
+					int y = region.getBaseY() + localY;
+					if ((getFlags(x, y, z) & BLOCKED) != 0)
+					{
+						continue;
+					}
+
+					int bits = 0;
+					if ((getFlags(x, y, z) & WALL_NORTH) == 0
+						&& (getFlags(x, y + 1, z) & (BLOCKED | WALL_SOUTH)) == 0)
+					{
+						bits |= 1 << CollisionMap.NORTH;
+					}
+					if ((getFlags(x, y, z) & WALL_EAST) == 0
+						&& (getFlags(x + 1, y, z) & (BLOCKED | WALL_WEST)) == 0)
+					{
+						bits |= 1 << CollisionMap.EAST;
+					}
+					if ((getFlags(x + 1, y + 1, z) & (BLOCKED | WALL_SOUTH | WALL_SOUTH_WEST | WALL_WEST)) == 0
+						&& (getFlags(x + 1, y, z) & (BLOCKED | WALL_WEST)) == 0
+						&& (getFlags(x, y + 1, z) & (BLOCKED | WALL_SOUTH)) == 0)
+					{
+						bits |= 1 << CollisionMap.NORTH_EAST;
+					}
+					if ((getFlags(x + 1, y - 1, z) & (BLOCKED | WALL_NORTH | WALL_NORTH_WEST | WALL_WEST)) == 0
+						&& (getFlags(x + 1, y, z) & (BLOCKED | WALL_WEST)) == 0
+						&& (getFlags(x, y - 1, z) & (BLOCKED | WALL_NORTH)) == 0)
+					{
+						bits |= 1 << CollisionMap.SOUTH_EAST;
+					}
+
+					int bit = MapDefinition.index(z, localX, localY) << 2;
+					page[bit >>> 6] |= (long) bits << bit;
+				}
+			}
+		}
+		return page;
+	}
+
+	@FunctionalInterface
+	private interface FlagSink
+	{
+		void add(int x, int y, int z, int flag);
+	}
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.collision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.cache.region.Position;
+
+/**
+ * An A* pathfinder over a {@link CollisionMap}. Moves are made in 8 directions at equal cost, as
+ * the player moves. The search is limited to a square window centered between the start and end
+ * tiles. The node state and open set are kept in arrays which are reused between searches, so a
+ * search does not allocate per node. A pathfinder is not thread safe, so use one per thread.
+ */
+public class Pathfinder
+{
+	/**
+	 * The default width and height of the search window
+	 */
+	public static final int DEFAULT_SIZE = 512;
+
+	private static final int[] DX = {0, 1, 0, -1, 1, 1, -1, -1};
+	private static final int[] DY = {1, 0, -1, 0, 1, -1, -1, 1};
+
+	private final CollisionMap map;
+	private final int size;
+
+	// node state, indexed by the position of the node in the window
+	private final int[] seen;
+	private final int[] closed;
+	private final int[] cost;
+	private final int[] parent;
+	private int generation;
+
+	// the open set, a binary heap of nodes ordered by estimated path length and then by remaining distance
+	private int[] heapNodes = new int[256];
+	private long[] heapKeys = new long[256];
+	private int heapSize;
+
+	public Pathfinder(CollisionMap map)
+	{
+		this(map, DEFAULT_SIZE);
+	}
+
+	/**
+	 * @param size the width and height of the search window. The pathfinder holds four ints per tile of the window.
+	 */
+	public Pathfinder(CollisionMap map, int size)
+	{
+		this.map = map;
+		this.size = size;
+		seen = new int[size * size];
+		closed = new int[size * size];
+		cost = new int[size * size];
+		parent = new int[size * size];
+	}
+
+	/**
+	 * Find a shortest path between two tiles on the same plane
+	 *
+	 * @return the tiles of the path after the start, up to and including the end, or null if there is no path
+	 * @throws IllegalArgumentException if the tiles are on different planes or are too far apart
+	 */
+	public List<Position> findPath(Position start, Position end)
+	{
+		if (start.getZ() != end.getZ())
+		{
+			throw new IllegalArgumentException("start and end are on different planes");
+		}
+		if (start.equals(end))
+		{
+			return Collections.emptyList();
+		}
+
+		if (Math.abs(start.getX() - end.getX()) >= size || Math.abs(start.getY() - end.getY()) >= size)
+		{
+			throw new IllegalArgumentException("start and end are too far apart");
+		}
+
+		final int z = start.getZ();
+		final int width = size;
+		final int height = size;
+		final int minX = Math.floorDiv(start.getX() + end.getX() - size + 1, 2);
+		final int minY = Math.floorDiv(start.getY() + end.getY() - size + 1, 2);
+
+		reset();
+
+		final int endX = end.getX();
+		final int endY = end.getY();
+		final int startNode = (start.getY() - minY) * width + start.getX() - minX;
+		final int endNode = (endY - minY) * width + endX - minX;
+
+		seen[startNode] = generation;
+		cost[startNode] = 0;
+		parent[startNode] = -1;
+		push(startNode, 0, distance(start.getX(), start.getY(), endX, endY));
+
+		while (heapSize > 0)
+		{
+			int node = pop();
+			if (closed[node] == generation)
+			{
+				continue;
+			}
+			closed[node] = generation;
+
+			if (node == endNode)
+			{
+				return path(node, minX, minY, width, z);
+			}
+
+			int x = minX + node % width;
+			int y = minY + node / width;
+			int nextCost = cost[node] + 1;
+			for (int d = 0; d < DX.length; ++d)
+			{
+				int nx = x + DX[d];
+				int ny = y + DY[d];
+				if (nx < minX || ny < minY || nx >= minX + width || ny >= minY + height)
+				{
+					continue;
+				}
+
+				int next = (ny - minY) * width + nx - minX;
+				if (closed[next] == generation || seen[next] == generation && cost[next] <= nextCost)
+				{
+					continue;
+				}
+
+				if (!map.canMove(x, y, z, DX[d], DY[d]))
+				{
+					continue;
+				}
+
+				seen[next] = generation;
+				cost[next] = nextCost;
+				parent[next] = node;
+				push(next, nextCost, distance(nx, ny, endX, endY));
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Test if there is a path between two tiles on the same plane
+	 */
+	public boolean isReachable(Position start, Position end)
+	{
+		return findPath(start, end) != null;
+	}
+
+	private static int distance(int x1, int y1, int x2, int y2)
+	{
+		return Math.max(Math.abs(x1 - x2), Math.abs(y1 - y2));
+	}
+
+	private void reset()
+	{
+		if (++generation == 0)
+		{
+			Arrays.fill(seen, 0);
+			Arrays.fill(closed, 0);
+			generation = 1;
+		}
+		heapSize = 0;
+	}
+
+	private List<Position> path(int node, int minX, int minY, int width, int z)
+	{
+		int length = 0;
+		for (int n = node; parent[n] != -1; n = parent[n])
+		{
+			++length;
+		}
+
+		Position[] path = new Position[length];
+		for (int n = node, i = length - 1; i >= 0; n = parent[n], --i)
+		{
+			path[i] = new Position(minX + n % width, minY + n / width, z);
+		}
+		return new ArrayList<>(Arrays.asList(path));
+	}
+
+	private void push(int node, int cost, int remaining)
+	{
+		if (heapSize == heapNodes.length)
+		{
+			heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+			heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+		}
+
+		long key = (long) (cost + remaining) << 32 | remaining;
+		int i = heapSize++;
+		while (i > 0)
+		{
+			int p = (i - 1) >>> 1;
+			if (heapKeys[p] <= key)
+			{
+				break;
+			}
+			heapNodes[i] = heapNodes[p];
+			heapKeys[i] = heapKeys[p];
+			i = p;
+		}
+		heapNodes[i] = node;
+		heapKeys[i] = key;
+	}
+
+	private int pop()
+	{
+		int top = heapNodes[0];
+		int node = heapNodes[--heapSize];
+		long key = heapKeys[heapSize];
+		int i = 0;
+		for (;;)
+		{
+			int child = i * 2 + 1;
+			if (child >= heapSize)
+			{
+				break;
+			}
+			if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child])
+			{
+				++child;
+			}
+			if (key <= heapKeys[child])
+			{
+				break;
+			}
+			heapNodes[i] = heapNodes[child];
+			heapKeys[i] = heapKeys[child];
+			i = child;
+		}
+		heapNodes[i] = node;
+		heapKeys[i] = key;
+		return top;
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.db;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import net.runelite.cache.util.ScriptVarType;
+
+/**
+ * A single column of a {@link DBTable}. A column holds zero or more fields per row, and each field is
+ * a tuple of one or more values. Values are stored per tuple slot in flat int arrays, with string
+ * values stored as ids into a string pool which is shared by the column.
+ */
+public class DBColumn
+{
+	@Getter
+	private final int columnId;
+	@Getter
+	private final ScriptVarType[] types;
+	/**
+	 * the fields of row r are offsets[r] until offsets[r + 1]
+	 */
+	final int[] offsets;
+	/**
+	 * values[tuple][field]
+	 */
+	final int[][] values;
+	private final String[] strings;
+	private final Map<String, Integer> stringIds;
+
+	DBColumn(int columnId, ScriptVarType[] types, Object[][] rowValues)
+	{
+		this.columnId = columnId;
+		this.types = types;
+
+		final int rows = rowValues.length;
+		final int tupleSize = types.length;
+		offsets = new int[rows + 1];
+		for (int row = 0; row < rows; ++row)
+		{
+			Object[] v = rowValues[row];
+			offsets[row + 1] = offsets[row] + (v == null ? 0 : v.length / tupleSize);
+		}
+
+		values = new int[tupleSize][offsets[rows]];
+		List<String> pool = new ArrayList<>();
+		stringIds = new HashMap<>();
+		for (int row = 0; row < rows; ++row)
+		{
+			Object[] v = rowValues[row];
+			for (int field = offsets[row], i = 0; field < offsets[row + 1]; ++field)
+			{
+				for (int tuple = 0; tuple < tupleSize; ++tuple, ++i)
+				{
+					Object value = v[i];
+					if (types[tuple] == ScriptVarType.STRING)
+					{
+						values[tuple][field] = stringIds.computeIfAbsent((String) value, s ->
+						{
+							pool.add(s);
+							return pool.size() - 1;
+						});
+					}
+					else
+					{
+						values[tuple][field] = (Integer) value;
+					}
+				}
+			}
+		}
+		strings = pool.toArray(new String[0]);
+	}
+
+	public int getTupleSize()
+	{
+		return types.length;
+	}
+
+	public boolean isString(int tuple)
+	{
+		return types[tuple] == ScriptVarType.STRING;
+	}
+
+	/**
+	 * Get the number of fields the row has in this column
+	 */
+	public int getFieldCount(int row)
+	{
+		return offsets[row + 1] - offsets[row];
+	}
+
+	public int getInt(int row, int field, int tuple)
+	{
+		checkType(tuple, false);
+		return values[tuple][fieldIndex(row, field)];
+	}
+
+	public String getString(int row, int field, int tuple)
+	{
+		checkType(tuple, true);
+		return strings[values[tuple][fieldIndex(row, field)]];
+	}
+
+	/**
+	 * Get a value as either an {@link Integer} or a {@link String}, depending on the type of the tuple slot
+	 */
+	public Object getValue(int row, int field, int tuple)
+	{
+		int value = values[tuple][fieldIndex(row, field)];
+		return isString(tuple) ? strings[value] : (Object) value;
+	}
+
+	/**
+	 * Get the id of a string in the string pool of this column
+	 *
+	 * @return the id, or -1 if no row has the string in this column
+	 */
+	public int getStringId(String value)
+	{
+		Integer id = stringIds.get(value);
+		return id == null ? -1 : id;
+	}
+
+	void checkType(int tuple, boolean string)
+	{
+		if (tuple < 0 || tuple >= types.length)
+		{
+			throw new IllegalArgumentException("column " + columnId + " has no tuple slot " + tuple);
+		}
+		if (isString(tuple) != string)
+		{
+			throw new IllegalArgumentException("column " + columnId + " tuple slot " + tuple + " is " + types[tuple] + ", not " + (string ? "a string" : "an integer"));
+		}
+	}
+
+	private int fieldIndex(int row, int field)
+	{
+		int index = offsets[row] + field;
+		if (field < 0 || index >= offsets[row + 1])
+		{
+			throw new IndexOutOfBoundsException("row " + row + " has " + getFieldCount(row) + " fields in column " + columnId);
+		}
+		return index;
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.db;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import net.runelite.cache.util.BaseVarType;
+
+/**
+ * A secondary index over one tuple slot of a {@link DBColumn}, built from the index in the cache.
+ * Keys are held sorted in a primitive array, so that both equality and range lookups are a binary
+ * search. String keys are stored as ids into the string pool of the column.
+ */
+public class DBIndex
+{
+	private final long[] keys;
+	/**
+	 * the rows with keys[k] are rows[starts[k]] until rows[starts[k + 1]], in ascending order
+	 */
+	private final int[] starts;
+	private final int[] rows;
+
+	DBIndex(DBTable table, DBColumn column, BaseVarType type, Map<Object, List<Integer>> index)
+	{
+		TreeMap<Long, int[]> sorted = new TreeMap<>();
+		int count = 0;
+		for (Map.Entry<Object, List<Integer>> entry : index.entrySet())
+		{
+			long key;
+			switch (type)
+			{
+				case INTEGER:
+					key = (Integer) entry.getKey();
+					break;
+				case LONG:
+					key = (Long) entry.getKey();
+					break;
+				case STRING:
+					key = column.getStringId((String) entry.getKey());
+					if (key == -1)
+					{
+						continue;
+					}
+					break;
+				default:
+					continue;
+			}
+
+			int[] keyRows = entry.getValue().stream()
+				.mapToInt(table::indexOf)
+				.filter(row -> row >= 0)
+				.sorted()
+				.toArray();
+			sorted.put(key, keyRows);
+			count += keyRows.length;
+		}
+
+		keys = new long[sorted.size()];
+		starts = new int[keys.length + 1];
+		rows = new int[count];
+		int k = 0;
+		for (Map.Entry<Long, int[]> entry : sorted.entrySet())
+		{
+			int[] keyRows = entry.getValue();
+			keys[k] = entry.getKey();
+			System.arraycopy(keyRows, 0, rows, starts[k], keyRows.length);
+			starts[k + 1] = starts[k] + keyRows.length;
+			++k;
+		}
+	}
+
+	public int getKeyCount()
+	{
+		return keys.length;
+	}
+
+	/**
+	 * Find the rows with a key
+	 *
+	 * @return the rows, in ascending order
+	 */
+	public int[] find(long key)
+	{
+		int k = Arrays.binarySearch(keys, key);
+		if (k < 0)
+		{
+			return new int[0];
+		}
+		return Arrays.copyOfRange(rows, starts[k], starts[k + 1]);
+	}
+
+	/**
+	 * Mark the rows with a key between min and max, inclusive
+	 */
+	void mark(long min, long max, boolean[] marked)
+	{
+		int from = Arrays.binarySearch(keys, min);
+		if (from < 0)
+		{
+			from = -from - 1;
+		}
+		for (int k = from; k < keys.length && keys[k] <= max; ++k)
+		{
+			for (int i = starts[k]; i < starts[k + 1]; ++i)
+			{
+				marked[rows[i]] = true;
+			}
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.db;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * A query over the rows of a {@link DBTable}. Each condition narrows the selected rows. A row matches
+ * a condition on a column if any of its fields in the column match. Conditions use the index of the
+ * column where there is one, and otherwise scan the column.
+ */
+public class DBQuery
+{
+	private final DBTable table;
+	/**
+	 * the selected rows, in ascending order
+	 */
+	private int[] rows;
+
+	DBQuery(DBTable table)
+	{
+		this.table = table;
+		rows = new int[table.getRowCount()];
+		Arrays.setAll(rows, i -> i);
+	}
+
+	public DBQuery where(int columnId, int value)
+	{
+		return where(columnId, 0, value);
+	}
+
+	/**
+	 * Select the rows with a value in a tuple slot of a column
+	 */
+	public DBQuery where(int columnId, int tuple, int value)
+	{
+		DBColumn column = table.getColumn(columnId);
+		column.checkType(tuple, false);
+		return whereEquals(column, tuple, value);
+	}
+
+	public DBQuery where(int columnId, String value)
+	{
+		return where(columnId, 0, value);
+	}
+
+	/**
+	 * Select the rows with a string in a tuple slot of a column
+	 */
+	public DBQuery where(int columnId, int tuple, String value)
+	{
+		DBColumn column = table.getColumn(columnId);
+		column.checkType(tuple, true);
+		int stringId = column.getStringId(value);
+		if (stringId == -1)
+		{
+			rows = new int[0];
+			return this;
+		}
+		return whereEquals(column, tuple, stringId);
+	}
+
+	/**
+	 * Select the rows with a value between min and max, inclusive, in a tuple slot of a column
+	 */
+	public DBQuery whereBetween(int columnId, int tuple, int min, int max)
+	{
+		DBColumn column = table.getColumn(columnId);
+		column.checkType(tuple, false);
+
+		DBIndex index = table.getIndex(columnId, tuple);
+		if (index != null)
+		{
+			boolean[] marked = new boolean[table.getRowCount()];
+			index.mark(min, max, marked);
+			return retain(marked);
+		}
+
+		int[] values = column.values[tuple];
+		int[] offsets = column.offsets;
+		return retain(row ->
+		{
+			for (int field = offsets[row]; field < offsets[row + 1]; ++field)
+			{
+				if (values[field] >= min && values[field] <= max)
+				{
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+
+	private DBQuery whereEquals(DBColumn column, int tuple, int value)
+	{
+		DBIndex index = table.getIndex(column.getColumnId(), tuple);
+		if (index != null)
+		{
+			rows = intersect(rows, index.find(value));
+			return this;
+		}
+
+		int[] values = column.values[tuple];
+		int[] offsets = column.offsets;
+		return retain(row ->
+		{
+			for (int field = offsets[row]; field < offsets[row + 1]; ++field)
+			{
+				if (values[field] == value)
+				{
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+
+	private DBQuery retain(boolean[] marked)
+	{
+		return retain(row -> marked[row]);
+	}
+
+	private DBQuery retain(IntPredicate predicate)
+	{
+		rows = Arrays.stream(rows)
+			.filter(predicate)
+			.toArray();
+		return this;
+	}
+
+	private static int[] intersect(int[] a, int[] b)
+	{
+		int[] out = new int[Math.min(a.length, b.length)];
+		int n = 0;
+		for (int i = 0, j = 0; i < a.length && j < b.length; )
+		{
+			if (a[i] < b[j])
+			{
+				++i;
+			}
+			else if (a[i] > b[j])
+			{
+				++j;
+			}
+			else
+			{
+				out[n++] = a[i];
+				++i;
+				++j;
+			}
+		}
+		return Arrays.copyOf(out, n);
+	}
+
+	public int count()
+	{
+		return rows.length;
+	}
+
+	/**
+	 * Get the positions of the selected rows in the table, in ascending order
+	 */
+	public int[] rows()
+	{
+		return rows.clone();
+	}
+
+	/**
+	 * Get the ids of the selected rows, in ascending order
+	 */
+	public int[] rowIds()
+	{
+		return Arrays.stream(rows)
+			.map(table::getRowId)
+			.toArray();
+	}
+
+	/**
+	 * Project the first field of a column for each selected row. Rows without a field in
+	 * the column are given -1.
+	 */
+	public int[] ints(int columnId, int tuple)
+	{
+		DBColumn column = table.getColumn(columnId);
+		column.checkType(tuple, false);
+		int[] out = new int[rows.length];
+		for (int i = 0; i < rows.length; ++i)
+		{
+			out[i] = column.getFieldCount(rows[i]) > 0 ? column.getInt(rows[i], 0, tuple) : -1;
+		}
+		return out;
+	}
+
+	/**
+	 * Project the first field of a string column for each selected row. Rows without a field in
+	 * the column are given null.
+	 */
+	public String[] strings(int columnId, int tuple)
+	{
+		DBColumn column = table.getColumn(columnId);
+		column.checkType(tuple, true);
+		String[] out = new String[rows.length];
+		for (int i = 0; i < rows.length; ++i)
+		{
+			out[i] = column.getFieldCount(rows[i]) > 0 ? column.getString(rows[i], 0, tuple) : null;
+		}
+		return out;
+	}
+}
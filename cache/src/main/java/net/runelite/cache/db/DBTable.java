@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.db;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.IntFunction;
+import lombok.Getter;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.util.ScriptVarType;
+
+/**
+ * A columnar copy of a db table and its rows. Rows are addressed by their position in the table,
+ * which is in ascending order of row id.
+ */
+public class DBTable
+{
+	@Getter
+	private final int tableId;
+	private final int[] rowIds;
+	private final DBColumn[] columns;
+	/**
+	 * indexes[column][tuple]
+	 */
+	private final DBIndex[][] indexes;
+
+	private DBTable(int tableId, int[] rowIds, DBColumn[] columns)
+	{
+		this.tableId = tableId;
+		this.rowIds = rowIds;
+		this.columns = columns;
+		this.indexes = new DBIndex[columns.length][];
+	}
+
+	/**
+	 * Build the columnar table from the table definition and its rows
+	 *
+	 * @param table the table definition
+	 * @param rows the rows of the table
+	 * @param indexes looks up the index of a column by column id, returning null if the column is not indexed
+	 */
+	public static DBTable build(DBTableDefinition table, Collection<DBRowDefinition> rows, IntFunction<DBTableIndex> indexes)
+	{
+		DBRowDefinition[] sortedRows = rows.stream()
+			.sorted(Comparator.comparingInt(DBRowDefinition::getId))
+			.toArray(DBRowDefinition[]::new);
+		int[] rowIds = Arrays.stream(sortedRows)
+			.mapToInt(DBRowDefinition::getId)
+			.toArray();
+
+		ScriptVarType[][] types = table.getTypes() != null ? table.getTypes() : new ScriptVarType[0][];
+		Object[] defaults = table.getDefaultColumnValues();
+		DBColumn[] columns = new DBColumn[types.length];
+		for (int columnId = 0; columnId < types.length; ++columnId)
+		{
+			if (types[columnId] == null)
+			{
+				continue;
+			}
+
+			Object[] columnDefault = defaults != null ? (Object[]) defaults[columnId] : null;
+			Object[][] rowValues = new Object[sortedRows.length][];
+			for (int row = 0; row < sortedRows.length; ++row)
+			{
+				Object[][] values = sortedRows[row].getColumnValues();
+				Object[] value = values != null && columnId < values.length ? values[columnId] : null;
+				rowValues[row] = value != null ? value : columnDefault;
+			}
+
+			columns[columnId] = new DBColumn(columnId, types[columnId], rowValues);
+		}
+
+		DBTable dbTable = new DBTable(table.getId(), rowIds, columns);
+		for (DBColumn column : columns)
+		{
+			if (column == null)
+			{
+				continue;
+			}
+
+			DBTableIndex index = indexes.apply(column.getColumnId());
+			if (index == null || index.getTupleIndexes() == null)
+			{
+				continue;
+			}
+
+			DBIndex[] tupleIndexes = new DBIndex[column.getTupleSize()];
+			for (int tuple = 0; tuple < tupleIndexes.length && tuple < index.getTupleIndexes().size(); ++tuple)
+			{
+				tupleIndexes[tuple] = new DBIndex(dbTable, column, index.getTupleTypes()[tuple], index.getTupleIndexes().get(tuple));
+			}
+			dbTable.indexes[column.getColumnId()] = tupleIndexes;
+		}
+		return dbTable;
+	}
+
+	public int getRowCount()
+	{
+		return rowIds.length;
+	}
+
+	public int getRowId(int row)
+	{
+		return rowIds[row];
+	}
+
+	/**
+	 * Get the position of a row in the table
+	 *
+	 * @return the position, or -1 if the row is not in the table
+	 */
+	public int indexOf(int rowId)
+	{
+		int row = Arrays.binarySearch(rowIds, rowId);
+		return row < 0 ? -1 : row;
+	}
+
+	public int getColumnCount()
+	{
+		return columns.length;
+	}
+
+	/**
+	 * Get a column of the table
+	 *
+	 * @throws IllegalArgumentException if the table has no such column
+	 */
+	public DBColumn getColumn(int columnId)
+	{
+		DBColumn column = columnId >= 0 && columnId < columns.length ? columns[columnId] : null;
+		if (column == null)
+		{
+			throw new IllegalArgumentException("table " + tableId + " has no column " + columnId);
+		}
+		return column;
+	}
+
+	/**
+	 * Get the index of a tuple slot of a column
+	 *
+	 * @return the index, or null if the column is not indexed
+	 */
+	public DBIndex getIndex(int columnId, int tuple)
+	{
+		DBIndex[] tupleIndexes = columnId >= 0 && columnId < indexes.length ? indexes[columnId] : null;
+		return tupleIndexes != null && tuple >= 0 && tuple < tupleIndexes.length ? tupleIndexes[tuple] : null;
+	}
+
+	/**
+	 * Start a query over all of the rows of the table
+	 */
+	public DBQuery query()
+	{
+		return new DBQuery(this);
+	}
+}
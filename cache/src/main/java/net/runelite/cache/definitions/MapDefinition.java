@@ -24,28 +24,104 @@
  */
 package net.runelite.cache.definitions;
 
+import java.util.Arrays;
 import lombok.Data;
 
+/**
+ * The terrain of a region. Each field of the tiles is stored in its own array, indexed by
+ * {@link #index(int, int, int)}.
+ */
 @Data
 public class MapDefinition
 {
 	public static final int X = 64;
 	public static final int Y = 64;
 	public static final int Z = 4;
+	public static final int TILES = Z * X * Y;
+
+	/**
+	 * The height value of tiles which have no height set
+	 */
+	public static final short NO_HEIGHT = -1;
 
-	@Data
-	public static class Tile
+	/**
+	 * A view of a single tile of the map
+	 */
+	public class Tile
 	{
-		public Integer height;
-		public int attrOpcode;
-		public byte settings;
-		public short overlayId;
-		public byte overlayPath;
-		public byte overlayRotation;
-		public short underlayId;
+		private final int index;
+
+		private Tile(int index)
+		{
+			this.index = index;
+		}
+
+		public Integer getHeight()
+		{
+			return heights[index] == NO_HEIGHT ? null : (int) heights[index];
+		}
+
+		public int getAttrOpcode()
+		{
+			return attrOpcodes[index];
+		}
+
+		public byte getSettings()
+		{
+			return settings[index];
+		}
+
+		public short getOverlayId()
+		{
+			return overlayIds[index];
+		}
+
+		public byte getOverlayPath()
+		{
+			return overlayPaths[index];
+		}
+
+		public byte getOverlayRotation()
+		{
+			return overlayRotations[index];
+		}
+
+		public short getUnderlayId()
+		{
+			return underlayIds[index];
+		}
 	}
 
 	private int regionX;
 	private int regionY;
-	private Tile[][][] tiles = new Tile[Z][X][Y];
+	private short[] heights = new short[TILES];
+	private byte[] attrOpcodes = new byte[TILES];
+	private byte[] settings = new byte[TILES];
+	private short[] overlayIds = new short[TILES];
+	private byte[] overlayPaths = new byte[TILES];
+	private byte[] overlayRotations = new byte[TILES];
+	private short[] underlayIds = new short[TILES];
+
+	public MapDefinition()
+	{
+		Arrays.fill(heights, NO_HEIGHT);
+	}
+
+	/**
+	 * @throws IndexOutOfBoundsException if the tile is outside of the region, as its index would
+	 * otherwise alias another tile
+	 */
+	public static int index(int z, int x, int y)
+	{
+		if (z < 0 || z >= Z || x < 0 || x >= X || y < 0 || y >= Y)
+		{
+			throw new IndexOutOfBoundsException("tile " + z + ", " + x + ", " + y + " is outside of the region");
+		}
+		return z << 12 | x << 6 | y;
+	}
+
+	public Tile getTile(int z, int x, int y)
+	{
+		return new Tile(index(z, x, y));
+	}
 }
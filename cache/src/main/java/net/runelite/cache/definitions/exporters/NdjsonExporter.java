@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.gson.Gson;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+import lombok.Value;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Exports all of the definitions of a config type to a single NDJSON file, with one compact JSON
+ * object per line in ascending id order. Definitions are decoded and serialized in parallel, and
+ * written in order through one buffered writer.
+ * <p>
+ * The CRC of the data of each definition is written to a manifest next to the output. When
+ * exporting changes, the previous manifest is read, and the definitions whose data has a different
+ * CRC or which are new are also written to a separate changes file, followed by a tombstone of the
+ * form <code>{"id":1,"removed":true}</code> for each id which was removed. The full export is
+ * always written.
+ */
+public class NdjsonExporter
+{
+	private static final Gson GSON = new Gson();
+
+	@Value
+	private static class Line
+	{
+		String json;
+		boolean changed;
+	}
+
+	/**
+	 * Export the definitions of a config archive
+	 *
+	 * @param loader decodes a definition from its id and data
+	 * @param out the file to write
+	 * @param changes whether to also write the definitions which changed since the previous export to out to {@link #changesFile(File)}
+	 * @return the number of definitions written to out, or to the changes file when exporting changes
+	 */
+	public static <T> int export(Store store, ConfigType type, BiFunction<Integer, byte[], T> loader, File out, boolean changes) throws IOException
+	{
+		Archive archive = store.getIndex(IndexType.CONFIGS).getArchive(type.getId());
+		List<FSFile> files = store.loadArchiveFiles(archive).getFiles();
+		return export(files, loader, out, changes);
+	}
+
+	public static <T> int export(List<FSFile> files, BiFunction<Integer, byte[], T> loader, File out, boolean changes) throws IOException
+	{
+		List<FSFile> sorted = new ArrayList<>(files);
+		sorted.sort(Comparator.comparingInt(FSFile::getFileId));
+
+		File manifest = manifestFile(out);
+		Map<Integer, Integer> previous = changes && manifest.exists() ? readManifest(manifest) : new HashMap<>();
+		int[] crcs = new int[sorted.size()];
+		int[] written = new int[2];
+
+		try (BufferedWriter writer = Files.newBufferedWriter(out.toPath(), StandardCharsets.UTF_8);
+			BufferedWriter changesWriter = changes ? Files.newBufferedWriter(changesFile(out).toPath(), StandardCharsets.UTF_8) : null)
+		{
+			IntStream.range(0, sorted.size())
+				.parallel()
+				.mapToObj(i ->
+				{
+					FSFile file = sorted.get(i);
+					CRC32 crc32 = new CRC32();
+					crc32.update(file.getContents());
+					int crc = crcs[i] = (int) crc32.getValue();
+
+					Integer previousCrc = previous.get(file.getFileId());
+					String json = GSON.toJson(loader.apply(file.getFileId(), file.getContents()));
+					return new Line(json, previousCrc == null || previousCrc != crc);
+				})
+				.forEachOrdered(line ->
+				{
+					try
+					{
+						writer.write(line.getJson());
+						writer.write('\n');
+						++written[0];
+
+						if (changesWriter != null && line.isChanged())
+						{
+							changesWriter.write(line.getJson());
+							changesWriter.write('\n');
+							++written[1];
+						}
+					}
+					catch (IOException ex)
+					{
+						throw new UncheckedIOException(ex);
+					}
+				});
+
+			if (changesWriter != null)
+			{
+				for (FSFile file : sorted)
+				{
+					previous.remove(file.getFileId());
+				}
+
+				int[] removed = previous.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+				for (int id : removed)
+				{
+					changesWriter.write("{\"id\":" + id + ",\"removed\":true}\n");
+					++written[1];
+				}
+			}
+		}
+		catch (UncheckedIOException ex)
+		{
+			throw ex.getCause();
+		}
+
+		try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(manifest))))
+		{
+			for (int i = 0; i < sorted.size(); ++i)
+			{
+				dos.writeInt(sorted.get(i).getFileId());
+				dos.writeInt(crcs[i]);
+			}
+		}
+
+		return changes ? written[1] : written[0];
+	}
+
+	/**
+	 * Get the file the changes since the previous export are written to, which for
+	 * <code>items.ndjson</code> is <code>items.changed.ndjson</code>
+	 */
+	public static File changesFile(File out)
+	{
+		String name = out.getName();
+		if (name.endsWith(".ndjson"))
+		{
+			name = name.substring(0, name.length() - ".ndjson".length());
+		}
+		return new File(out.getParentFile(), name + ".changed.ndjson");
+	}
+
+	/**
+	 * Get the file the manifest for an export is written to
+	 */
+	public static File manifestFile(File out)
+	{
+		return new File(out.getPath() + ".crc");
+	}
+
+	private static Map<Integer, Integer> readManifest(File manifest) throws IOException
+	{
+		Map<Integer, Integer> crcs = new HashMap<>();
+		try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(manifest))))
+		{
+			for (;;)
+			{
+				int id;
+				try
+				{
+					id = dis.readInt();
+				}
+				catch (EOFException ex)
+				{
+					break;
+				}
+				crcs.put(id, dis.readInt());
+			}
+		}
+		return crcs;
+	}
+}
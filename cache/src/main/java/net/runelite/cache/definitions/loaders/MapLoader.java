@@ -25,11 +25,7 @@
 package net.runelite.cache.definitions.loaders;
 
 import net.runelite.cache.definitions.MapDefinition;
-import net.runelite.cache.definitions.MapDefinition.Tile;
 import net.runelite.cache.io.InputStream;
-import static net.runelite.cache.region.Region.X;
-import static net.runelite.cache.region.Region.Y;
-import static net.runelite.cache.region.Region.Z;
 
 public class MapLoader
 {
@@ -44,46 +40,46 @@ public class MapLoader
 
 	private void loadTerrain(MapDefinition map, byte[] buf)
 	{
-		Tile[][][] tiles = map.getTiles();
+		short[] heights = map.getHeights();
+		byte[] attrOpcodes = map.getAttrOpcodes();
+		byte[] settings = map.getSettings();
+		short[] overlayIds = map.getOverlayIds();
+		byte[] overlayPaths = map.getOverlayPaths();
+		byte[] overlayRotations = map.getOverlayRotations();
+		short[] underlayIds = map.getUnderlayIds();
 
 		InputStream in = new InputStream(buf);
 
-		for (int z = 0; z < Z; z++)
+		// tiles are stored in z, x, y order, which is the order of MapDefinition.index
+		for (int i = 0; i < MapDefinition.TILES; i++)
 		{
-			for (int x = 0; x < X; x++)
+			while (true)
 			{
-				for (int y = 0; y < Y; y++)
+				int attribute = in.readUnsignedShort();
+				if (attribute == 0)
 				{
-					Tile tile = tiles[z][x][y] = new Tile();
-					while (true)
-					{
-						int attribute = in.readUnsignedShort();
-						if (attribute == 0)
-						{
-							break;
-						}
-						else if (attribute == 1)
-						{
-							int height = in.readUnsignedByte();
-							tile.height = height;
-							break;
-						}
-						else if (attribute <= 49)
-						{
-							tile.attrOpcode = attribute;
-							tile.overlayId = in.readShort();
-							tile.overlayPath = (byte) ((attribute - 2) / 4);
-							tile.overlayRotation = (byte) (attribute - 2 & 3);
-						}
-						else if (attribute <= 81)
-						{
-							tile.settings = (byte) (attribute - 49);
-						}
-						else
-						{
-							tile.underlayId = (short) (attribute - 81);
-						}
-					}
+					break;
+				}
+				else if (attribute == 1)
+				{
+					int height = in.readUnsignedByte();
+					heights[i] = (short) height;
+					break;
+				}
+				else if (attribute <= 49)
+				{
+					attrOpcodes[i] = (byte) attribute;
+					overlayIds[i] = in.readShort();
+					overlayPaths[i] = (byte) ((attribute - 2) / 4);
+					overlayRotations[i] = (byte) (attribute - 2 & 3);
+				}
+				else if (attribute <= 81)
+				{
+					settings[i] = (byte) (attribute - 49);
+				}
+				else
+				{
+					underlayIds[i] = (short) (attribute - 81);
 				}
 			}
 		}
@@ -144,7 +144,14 @@ public class Archive
 	public ArchiveFiles getFiles(byte[] data, int[] keys) throws IOException
 	{
 		byte[] decompressedData = decompress(data, keys);
+		return getDecompressedFiles(decompressedData);
+	}
 
+	/**
+	 * Split already decompressed archive data into its files
+	 */
+	public ArchiveFiles getDecompressedFiles(byte[] decompressedData)
+	{
 		ArchiveFiles files = new ArchiveFiles();
 		for (FileData fileEntry : fileData)
 		{
@@ -24,12 +24,23 @@
  */
 package net.runelite.cache.fs;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import lombok.Value;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
 import org.slf4j.Logger;
@@ -41,6 +52,15 @@ public final class Store implements Closeable
 
 	private final Storage storage;
 	private final List<Index> indexes = new ArrayList<>();
+	private volatile Cache<ArchiveKey, byte[]> archiveCache;
+
+	@Value
+	private static class ArchiveKey
+	{
+		int index;
+		int archive;
+		int crc;
+	}
 
 	public Store(File folder) throws IOException
 	{
@@ -146,4 +166,122 @@ public final class Store implements Closeable
 		}
 		return null;
 	}
+
+	/**
+	 * Enable caching of decompressed archive data. Archives loaded through {@link #loadArchiveData(Archive)}
+	 * and {@link #loadArchiveFiles(Archive)} are then kept until the total size of the cached data
+	 * exceeds maxBytes, after which the least recently used archives are evicted.
+	 */
+	public void enableArchiveCache(long maxBytes)
+	{
+		archiveCache = CacheBuilder.newBuilder()
+			.maximumWeight(maxBytes)
+			.<ArchiveKey, byte[]>weigher((k, v) -> v.length)
+			.recordStats()
+			.build();
+	}
+
+	public void disableArchiveCache()
+	{
+		archiveCache = null;
+	}
+
+	public boolean isArchiveCacheEnabled()
+	{
+		return archiveCache != null;
+	}
+
+	/**
+	 * Get the hit and eviction statistics of the archive cache
+	 *
+	 * @return the statistics, or null if the archive cache is not enabled
+	 */
+	public CacheStats getArchiveCacheStats()
+	{
+		Cache<ArchiveKey, byte[]> cache = archiveCache;
+		return cache != null ? cache.stats() : null;
+	}
+
+	/**
+	 * Load and decompress the data of an archive. If the archive cache is enabled, the data is
+	 * shared with other callers, so it must not be modified.
+	 *
+	 * @return the decompressed data, or null if the archive has no data
+	 */
+	public byte[] loadArchiveData(Archive archive) throws IOException
+	{
+		Cache<ArchiveKey, byte[]> cache = archiveCache;
+		if (cache == null)
+		{
+			return archive.decompress(storage.loadArchive(archive));
+		}
+
+		ArchiveKey key = new ArchiveKey(archive.getIndex().getId(), archive.getArchiveId(), archive.getCrc());
+		byte[] data = cache.getIfPresent(key);
+		if (data != null)
+		{
+			return data;
+		}
+
+		try
+		{
+			// loads of the same archive are coalesced by the cache
+			return cache.get(key, () -> archive.decompress(storage.loadArchive(archive)));
+		}
+		catch (CacheLoader.InvalidCacheLoadException ex)
+		{
+			// the archive has no data
+			return null;
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+	}
+
+	/**
+	 * Load an archive and split it into its files, using the archive cache if it is enabled
+	 */
+	public ArchiveFiles loadArchiveFiles(Archive archive) throws IOException
+	{
+		byte[] data = loadArchiveData(archive);
+		return data != null ? archive.getDecompressedFiles(data) : null;
+	}
+
+	/**
+	 * Load and decompress archives into the archive cache in the background, ahead of their use
+	 *
+	 * @return a future which completes when all of the archives have been loaded
+	 * @throws IllegalStateException if the archive cache is not enabled
+	 */
+	public CompletableFuture<Void> prefetch(Collection<Archive> archives, Executor executor)
+	{
+		if (archiveCache == null)
+		{
+			throw new IllegalStateException("the archive cache is not enabled");
+		}
+
+		return CompletableFuture.allOf(archives.stream()
+			.map(archive -> CompletableFuture.runAsync(() ->
+			{
+				try
+				{
+					loadArchiveData(archive);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, executor))
+			.toArray(CompletableFuture[]::new));
+	}
+
+	public CompletableFuture<Void> prefetch(Collection<Archive> archives)
+	{
+		return prefetch(archives, ForkJoinPool.commonPool());
+	}
 }
@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.BitSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,10 +42,13 @@ public class DataFile implements Closeable
 	private static final int SECTOR_SIZE = 520;
 
 	private final RandomAccessFile dat;
+	private final FileChannel channel;
+	private final BitSet freeSectors = new BitSet();
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.channel = dat.getChannel();
 	}
 
 	@Override
@@ -52,9 +57,10 @@ public class DataFile implements Closeable
 		dat.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
 		dat.setLength(0L);
+		freeSectors.clear();
 	}
 
 	/**
@@ -169,80 +175,56 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
+	/**
+	 * Write an archive as a single contiguous sector chain. The chain is
+	 * assembled in memory and written with one positional write, into a
+	 * run of freed sectors if one is large enough, otherwise at the end
+	 * of the file.
+	 *
+	 * @param indexId index of the archive
+	 * @param archiveId archive id
+	 * @param compressedData archive contents
+	 * @return
+	 * @throws IOException
+	 */
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
-		int sector;
-		int startSector;
-
-		byte[] writeBuffer = new byte[SECTOR_SIZE];
-		ByteBuffer data = ByteBuffer.wrap(compressedData);
+		int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		int blockSize = SECTOR_SIZE - headerSize;
+		int sectors = (compressedData.length + blockSize - 1) / blockSize;
+		int startSector = allocate(sectors);
 
-		sector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
-		if (sector == 0)
-		{
-			sector = 1;
-		}
-		startSector = sector;
+		int length = sectors == 0 ? 0 : (sectors - 1) * SECTOR_SIZE + headerSize + compressedData.length - (sectors - 1) * blockSize;
+		ByteBuffer buffer = ByteBuffer.allocate(length);
 
-		for (int part = 0; data.hasRemaining(); ++part)
+		for (int part = 0; part < sectors; ++part)
 		{
-			int nextSector = sector + 1; // we always just append sectors
-			int dataToWrite;
+			int nextSector = part + 1 < sectors ? startSector + part + 1 : 0;
+			int offset = part * blockSize;
+			int dataToWrite = Math.min(blockSize, compressedData.length - offset);
 
-			if (0xFFFF < archiveId)
+			buffer.position(part * SECTOR_SIZE);
+			if (headerSize == 10)
 			{
-				if (data.remaining() <= 510)
-				{
-					nextSector = 0;
-				}
-
-				writeBuffer[0] = (byte) (archiveId >> 24);
-				writeBuffer[1] = (byte) (archiveId >> 16);
-				writeBuffer[2] = (byte) (archiveId >> 8);
-				writeBuffer[3] = (byte) archiveId;
-				writeBuffer[4] = (byte) (part >> 8);
-				writeBuffer[5] = (byte) part;
-				writeBuffer[6] = (byte) (nextSector >> 16);
-				writeBuffer[7] = (byte) (nextSector >> 8);
-				writeBuffer[8] = (byte) nextSector;
-				writeBuffer[9] = (byte) indexId;
-				dat.seek(SECTOR_SIZE * sector);
-				dat.write(writeBuffer, 0, 10);
-
-				dataToWrite = data.remaining();
-				if (dataToWrite > 510)
-				{
-					dataToWrite = 510;
-				}
+				buffer.putInt(archiveId);
 			}
 			else
 			{
-				if (data.remaining() <= 512)
-				{
-					nextSector = 0;
-				}
-
-				writeBuffer[0] = (byte) (archiveId >> 8);
-				writeBuffer[1] = (byte) archiveId;
-				writeBuffer[2] = (byte) (part >> 8);
-				writeBuffer[3] = (byte) part;
-				writeBuffer[4] = (byte) (nextSector >> 16);
-				writeBuffer[5] = (byte) (nextSector >> 8);
-				writeBuffer[6] = (byte) nextSector;
-				writeBuffer[7] = (byte) indexId;
-				dat.seek(SECTOR_SIZE * sector);
-				dat.write(writeBuffer, 0, 8);
-
-				dataToWrite = data.remaining();
-				if (dataToWrite > 512)
-				{
-					dataToWrite = 512;
-				}
+				buffer.putShort((short) archiveId);
 			}
+			buffer.putShort((short) part);
+			buffer.put((byte) (nextSector >> 16));
+			buffer.put((byte) (nextSector >> 8));
+			buffer.put((byte) nextSector);
+			buffer.put((byte) indexId);
+			buffer.put(compressedData, offset, dataToWrite);
+		}
 
-			data.get(writeBuffer, 0, dataToWrite);
-			dat.write(writeBuffer, 0, dataToWrite);
-			sector = nextSector;
+		buffer.rewind();
+		long position = (long) SECTOR_SIZE * startSector;
+		while (buffer.hasRemaining())
+		{
+			position += channel.write(buffer, position);
 		}
 
 		DataFileWriteResult res = new DataFileWriteResult();
@@ -250,4 +232,76 @@ public class DataFile implements Closeable
 		res.compressedLength = compressedData.length;
 		return res;
 	}
+
+	/**
+	 * Mark the sectors of an archive which is no longer referenced as free, so
+	 * later writes can reuse them. The chain is only freed as far as its sector
+	 * headers match the given archive.
+	 *
+	 * @param indexId index of the archive
+	 * @param archiveId archive id
+	 * @param sector first sector of the archive
+	 * @param size size of the archive
+	 * @throws IOException
+	 */
+	public synchronized void free(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		int blockSize = SECTOR_SIZE - headerSize;
+		long sectorCount = channel.size() / SECTOR_SIZE;
+		ByteBuffer header = ByteBuffer.allocate(headerSize);
+
+		for (int part = 0, remaining = size; remaining > 0 && sector > 0 && sector < sectorCount; ++part, remaining -= blockSize)
+		{
+			header.clear();
+			if (channel.read(header, (long) SECTOR_SIZE * sector) != headerSize)
+			{
+				return;
+			}
+			header.flip();
+
+			int currentArchive = headerSize == 10 ? header.getInt() : header.getShort() & 0xFFFF;
+			int currentPart = header.getShort() & 0xFFFF;
+			int nextSector = ((header.get() & 0xFF) << 16) | ((header.get() & 0xFF) << 8) | (header.get() & 0xFF);
+			int currentIndex = header.get() & 0xFF;
+
+			if (currentArchive != archiveId || currentPart != part || currentIndex != indexId || freeSectors.get(sector))
+			{
+				logger.debug("not freeing sector {} of {}/{}, it belongs to {}/{}",
+					sector, indexId, archiveId, currentIndex, currentArchive);
+				return;
+			}
+
+			freeSectors.set(sector);
+			sector = nextSector;
+		}
+	}
+
+	/**
+	 * @return the number of freed sectors available for reuse
+	 */
+	public synchronized int getFreeSectors()
+	{
+		return freeSectors.cardinality();
+	}
+
+	private int allocate(int sectors) throws IOException
+	{
+		if (sectors > 0)
+		{
+			for (int start = freeSectors.nextSetBit(0); start != -1; start = freeSectors.nextSetBit(start))
+			{
+				int end = freeSectors.nextClearBit(start);
+				if (end - start >= sectors)
+				{
+					freeSectors.clear(start, start + sectors);
+					return start;
+				}
+				start = end;
+			}
+		}
+
+		int sector = (int) ((channel.size() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
+		return Math.max(sector, 1);
+	}
 }
@@ -27,6 +27,8 @@ package net.runelite.cache.fs.jagex;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import net.runelite.cache.fs.Archive;
@@ -45,6 +47,10 @@ public class DiskStorage implements Storage
 
 	private static final String MAIN_FILE_CACHE_DAT = "main_file_cache.dat2";
 	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
+	// the folders compact() writes the new files to, moves the old files to while swapping them, and moves the old files to once swapped
+	private static final String COMPACT_STAGE = "compact";
+	private static final String COMPACT_BACKUP = "compact.bak";
+	private static final String COMPACT_OLD = "compact.old";
 
 	private final File folder;
 
@@ -55,6 +61,7 @@ public class DiskStorage implements Storage
 	public DiskStorage(File folder) throws IOException
 	{
 		this.folder = folder;
+		recoverCompaction(folder);
 
 		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
 		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
@@ -214,10 +221,169 @@ public class DiskStorage implements Storage
 		IndexFile indexFile = getIndex(index);
 		assert indexFile.getIndexFileId() == index;
 
+		// the old sectors are only released once the index points at the new ones
+		IndexEntry old = indexFile.read(archive);
 		DataFileWriteResult res = data.write(index, archive, archiveData);
 		indexFile.write(new IndexEntry(indexFile, archive, res.sector, res.compressedLength));
 
+		if (old != null)
+		{
+			data.free(index, archive, old.getSector(), old.getLength());
+		}
+
 		logger.trace("Saved archive {}/{} at sector {}, compressed length {}",
 			index, archive, res.sector, res.compressedLength);
 	}
+
+	/**
+	 * Rewrite the data file of the cache in the given folder so that every
+	 * archive is stored contiguously, in index and then archive order, with
+	 * no unreferenced sectors. The cache must not be open while this runs.
+	 * <p>
+	 * The new files are written to a staging folder, and then swapped with
+	 * the old files, which are kept as a backup until every file has been
+	 * swapped. An interrupted swap is undone the next time the cache is opened.
+	 *
+	 * @param folder cache folder
+	 * @throws IOException if an archive can't be read, in which case the cache is left unchanged
+	 */
+	public static void compact(File folder) throws IOException
+	{
+		File datFile = new File(folder, MAIN_FILE_CACHE_DAT);
+		File stageFolder = new File(folder, COMPACT_STAGE);
+		List<String> files = new ArrayList<>();
+		long oldLength = datFile.length();
+
+		try (DiskStorage storage = new DiskStorage(folder))
+		{
+			if (!stageFolder.mkdir())
+			{
+				throw new IOException("unable to create " + stageFolder);
+			}
+
+			try (DataFile out = new DataFile(new File(stageFolder, MAIN_FILE_CACHE_DAT)))
+			{
+				out.clear();
+
+				// the reference tables are read first on load, so they go first
+				compactIndex(storage.data, storage.index255, out, stageFolder);
+				files.add(MAIN_FILE_CACHE_IDX + 255);
+
+				for (int i = 0; i < storage.index255.getIndexCount(); ++i)
+				{
+					compactIndex(storage.data, storage.getIndex(i), out, stageFolder);
+					files.add(MAIN_FILE_CACHE_IDX + i);
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			deleteFolder(stageFolder);
+			throw ex;
+		}
+		files.add(MAIN_FILE_CACHE_DAT);
+
+		File backupFolder = new File(folder, COMPACT_BACKUP);
+		try
+		{
+			if (!backupFolder.mkdir())
+			{
+				throw new IOException("unable to create " + backupFolder);
+			}
+
+			for (String name : files)
+			{
+				Files.move(new File(folder, name).toPath(), new File(backupFolder, name).toPath());
+			}
+			for (String name : files)
+			{
+				Files.move(new File(stageFolder, name).toPath(), new File(folder, name).toPath());
+			}
+
+			// the swap is complete once the backup is renamed, after which it is no longer restored
+			Files.move(backupFolder.toPath(), new File(folder, COMPACT_OLD).toPath());
+		}
+		catch (IOException ex)
+		{
+			recoverCompaction(folder);
+			throw ex;
+		}
+
+		deleteFolder(new File(folder, COMPACT_OLD));
+		deleteFolder(stageFolder);
+
+		logger.info("Compacted {} from {} to {} bytes", datFile, oldLength, datFile.length());
+	}
+
+	private static void compactIndex(DataFile in, IndexFile indexFile, DataFile out, File stageFolder) throws IOException
+	{
+		int indexId = indexFile.getIndexFileId();
+		try (IndexFile outIndex = new IndexFile(indexId, new File(stageFolder, MAIN_FILE_CACHE_IDX + indexId)))
+		{
+			outIndex.clear();
+
+			for (int id = 0; id < indexFile.getIndexCount(); ++id)
+			{
+				IndexEntry entry = indexFile.read(id);
+				if (entry == null)
+				{
+					// keep the index file the same length
+					outIndex.write(new IndexEntry(outIndex, id, 0, 0));
+					continue;
+				}
+
+				byte[] archiveData = in.read(indexId, id, entry.getSector(), entry.getLength());
+				if (archiveData == null)
+				{
+					throw new IOException("unable to read archive " + indexId + "/" + id + ", not compacting");
+				}
+
+				DataFileWriteResult res = out.write(indexId, id, archiveData);
+				outIndex.write(new IndexEntry(outIndex, id, res.sector, res.compressedLength));
+			}
+		}
+	}
+
+	/**
+	 * Undo a compaction which was interrupted while swapping the files of the cache, by restoring the
+	 * backup of the old files, and remove any files left over from it.
+	 */
+	private static void recoverCompaction(File folder) throws IOException
+	{
+		File backupFolder = new File(folder, COMPACT_BACKUP);
+		File[] backups = backupFolder.listFiles();
+		if (backups != null)
+		{
+			logger.warn("Restoring the cache files from an interrupted compaction");
+			for (File backup : backups)
+			{
+				Files.move(backup.toPath(), new File(folder, backup.getName()).toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			deleteFolder(backupFolder);
+		}
+
+		deleteFolder(new File(folder, COMPACT_STAGE));
+		deleteFolder(new File(folder, COMPACT_OLD));
+	}
+
+	private static void deleteFolder(File folder)
+	{
+		File[] files = folder.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			if (!file.delete())
+			{
+				logger.warn("unable to delete {}", file);
+			}
+		}
+		if (!folder.delete())
+		{
+			logger.warn("unable to delete {}", folder);
+		}
+	}
 }
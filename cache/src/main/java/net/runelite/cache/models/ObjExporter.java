@@ -28,7 +28,6 @@ import java.awt.Color;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import net.runelite.cache.TextureManager;
 import net.runelite.cache.definitions.ModelDefinition;
@@ -37,6 +36,20 @@ import net.runelite.cache.definitions.TextureDefinition;
 public class ObjExporter
 {
 	private static final double BRIGHTNESS = JagexColor.BRIGHTNESS_MAX;
+	private static final String NL = System.lineSeparator();
+
+	/**
+	 * Formatted byte / 255.0 values, used for colors and alpha
+	 */
+	private static final String[] UNIT_BYTES = new String[256];
+
+	static
+	{
+		for (int i = 0; i < UNIT_BYTES.length; ++i)
+		{
+			UNIT_BYTES[i] = Double.toString(i / 255.0);
+		}
+	}
 
 	private final TextureManager textureManager;
 	private final ModelDefinition model;
@@ -48,19 +61,35 @@ public class ObjExporter
 	}
 
 	public void export(PrintWriter objWriter, PrintWriter mtlWriter)
+	{
+		StringBuilder obj = new StringBuilder();
+		StringBuilder mtl = new StringBuilder();
+		export(obj, mtl);
+		objWriter.append(obj);
+		mtlWriter.append(mtl);
+	}
+
+	/**
+	 * Append the obj and mtl for the model to the given builders, so callers
+	 * exporting many models can reuse them.
+	 */
+	public void export(StringBuilder obj, StringBuilder mtl)
 	{
 		model.computeNormals();
-		model.computeTextureUVCoordinates();
+		if (model.faceTextureUCoordinates == null)
+		{
+			model.computeTextureUVCoordinates();
+		}
 
-		objWriter.println("mtllib " + model.id + ".mtl");
+		obj.append("mtllib ").append(model.id).append(".mtl").append(NL);
 
-		objWriter.println("o runescapemodel");
+		obj.append("o runescapemodel").append(NL);
 
 		for (int i = 0; i < model.vertexCount; ++i)
 		{
-			objWriter.println("v " + model.vertexX[i] + " "
-					+ model.vertexY[i] * -1 + " "
-					+ model.vertexZ[i] * -1);
+			obj.append("v ").append(model.vertexX[i]).append(' ')
+				.append(model.vertexY[i] * -1).append(' ')
+				.append(model.vertexZ[i] * -1).append(NL);
 		}
 
 		if (model.faceTextures != null)
@@ -70,15 +99,18 @@ public class ObjExporter
 
 			for (int i = 0; i < model.faceCount; ++i)
 			{
-				objWriter.println("vt " + u[i][0] + " " + v[i][0]);
-				objWriter.println("vt " + u[i][1] + " " + v[i][1]);
-				objWriter.println("vt " + u[i][2] + " " + v[i][2]);
+				// untextured faces have no coordinates, but still need their three entries
+				for (int j = 0; j < 3; ++j)
+				{
+					obj.append("vt ").append(u[i] == null ? 0f : u[i][j]).append(' ')
+						.append(v[i] == null ? 0f : v[i][j]).append(NL);
+				}
 			}
 		}
 
 		for (VertexNormal normal : model.vertexNormals)
 		{
-			objWriter.println("vn " + normal.x + " " + normal.y + " " + normal.z);
+			obj.append("vn ").append(normal.x).append(' ').append(normal.y).append(' ').append(normal.z).append(NL);
 		}
 
 		for (int i = 0; i < model.faceCount; ++i)
@@ -87,20 +119,19 @@ public class ObjExporter
 			int y = model.faceIndices2[i] + 1;
 			int z = model.faceIndices3[i] + 1;
 
-			objWriter.println("usemtl m" + i);
+			obj.append("usemtl m").append(i).append(NL);
 			if (model.faceTextures != null)
 			{
-				objWriter.println("f "
-						+ x + "/" + (i * 3 + 1) + " "
-						+ y + "/" + (i * 3 + 2) + " "
-						+ z + "/" + (i * 3 + 3));
-
+				obj.append("f ")
+					.append(x).append('/').append(i * 3 + 1).append(' ')
+					.append(y).append('/').append(i * 3 + 2).append(' ')
+					.append(z).append('/').append(i * 3 + 3).append(NL);
 			}
 			else
 			{
-				objWriter.println("f " + x + " " + y + " " + z);
+				obj.append("f ").append(x).append(' ').append(y).append(' ').append(z).append(NL);
 			}
-			objWriter.println("");
+			obj.append(NL);
 		}
 
 		// Write material
@@ -113,23 +144,22 @@ public class ObjExporter
 				textureId = model.faceTextures[i];
 			}
 
-			mtlWriter.println("newmtl m" + i);
+			mtl.append("newmtl m").append(i).append(NL);
 
 			if (textureId == -1)
 			{
 				int rgb = JagexColor.HSLtoRGB(model.faceColors[i], BRIGHTNESS);
-				double r = ((rgb >> 16) & 0xff) / 255.0;
-				double g = ((rgb >> 8) & 0xff) / 255.0;
-				double b = (rgb & 0xff) / 255.0;
 
-				mtlWriter.println("Kd " + r + " " + g + " " + b);
+				mtl.append("Kd ").append(UNIT_BYTES[(rgb >> 16) & 0xff]).append(' ')
+					.append(UNIT_BYTES[(rgb >> 8) & 0xff]).append(' ')
+					.append(UNIT_BYTES[rgb & 0xff]).append(NL);
 			}
 			else
 			{
 				TextureDefinition texture = textureManager.findTexture(textureId);
 				assert texture != null;
 
-				mtlWriter.println("map_Kd sprite/" + texture.getFileIds()[0] + "-0.png");
+				mtl.append("map_Kd sprite/").append(texture.getFileIds()[0]).append("-0.png").append(NL);
 			}
 
 			int alpha = 0;
@@ -141,7 +171,7 @@ public class ObjExporter
 
 			if (alpha != 0)
 			{
-				mtlWriter.println("d " + (alpha / 255.0));
+				mtl.append("d ").append(UNIT_BYTES[alpha]).append(NL);
 			}
 		}
 	}
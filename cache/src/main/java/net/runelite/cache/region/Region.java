@@ -28,7 +28,6 @@ import java.util.ArrayList;
 import java.util.List;
 import net.runelite.cache.definitions.LocationsDefinition;
 import net.runelite.cache.definitions.MapDefinition;
-import net.runelite.cache.definitions.MapDefinition.Tile;
 
 public class Region
 {
@@ -41,15 +40,20 @@ public class Region
 	private final int baseX;
 	private final int baseY;
 
-	private final int[][][] tileHeights = new int[Z][X][Y];
-	private final byte[][][] tileSettings = new byte[Z][X][Y];
-	private final short[][][] overlayIds = new short[Z][X][Y];
-	private final byte[][][] overlayPaths = new byte[Z][X][Y];
-	private final byte[][][] overlayRotations = new byte[Z][X][Y];
-	private final short[][][] underlayIds = new short[Z][X][Y];
+	// terrain, indexed by MapDefinition.index(z, x, y)
+	private final int[] tileHeights = new int[MapDefinition.TILES];
+	private final byte[] tileSettings = new byte[MapDefinition.TILES];
+	private final short[] overlayIds = new short[MapDefinition.TILES];
+	private final byte[] overlayPaths = new byte[MapDefinition.TILES];
+	private final byte[] overlayRotations = new byte[MapDefinition.TILES];
+	private final short[] underlayIds = new short[MapDefinition.TILES];
 
 	private final List<Location> locations = new ArrayList<>();
 
+	// bit z is set if plane z has any underlays or overlays, or any locations
+	private int terrainPlanes;
+	private int locationPlanes;
+
 	public Region(int id)
 	{
 		this.regionID = id;
@@ -66,29 +70,29 @@ public class Region
 
 	public void loadTerrain(MapDefinition map)
 	{
-		Tile[][][] tiles = map.getTiles();
+		short[] heights = map.getHeights();
 		for (int z = 0; z < Z; z++)
 		{
 			for (int x = 0; x < X; x++)
 			{
 				for (int y = 0; y < Y; y++)
 				{
-					Tile tile = tiles[z][x][y];
+					int i = MapDefinition.index(z, x, y);
+					int height = heights[i];
 
-					if (tile.height == null)
+					if (height == MapDefinition.NO_HEIGHT)
 					{
 						if (z == 0)
 						{
-							tileHeights[0][x][y] = -HeightCalc.calculate(baseX + x + 0xe3b7b, baseY + y + 0x87cce) * 8;
+							tileHeights[i] = -HeightCalc.calculate(baseX + x + 0xe3b7b, baseY + y + 0x87cce) * 8;
 						}
 						else
 						{
-							tileHeights[z][x][y] = tileHeights[z - 1][x][y] - 240;
+							tileHeights[i] = tileHeights[MapDefinition.index(z - 1, x, y)] - 240;
 						}
 					}
 					else
 					{
-						int height = tile.getHeight();
 						if (height == 1)
 						{
 							height = 0;
@@ -96,21 +100,31 @@ public class Region
 
 						if (z == 0)
 						{
-							tileHeights[0][x][y] = -height * 8;
+							tileHeights[i] = -height * 8;
 						}
 						else
 						{
-							tileHeights[z][x][y] = tileHeights[z - 1][x][y] - height * 8;
+							tileHeights[i] = tileHeights[MapDefinition.index(z - 1, x, y)] - height * 8;
 						}
 					}
+				}
+			}
+		}
 
-					overlayIds[z][x][y] = tile.getOverlayId();
-					overlayPaths[z][x][y] = tile.getOverlayPath();
-					overlayRotations[z][x][y] = tile.getOverlayRotation();
+		System.arraycopy(map.getSettings(), 0, tileSettings, 0, MapDefinition.TILES);
+		System.arraycopy(map.getOverlayIds(), 0, overlayIds, 0, MapDefinition.TILES);
+		System.arraycopy(map.getOverlayPaths(), 0, overlayPaths, 0, MapDefinition.TILES);
+		System.arraycopy(map.getOverlayRotations(), 0, overlayRotations, 0, MapDefinition.TILES);
+		System.arraycopy(map.getUnderlayIds(), 0, underlayIds, 0, MapDefinition.TILES);
 
-					tileSettings[z][x][y] = tile.getSettings();
-					underlayIds[z][x][y] = tile.getUnderlayId();
-				}
+		terrainPlanes = 0;
+		for (int i = 0; i < MapDefinition.TILES; ++i)
+		{
+			if (((overlayIds[i] | underlayIds[i]) & 0x7FFF) != 0)
+			{
+				// skip to the next plane
+				terrainPlanes |= 1 << (i >> 12);
+				i |= 0xFFF;
 			}
 		}
 	}
@@ -124,6 +138,7 @@ public class Region
 					getBaseY() + loc.getPosition().getY(),
 					loc.getPosition().getZ()));
 			locations.add(newLoc);
+			locationPlanes |= 1 << loc.getPosition().getZ();
 		}
 	}
 
@@ -144,32 +159,32 @@ public class Region
 
 	public int getTileHeight(int z, int x, int y)
 	{
-		return tileHeights[z][x][y];
+		return tileHeights[MapDefinition.index(z, x, y)];
 	}
 
 	public byte getTileSetting(int z, int x, int y)
 	{
-		return tileSettings[z][x][y];
+		return tileSettings[MapDefinition.index(z, x, y)];
 	}
 
 	public int getOverlayId(int z, int x, int y)
 	{
-		return overlayIds[z][x][y] & 0x7FFF;
+		return overlayIds[MapDefinition.index(z, x, y)] & 0x7FFF;
 	}
 
 	public byte getOverlayPath(int z, int x, int y)
 	{
-		return overlayPaths[z][x][y];
+		return overlayPaths[MapDefinition.index(z, x, y)];
 	}
 
 	public byte getOverlayRotation(int z, int x, int y)
 	{
-		return overlayRotations[z][x][y];
+		return overlayRotations[MapDefinition.index(z, x, y)];
 	}
 
 	public int getUnderlayId(int z, int x, int y)
 	{
-		return underlayIds[z][x][y] & 0x7FFF;
+		return underlayIds[MapDefinition.index(z, x, y)] & 0x7FFF;
 	}
 
 	public List<Location> getLocations()
@@ -177,6 +192,33 @@ public class Region
 		return locations;
 	}
 
+	/**
+	 * @return a mask with bit z set for each plane which has an underlay or overlay on any tile
+	 */
+	public int getTerrainPlanes()
+	{
+		return terrainPlanes;
+	}
+
+	/**
+	 * @return a mask with bit z set for each plane which has any locations
+	 */
+	public int getLocationPlanes()
+	{
+		return locationPlanes;
+	}
+
+	/**
+	 * Check whether the given planes have no underlays, overlays or locations, so have
+	 * nothing to render.
+	 *
+	 * @param planes a mask of planes
+	 */
+	public boolean isEmpty(int planes)
+	{
+		return ((terrainPlanes | locationPlanes) & planes) == 0;
+	}
+
 	public int getRegionX()
 	{
 		return baseX >> 6;
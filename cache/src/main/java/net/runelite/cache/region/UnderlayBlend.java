@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import net.runelite.cache.definitions.UnderlayDefinition;
+
+/**
+ * The blended underlay colours of one plane of the world. The hue, saturation and lightness of
+ * each tile's underlay are averaged over the tiles around it, as the client does when it builds
+ * a scene. The blend is computed once over the whole world, as separable running sums, one row
+ * of regions at a time in parallel.
+ */
+public class UnderlayBlend
+{
+	/**
+	 * the number of surrounding tiles for ground blending
+	 */
+	public static final int BLEND = 5;
+
+	/**
+	 * the blend of a tile without an underlay
+	 */
+	public static final int NONE = Integer.MIN_VALUE;
+
+	// the window around a tile is [-BLEND + 1, BLEND]
+	private static final int WINDOW = BLEND * 2;
+	private static final int FIELDS = 5; // hue, saturation, lightness, hue multiplier, count
+
+	private final Map<Integer, int[]> regions;
+
+	private UnderlayBlend(Map<Integer, int[]> regions)
+	{
+		this.regions = regions;
+	}
+
+	/**
+	 * @param regions the regions of the world
+	 * @param z the plane to blend
+	 * @param underlays underlay definitions, by id
+	 */
+	public static UnderlayBlend build(Collection<Region> regions, int z, IntFunction<UnderlayDefinition> underlays)
+	{
+		Map<Integer, int[]> blends = new HashMap<>();
+		if (regions.isEmpty())
+		{
+			return new UnderlayBlend(blends);
+		}
+
+		int minRx = Integer.MAX_VALUE, minRy = Integer.MAX_VALUE;
+		int maxRx = Integer.MIN_VALUE, maxRy = Integer.MIN_VALUE;
+		for (Region region : regions)
+		{
+			minRx = Math.min(minRx, region.getRegionX());
+			minRy = Math.min(minRy, region.getRegionY());
+			maxRx = Math.max(maxRx, region.getRegionX());
+			maxRy = Math.max(maxRy, region.getRegionY());
+		}
+
+		Region[][] grid = new Region[maxRx - minRx + 1][maxRy - minRy + 1];
+		for (Region region : regions)
+		{
+			grid[region.getRegionX() - minRx][region.getRegionY() - minRy] = region;
+			blends.put(region.getRegionID(), new int[Region.X * Region.Y]);
+		}
+
+		// underlay fields by underlay id + 1, as stored in the map
+		int[][] fields = new int[FIELDS][0x8000];
+		for (int id = 1; id < 0x8000; ++id)
+		{
+			UnderlayDefinition underlay = underlays.apply(id - 1);
+			if (underlay != null)
+			{
+				fields[0][id] = underlay.getHue();
+				fields[1][id] = underlay.getSaturation();
+				fields[2][id] = underlay.getLightness();
+				fields[3][id] = underlay.getHueMultiplier();
+				fields[4][id] = 1;
+			}
+		}
+
+		IntStream.range(0, grid[0].length)
+			.parallel()
+			.forEach(ry -> blendRow(grid, ry, z, fields, blends));
+
+		return new UnderlayBlend(blends);
+	}
+
+	private static void blendRow(Region[][] grid, int ry, int z, int[][] fields, Map<Integer, int[]> blends)
+	{
+		int width = grid.length * Region.X;
+		int rows = Region.Y + WINDOW - 1;
+		// the first row is BLEND - 1 tiles below the region row
+		int baseY = ry * Region.Y - (BLEND - 1);
+
+		boolean any = false;
+		for (Region[] column : grid)
+		{
+			any |= column[ry] != null;
+		}
+		if (!any)
+		{
+			return;
+		}
+
+		// horizontal pass: sums[field][row][x] is the sum over [x - BLEND + 1, x + BLEND] of the row
+		int[][][] sums = new int[FIELDS][rows][width];
+		int[] underlayIds = new int[width];
+		for (int row = 0; row < rows; ++row)
+		{
+			int y = baseY + row;
+			int gy = Math.floorDiv(y, Region.Y);
+			if (gy < 0 || gy >= grid[0].length)
+			{
+				continue;
+			}
+
+			for (int gx = 0; gx < grid.length; ++gx)
+			{
+				Region region = grid[gx][gy];
+				for (int x = 0; x < Region.X; ++x)
+				{
+					underlayIds[gx * Region.X + x] = region == null ? 0 : region.getUnderlayId(z, x, y & (Region.Y - 1));
+				}
+			}
+
+			for (int f = 0; f < FIELDS; ++f)
+			{
+				int[] field = fields[f];
+				int[] sum = sums[f][row];
+				int running = 0;
+				for (int x = 0; x < Math.min(BLEND, width); ++x)
+				{
+					running += field[underlayIds[x]];
+				}
+				for (int x = 0; x < width; ++x)
+				{
+					if (x + BLEND < width)
+					{
+						running += field[underlayIds[x + BLEND]];
+					}
+					if (x - BLEND >= 0)
+					{
+						running -= field[underlayIds[x - BLEND]];
+					}
+					sum[x] = running;
+				}
+			}
+		}
+
+		// vertical pass over each region in the row
+		int[] running = new int[FIELDS];
+		for (int gx = 0; gx < grid.length; ++gx)
+		{
+			Region region = grid[gx][ry];
+			if (region == null)
+			{
+				continue;
+			}
+
+			int[] blend = blends.get(region.getRegionID());
+			for (int x = 0; x < Region.X; ++x)
+			{
+				int wx = gx * Region.X + x;
+				for (int f = 0; f < FIELDS; ++f)
+				{
+					running[f] = 0;
+					for (int row = 0; row < WINDOW - 1; ++row)
+					{
+						running[f] += sums[f][row][wx];
+					}
+				}
+
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					for (int f = 0; f < FIELDS; ++f)
+					{
+						running[f] += sums[f][y + WINDOW - 1][wx];
+					}
+
+					if (region.getUnderlayId(z, x, y) > 0 && running[4] > 0)
+					{
+						int hue = running[0] * 256 / running[3];
+						int sat = running[1] / running[4];
+						int light = Math.max(0, Math.min(255, running[2] / running[4]));
+						blend[x << 6 | y] = hue << 16 | (sat & 0xFF) << 8 | light;
+					}
+					else
+					{
+						blend[x << 6 | y] = NONE;
+					}
+
+					for (int f = 0; f < FIELDS; ++f)
+					{
+						running[f] -= sums[f][y][wx];
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the blends of the tiles of the region, indexed by {@code x << 6 | y}, or null
+	 * if the region was not blended
+	 */
+	public int[] getRegion(Region region)
+	{
+		return regions.get(region.getRegionID());
+	}
+
+	public static int getHue(int blend)
+	{
+		return blend >> 16;
+	}
+
+	public static int getSaturation(int blend)
+	{
+		return blend >> 8 & 0xFF;
+	}
+
+	public static int getLightness(int blend)
+	{
+		return blend & 0xFF;
+	}
+}
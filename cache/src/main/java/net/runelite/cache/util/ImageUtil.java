@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+
+public class ImageUtil
+{
+	/**
+	 * Check whether every pixel of an image is the same color. Images backed by an
+	 * int array, including subimages of them, are checked on the array directly.
+	 */
+	public static boolean isUniform(BufferedImage image)
+	{
+		WritableRaster raster = image.getRaster();
+		if (raster.getDataBuffer() instanceof DataBufferInt
+			&& raster.getSampleModel() instanceof SinglePixelPackedSampleModel)
+		{
+			SinglePixelPackedSampleModel sampleModel = (SinglePixelPackedSampleModel) raster.getSampleModel();
+			int[] data = ((DataBufferInt) raster.getDataBuffer()).getData();
+			int stride = sampleModel.getScanlineStride();
+			int offset = raster.getDataBuffer().getOffset()
+				- raster.getSampleModelTranslateX()
+				- raster.getSampleModelTranslateY() * stride;
+
+			// bits outside of the masks, such as the unused byte of TYPE_INT_RGB, are not part of the color
+			int mask = 0;
+			for (int bitMask : sampleModel.getBitMasks())
+			{
+				mask |= bitMask;
+			}
+
+			int color = data[offset] & mask;
+			for (int y = 0; y < image.getHeight(); ++y)
+			{
+				for (int i = offset + y * stride, end = i + image.getWidth(); i < end; ++i)
+				{
+					if ((data[i] & mask) != color)
+					{
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+		int color = image.getRGB(0, 0);
+		for (int y = 0; y < image.getHeight(); ++y)
+		{
+			for (int x = 0; x < image.getWidth(); ++x)
+			{
+				if (image.getRGB(x, y) != color)
+				{
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
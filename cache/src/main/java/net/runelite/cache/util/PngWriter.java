@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A streaming PNG encoder. Rows are supplied in order, and are filtered and compressed in strips
+ * in parallel, so that an image can be encoded without all of its rows being held in memory at once.
+ * The strips are compressed as independent deflate blocks, which are joined into a single zlib stream
+ * in the output.
+ */
+public class PngWriter
+{
+	private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+	private static final byte[] ZLIB_HEADER = {0x78, (byte) 0x9c};
+	private static final int STRIP_BYTES = 1 << 20;
+	// levels above this are much slower for little gain on filtered image data
+	private static final int COMPRESSION_LEVEL = 4;
+	private static final int ADLER_BASE = 65521;
+
+	private final OutputStream out;
+	private final Executor executor;
+	private final int width;
+	private final int height;
+	private final boolean alpha;
+	private final int bytesPerPixel;
+	private final int rowBytes;
+	private final int stripRows;
+	private final int maxPending;
+
+	private final Queue<FutureTask<Strip>> pending = new ArrayDeque<>();
+	private byte[] strip;
+	private int stripRow;
+	private byte[] previousRow;
+	private int rowsWritten;
+	private boolean headerWritten;
+	private long adler = 1;
+
+	private static class Strip
+	{
+		byte[] data;
+		int length;
+		long adler;
+		long rawLength;
+	}
+
+	/**
+	 * @param out the stream to write the png to. It is not closed by the writer.
+	 * @param alpha whether to write the alpha channel
+	 * @param executor the executor to compress strips on
+	 */
+	public PngWriter(OutputStream out, int width, int height, boolean alpha, Executor executor)
+	{
+		if (width <= 0 || height <= 0)
+		{
+			throw new IllegalArgumentException("invalid image size " + width + "x" + height);
+		}
+
+		this.out = out;
+		this.executor = executor;
+		this.width = width;
+		this.height = height;
+		this.alpha = alpha;
+		this.bytesPerPixel = alpha ? 4 : 3;
+		this.rowBytes = 1 + width * bytesPerPixel;
+		this.stripRows = Math.max(1, STRIP_BYTES / rowBytes);
+		this.maxPending = Runtime.getRuntime().availableProcessors() * 2;
+	}
+
+	public PngWriter(OutputStream out, int width, int height, boolean alpha)
+	{
+		this(out, width, height, alpha, ForkJoinPool.commonPool());
+	}
+
+	public static void write(BufferedImage image, OutputStream out) throws IOException
+	{
+		final boolean alpha = image.getColorModel().hasAlpha();
+		final PngWriter writer = new PngWriter(out, image.getWidth(), image.getHeight(), alpha);
+		writer.writeImage(image);
+	}
+
+	public static void write(BufferedImage image, File file) throws IOException
+	{
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file)))
+		{
+			write(image, out);
+		}
+	}
+
+	/**
+	 * Write all of the rows of an image. The image is read a strip at a time, so file backed images
+	 * are not loaded into memory all at once.
+	 */
+	public void writeImage(BufferedImage image) throws IOException
+	{
+		final int[] rgb = new int[width * stripRows];
+		for (int y = rowsWritten; y < height; y += stripRows)
+		{
+			final int rows = Math.min(stripRows, height - y);
+			image.getRGB(0, y, width, rows, rgb, 0, width);
+			writeRows(rgb, 0, width, rows);
+		}
+	}
+
+	/**
+	 * Write rows of ARGB pixels
+	 *
+	 * @param argb the pixels
+	 * @param offset the offset of the first pixel
+	 * @param scansize the distance between the start of each row
+	 * @param rows the number of rows
+	 */
+	public void writeRows(int[] argb, int offset, int scansize, int rows) throws IOException
+	{
+		if (rowsWritten + rows > height)
+		{
+			throw new IllegalStateException("too many rows");
+		}
+
+		if (!headerWritten)
+		{
+			writeHeader();
+		}
+
+		for (int row = 0; row < rows; ++row)
+		{
+			if (strip == null)
+			{
+				strip = new byte[Math.min(stripRows, height - rowsWritten) * rowBytes];
+				stripRow = 0;
+			}
+
+			int pos = stripRow * rowBytes + 1;
+			int idx = offset + row * scansize;
+			for (int x = 0; x < width; ++x)
+			{
+				final int pixel = argb[idx++];
+				strip[pos++] = (byte) (pixel >>> 16);
+				strip[pos++] = (byte) (pixel >>> 8);
+				strip[pos++] = (byte) pixel;
+				if (alpha)
+				{
+					strip[pos++] = (byte) (pixel >>> 24);
+				}
+			}
+
+			++rowsWritten;
+			if (++stripRow * rowBytes == strip.length)
+			{
+				submitStrip();
+			}
+		}
+
+		if (rowsWritten == height)
+		{
+			while (!pending.isEmpty())
+			{
+				writeStrip(pending.remove());
+			}
+			writeTrailer();
+		}
+	}
+
+	private void submitStrip() throws IOException
+	{
+		final byte[] raw = strip;
+		final byte[] prev = previousRow;
+		final boolean last = rowsWritten == height;
+
+		previousRow = Arrays.copyOfRange(raw, raw.length - rowBytes, raw.length);
+		strip = null;
+
+		final FutureTask<Strip> task = new FutureTask<>(() -> compress(raw, prev, last));
+		pending.add(task);
+		executor.execute(task);
+
+		// write out the strips which have finished, and wait if too many are in flight
+		while (!pending.isEmpty() && (pending.peek().isDone() || pending.size() > maxPending))
+		{
+			writeStrip(pending.remove());
+		}
+	}
+
+	private void writeStrip(FutureTask<Strip> task) throws IOException
+	{
+		final Strip s;
+		try
+		{
+			s = task.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException e)
+		{
+			throw new IOException(e.getCause());
+		}
+
+		adler = combineAdler(adler, s.adler, s.rawLength);
+		writeChunk("IDAT", s.data, s.length);
+	}
+
+	private void writeHeader() throws IOException
+	{
+		headerWritten = true;
+		out.write(SIGNATURE);
+
+		final byte[] ihdr = new byte[13];
+		putInt(ihdr, 0, width);
+		putInt(ihdr, 4, height);
+		ihdr[8] = 8; // bit depth
+		ihdr[9] = (byte) (alpha ? 6 : 2); // truecolor, with or without alpha
+		writeChunk("IHDR", ihdr, ihdr.length);
+
+		writeChunk("IDAT", ZLIB_HEADER, ZLIB_HEADER.length);
+	}
+
+	private void writeTrailer() throws IOException
+	{
+		final byte[] adlerBytes = new byte[4];
+		putInt(adlerBytes, 0, (int) adler);
+		writeChunk("IDAT", adlerBytes, adlerBytes.length);
+		writeChunk("IEND", new byte[0], 0);
+		out.flush();
+	}
+
+	private void writeChunk(String type, byte[] data, int length) throws IOException
+	{
+		final byte[] header = new byte[8];
+		putInt(header, 0, length);
+		for (int i = 0; i < 4; ++i)
+		{
+			header[4 + i] = (byte) type.charAt(i);
+		}
+
+		final CRC32 crc = new CRC32();
+		crc.update(header, 4, 4);
+		crc.update(data, 0, length);
+
+		final byte[] crcBytes = new byte[4];
+		putInt(crcBytes, 0, (int) crc.getValue());
+
+		out.write(header);
+		out.write(data, 0, length);
+		out.write(crcBytes);
+	}
+
+	private Strip compress(byte[] raw, byte[] prev, boolean last)
+	{
+		final byte[] filtered = new byte[raw.length];
+		final byte[][] scratch = new byte[4][rowBytes - 1];
+		final int rows = raw.length / rowBytes;
+		for (int row = 0; row < rows; ++row)
+		{
+			final int rowStart = row * rowBytes;
+			if (row > 0)
+			{
+				filterRow(raw, rowStart, raw, rowStart - rowBytes, filtered, scratch);
+			}
+			else
+			{
+				filterRow(raw, rowStart, prev, 0, filtered, scratch);
+			}
+		}
+
+		final Adler32 adler32 = new Adler32();
+		adler32.update(filtered);
+
+		final Deflater deflater = new Deflater(COMPRESSION_LEVEL, true);
+		try
+		{
+			deflater.setInput(filtered);
+			if (last)
+			{
+				deflater.finish();
+			}
+
+			byte[] buf = new byte[Math.max(64, filtered.length / 2)];
+			int len = 0;
+			while (true)
+			{
+				len += deflater.deflate(buf, len, buf.length - len, last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+				if (len < buf.length && (last ? deflater.finished() : deflater.needsInput()))
+				{
+					break;
+				}
+
+				if (len == buf.length)
+				{
+					buf = Arrays.copyOf(buf, buf.length * 2);
+				}
+			}
+
+			final Strip s = new Strip();
+			s.data = buf;
+			s.length = len;
+			s.adler = adler32.getValue();
+			s.rawLength = filtered.length;
+			return s;
+		}
+		finally
+		{
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Filter a row with the filter which gives the smallest sum of absolute differences, which is the
+	 * heuristic recommended by the png specification
+	 */
+	private void filterRow(byte[] raw, int rowStart, byte[] prev, int prevStart, byte[] filtered, byte[][] scratch)
+	{
+		final int bpp = bytesPerPixel;
+		final int len = rowBytes - 1;
+		final int cur = rowStart + 1;
+		final int up = prevStart + 1;
+		final byte[] sub = scratch[0], upf = scratch[1], avg = scratch[2], pae = scratch[3];
+
+		long sumNone = 0, sumSub = 0, sumUp = 0, sumAvg = 0, sumPaeth = 0;
+		for (int i = 0; i < len; ++i)
+		{
+			final int x = raw[cur + i] & 0xff;
+			final int a = i >= bpp ? raw[cur + i - bpp] & 0xff : 0;
+			final int b = prev != null ? prev[up + i] & 0xff : 0;
+			final int c = prev != null && i >= bpp ? prev[up + i - bpp] & 0xff : 0;
+
+			final byte fs = (byte) (x - a), fu = (byte) (x - b), fa = (byte) (x - ((a + b) >>> 1)), fp = (byte) (x - paeth(a, b, c));
+			sub[i] = fs;
+			upf[i] = fu;
+			avg[i] = fa;
+			pae[i] = fp;
+
+			sumNone += Math.abs((byte) x);
+			sumSub += Math.abs(fs);
+			sumUp += Math.abs(fu);
+			sumAvg += Math.abs(fa);
+			sumPaeth += Math.abs(fp);
+		}
+
+		int filter = 0;
+		long best = sumNone;
+		if (sumSub < best)
+		{
+			filter = 1;
+			best = sumSub;
+		}
+		if (sumUp < best)
+		{
+			filter = 2;
+			best = sumUp;
+		}
+		if (sumAvg < best)
+		{
+			filter = 3;
+			best = sumAvg;
+		}
+		if (sumPaeth < best)
+		{
+			filter = 4;
+		}
+
+		filtered[rowStart] = (byte) filter;
+		System.arraycopy(filter == 0 ? raw : scratch[filter - 1], filter == 0 ? cur : 0, filtered, cur, len);
+	}
+
+	private static int paeth(int a, int b, int c)
+	{
+		final int p = a + b - c;
+		final int pa = Math.abs(p - a);
+		final int pb = Math.abs(p - b);
+		final int pc = Math.abs(p - c);
+		if (pa <= pb && pa <= pc)
+		{
+			return a;
+		}
+		return pb <= pc ? b : c;
+	}
+
+	/**
+	 * Combine the adler32 of two sequences into the adler32 of their concatenation
+	 */
+	static long combineAdler(long adler1, long adler2, long len2)
+	{
+		final long rem = len2 % ADLER_BASE;
+		long sum1 = adler1 & 0xffff;
+		long sum2 = (rem * sum1) % ADLER_BASE;
+		sum1 += (adler2 & 0xffff) + ADLER_BASE - 1;
+		sum2 += ((adler1 >> 16) & 0xffff) + ((adler2 >> 16) & 0xffff) + ADLER_BASE - rem;
+		if (sum1 >= ADLER_BASE)
+		{
+			sum1 -= ADLER_BASE;
+		}
+		if (sum1 >= ADLER_BASE)
+		{
+			sum1 -= ADLER_BASE;
+		}
+		if (sum2 >= ((long) ADLER_BASE << 1))
+		{
+			sum2 -= (long) ADLER_BASE << 1;
+		}
+		if (sum2 >= ADLER_BASE)
+		{
+			sum2 -= ADLER_BASE;
+		}
+		return sum1 | (sum2 << 16);
+	}
+
+	private static void putInt(byte[] b, int off, int v)
+	{
+		b[off] = (byte) (v >>> 24);
+		b[off + 1] = (byte) (v >>> 16);
+		b[off + 2] = (byte) (v >>> 8);
+		b[off + 3] = (byte) v;
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.collision;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.definitions.LocationsDefinition;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.region.Location;
+import net.runelite.cache.region.Position;
+import net.runelite.cache.region.Region;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class CollisionMapTest
+{
+	private static final int WALL = 1;
+	private static final int TREE = 2;
+	private static final int FLOWER = 3;
+
+	private static final Map<Integer, ObjectDefinition> OBJECTS = ImmutableMap.of(
+		WALL, object(WALL, 1, 1, 2),
+		TREE, object(TREE, 2, 2, 2),
+		FLOWER, object(FLOWER, 1, 1, 0)
+	);
+
+	private static ObjectDefinition object(int id, int sizeX, int sizeY, int interactType)
+	{
+		ObjectDefinition object = new ObjectDefinition();
+		object.setId(id);
+		object.setSizeX(sizeX);
+		object.setSizeY(sizeY);
+		object.setInteractType(interactType);
+		return object;
+	}
+
+	private static Region region(int regionX, int regionY, Location... locations)
+	{
+		MapDefinition map = new MapDefinition();
+		map.getSettings()[MapDefinition.index(0, 20, 20)] = 1;
+
+		LocationsDefinition locs = new LocationsDefinition();
+		locs.setLocations(Arrays.asList(locations));
+
+		Region region = new Region(regionX, regionY);
+		region.loadTerrain(map);
+		region.loadLocations(locs);
+		return region;
+	}
+
+	private static Location location(int id, int type, int orientation, int x, int y)
+	{
+		return new Location(id, type, orientation, new Position(x, y, 0));
+	}
+
+	@Test
+	public void testFlags()
+	{
+		Region region = region(50, 50,
+			// north wall of 5,5
+			location(WALL, 0, 1, 5, 5),
+			location(TREE, 10, 0, 10, 10),
+			location(FLOWER, 10, 0, 30, 30),
+			// west wall of the first tile of the region
+			location(WALL, 0, 0, 0, 40)
+		);
+		CollisionMap map = CollisionMap.build(Arrays.asList(region, region(49, 50)), OBJECTS::get);
+
+		int x = region.getBaseX();
+		int y = region.getBaseY();
+
+		assertFalse(map.canMove(x + 5, y + 5, 0, 0, 1));
+		assertFalse(map.canMove(x + 5, y + 6, 0, 0, -1));
+		assertFalse(map.canMove(x + 4, y + 5, 0, 1, 1));
+		assertTrue(map.canMove(x + 5, y + 5, 0, 1, 0));
+		assertTrue(map.canMove(x + 5, y + 5, 0, 0, -1));
+
+		// the tree covers 10,10 to 11,11
+		assertFalse(map.canMove(x + 9, y + 11, 0, 1, 0));
+		assertFalse(map.canMove(x + 12, y + 12, 0, -1, -1));
+		assertTrue(map.canMove(x + 12, y + 11, 0, 0, 1));
+		assertFalse(map.isWalkable(x + 11, y + 11, 0));
+
+		// blocked floor
+		assertFalse(map.isWalkable(x + 20, y + 20, 0));
+		assertFalse(map.canMove(x + 19, y + 20, 0, 1, 0));
+
+		// objects without collision
+		assertTrue(map.canMove(x + 30, y + 29, 0, 0, 1));
+
+		// the wall on the region edge blocks from both sides
+		assertFalse(map.canMove(x, y + 40, 0, -1, 0));
+		assertFalse(map.canMove(x - 1, y + 40, 0, 1, 0));
+		assertTrue(map.canMove(x - 1, y + 41, 0, 1, 0));
+
+		// unloaded regions are blocked
+		assertFalse(map.canMove(x + 63, y + 5, 0, 1, 0));
+		assertTrue(map.hasRegion(region.getRegionID()));
+		assertFalse(map.hasRegion(51 << 8 | 50));
+	}
+
+	@Test
+	public void testFindPath()
+	{
+		// a wall along y = 10 from x = 0 to 62, with a gap at the east end
+		Location[] walls = new Location[63];
+		for (int i = 0; i < walls.length; ++i)
+		{
+			walls[i] = location(WALL, 0, 1, i, 10);
+		}
+		Region region = region(50, 50, walls);
+		CollisionMap map = CollisionMap.build(Arrays.asList(region), OBJECTS::get);
+		Pathfinder pathfinder = new Pathfinder(map);
+
+		int x = region.getBaseX();
+		int y = region.getBaseY();
+
+		List<Position> path = pathfinder.findPath(new Position(x + 5, y + 5, 0), new Position(x + 5, y + 15, 0));
+		assertEquals(new Position(x + 5, y + 15, 0), path.get(path.size() - 1));
+		// around the east end of the wall and back
+		assertEquals(59 + 58, path.size());
+		for (int i = 1; i < path.size(); ++i)
+		{
+			Position from = path.get(i - 1);
+			Position to = path.get(i);
+			assertTrue(map.canMove(from.getX(), from.getY(), 0, to.getX() - from.getX(), to.getY() - from.getY()));
+		}
+
+		// into the region to the west, which is not loaded
+		assertNull(pathfinder.findPath(new Position(x + 2, y + 2, 0), new Position(x - 3, y + 4, 0)));
+
+		// into the blocked floor tile
+		assertNull(pathfinder.findPath(new Position(x + 22, y + 22, 0), new Position(x + 20, y + 20, 0)));
+		assertTrue(pathfinder.isReachable(new Position(x + 22, y + 22, 0), new Position(x + 21, y + 21, 0)));
+
+		// across the region boundary, and around the west end of the wall
+		map = CollisionMap.build(Arrays.asList(region, region(49, 50)), OBJECTS::get);
+		pathfinder = new Pathfinder(map);
+		path = pathfinder.findPath(new Position(x + 2, y + 2, 0), new Position(x - 3, y + 4, 0));
+		assertEquals(5, path.size());
+		path = pathfinder.findPath(new Position(x + 5, y + 5, 0), new Position(x + 5, y + 15, 0));
+		assertEquals(13, path.size());
+	}
+}
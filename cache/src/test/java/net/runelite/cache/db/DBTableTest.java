@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.db;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.util.BaseVarType;
+import net.runelite.cache.util.ScriptVarType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DBTableTest
+{
+	private static final int NAME = 0;
+	private static final int LEVEL = 1;
+	private static final int REWARDS = 2;
+
+	private DBTableDefinition tableDef;
+	private List<DBRowDefinition> rows;
+
+	@Before
+	public void before()
+	{
+		tableDef = new DBTableDefinition(1);
+		tableDef.setTypes(new ScriptVarType[][]{
+			{ScriptVarType.STRING},
+			{ScriptVarType.INTEGER},
+			{ScriptVarType.OBJ, ScriptVarType.INTEGER},
+		});
+		tableDef.setDefaultColumnValues(new Object[][]{
+			null,
+			{1},
+			null,
+		});
+
+		rows = Arrays.asList(
+			row(30, "Cook's Assistant", null, new Object[]{1, 300}),
+			row(10, "Dragon Slayer", 32, new Object[]{1, 18000, 2, 18650}),
+			row(20, "Demon Slayer", 15, null)
+		);
+	}
+
+	private static DBRowDefinition row(int id, String name, Integer level, Object[] rewards)
+	{
+		DBRowDefinition row = new DBRowDefinition(id);
+		row.setTableId(1);
+		row.setColumnValues(new Object[][]{
+			{name},
+			level != null ? new Object[]{level} : null,
+			rewards,
+		});
+		return row;
+	}
+
+	@Test
+	public void testColumns()
+	{
+		DBTable table = DBTable.build(tableDef, rows, columnId -> null);
+
+		assertEquals(3, table.getRowCount());
+		assertEquals(10, table.getRowId(0));
+		assertEquals(2, table.indexOf(30));
+		assertEquals(-1, table.indexOf(40));
+
+		DBColumn name = table.getColumn(NAME);
+		assertEquals("Dragon Slayer", name.getString(0, 0, 0));
+		assertEquals("Cook's Assistant", name.getValue(2, 0, 0));
+
+		// the row without a level uses the table default
+		DBColumn level = table.getColumn(LEVEL);
+		assertEquals(1, level.getInt(2, 0, 0));
+
+		DBColumn rewards = table.getColumn(REWARDS);
+		assertEquals(2, rewards.getFieldCount(0));
+		assertEquals(0, rewards.getFieldCount(1));
+		assertEquals(18650, rewards.getInt(0, 1, 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWrongType()
+	{
+		DBTable table = DBTable.build(tableDef, rows, columnId -> null);
+		table.query().where(NAME, 1);
+	}
+
+	@Test
+	public void testScan()
+	{
+		DBTable table = DBTable.build(tableDef, rows, columnId -> null);
+		assertNull(table.getIndex(LEVEL, 0));
+		query(table);
+	}
+
+	@Test
+	public void testIndexed()
+	{
+		DBTableIndex levelIndex = new DBTableIndex(1, LEVEL);
+		levelIndex.setTupleTypes(new BaseVarType[]{BaseVarType.INTEGER});
+		levelIndex.setTupleIndexes(Collections.singletonList(ImmutableMap.of(
+			1, Collections.singletonList(30),
+			15, Collections.singletonList(20),
+			32, Collections.singletonList(10))));
+
+		DBTableIndex nameIndex = new DBTableIndex(1, NAME);
+		nameIndex.setTupleTypes(new BaseVarType[]{BaseVarType.STRING});
+		nameIndex.setTupleIndexes(Collections.singletonList(ImmutableMap.of(
+			"Cook's Assistant", Collections.singletonList(30),
+			"Dragon Slayer", Collections.singletonList(10),
+			"Demon Slayer", Collections.singletonList(20))));
+
+		DBTableIndex rewardsIndex = new DBTableIndex(1, REWARDS);
+		rewardsIndex.setTupleTypes(new BaseVarType[]{BaseVarType.INTEGER, BaseVarType.INTEGER});
+		rewardsIndex.setTupleIndexes(Arrays.asList(
+			ImmutableMap.of(
+				1, Arrays.asList(30, 10),
+				2, Collections.singletonList(10)),
+			ImmutableMap.of(
+				300, Collections.singletonList(30),
+				18000, Collections.singletonList(10),
+				18650, Collections.singletonList(10))));
+
+		DBTable table = DBTable.build(tableDef, rows, columnId -> ImmutableMap.of(LEVEL, levelIndex, NAME, nameIndex, REWARDS, rewardsIndex).get(columnId));
+		assertNotNull(table.getIndex(LEVEL, 0));
+		assertEquals(3, table.getIndex(REWARDS, 1).getKeyCount());
+		query(table);
+	}
+
+	private static void query(DBTable table)
+	{
+		assertArrayEquals(new int[]{20}, table.query().where(NAME, "Demon Slayer").rowIds());
+		assertEquals(0, table.query().where(NAME, "Monkey Madness").count());
+		assertArrayEquals(new int[]{10, 30}, table.query().where(REWARDS, 1).rowIds());
+		assertArrayEquals(new int[]{10}, table.query().where(REWARDS, 0, 1).where(REWARDS, 1, 18650).rowIds());
+		assertArrayEquals(new int[]{20, 30}, table.query().whereBetween(LEVEL, 0, 0, 20).rowIds());
+
+		DBQuery query = table.query().whereBetween(REWARDS, 1, 200, 20000);
+		assertArrayEquals(new int[]{10, 30}, query.rowIds());
+		assertArrayEquals(new String[]{"Dragon Slayer", "Cook's Assistant"}, query.strings(NAME, 0));
+		assertArrayEquals(new int[]{32, 1}, query.ints(LEVEL, 0));
+		assertArrayEquals(new int[]{18000, 300}, query.ints(REWARDS, 1));
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.fs.FSFile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class NdjsonExporterTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static FSFile file(int id, String name)
+	{
+		FSFile file = new FSFile(id);
+		file.setContents(name.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private static ItemDefinition load(int id, byte[] b)
+	{
+		ItemDefinition def = new ItemDefinition(id);
+		def.setName(new String(b, StandardCharsets.UTF_8));
+		return def;
+	}
+
+	@Test
+	public void testExport() throws IOException
+	{
+		File out = new File(folder.getRoot(), "items.ndjson");
+
+		List<FSFile> files = new ArrayList<>();
+		for (int i = 999; i >= 0; --i)
+		{
+			files.add(file(i, "item " + i));
+		}
+
+		assertEquals(1000, NdjsonExporter.export(files, NdjsonExporterTest::load, out, false));
+		List<String> lines = Files.readAllLines(out.toPath());
+		assertEquals(1000, lines.size());
+		for (int i = 0; i < lines.size(); ++i)
+		{
+			assertTrue(lines.get(i).startsWith("{\"id\":" + i + ","));
+			assertTrue(lines.get(i).contains("\"name\":\"item " + i + "\""));
+		}
+		assertTrue(NdjsonExporter.manifestFile(out).exists());
+
+		// change one, add one, and remove one
+		files.set(0, file(999, "changed"));
+		files.add(file(1000, "new"));
+		files.removeIf(f -> f.getFileId() == 500);
+
+		File changes = NdjsonExporter.changesFile(out);
+		assertEquals(new File(folder.getRoot(), "items.changed.ndjson"), changes);
+		assertEquals(3, NdjsonExporter.export(files, NdjsonExporterTest::load, out, true));
+		lines = Files.readAllLines(changes.toPath());
+		assertEquals(3, lines.size());
+		assertTrue(lines.get(0).contains("\"name\":\"changed\""));
+		assertTrue(lines.get(1).contains("\"name\":\"new\""));
+		assertEquals("{\"id\":500,\"removed\":true}", lines.get(2));
+
+		// the full export is still written
+		lines = Files.readAllLines(out.toPath());
+		assertEquals(1000, lines.size());
+		assertTrue(lines.get(999).contains("\"name\":\"new\""));
+
+		assertEquals(0, NdjsonExporter.export(files, NdjsonExporterTest::load, out, true));
+		assertTrue(Files.readAllLines(changes.toPath()).isEmpty());
+		assertEquals(1000, NdjsonExporter.export(files, NdjsonExporterTest::load, out, false));
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.loaders;
+
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.io.OutputStream;
+import net.runelite.cache.region.Region;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class MapLoaderTest
+{
+	@Test
+	public void testLoad()
+	{
+		OutputStream out = new OutputStream();
+		for (int i = 0; i < MapDefinition.TILES; ++i)
+		{
+			if (i == MapDefinition.index(0, 1, 2))
+			{
+				// overlay with path 1 and rotation 2
+				out.writeShort(2 + 4 + 2);
+				out.writeShort(40);
+				out.writeShort(49 + 3); // settings
+				out.writeShort(81 + 7); // underlay
+				out.writeShort(1);
+				out.writeByte(30); // height
+			}
+			else if (i == MapDefinition.index(1, 1, 2))
+			{
+				out.writeShort(1);
+				out.writeByte(10);
+			}
+			else
+			{
+				out.writeShort(0);
+			}
+		}
+
+		MapDefinition map = new MapLoader().load(50, 50, out.flip());
+
+		MapDefinition.Tile tile = map.getTile(0, 1, 2);
+		assertEquals(30, (int) tile.getHeight());
+		assertEquals(8, tile.getAttrOpcode());
+		assertEquals(40, tile.getOverlayId());
+		assertEquals(1, tile.getOverlayPath());
+		assertEquals(2, tile.getOverlayRotation());
+		assertEquals(3, tile.getSettings());
+		assertEquals(7, tile.getUnderlayId());
+		assertNull(map.getTile(0, 2, 1).getHeight());
+
+		Region region = new Region(50, 50);
+		region.loadTerrain(map);
+		assertEquals(-240, region.getTileHeight(0, 1, 2));
+		assertEquals(-320, region.getTileHeight(1, 1, 2));
+		assertEquals(region.getTileHeight(0, 2, 1) - 240, region.getTileHeight(1, 2, 1));
+		assertEquals(40, region.getOverlayId(0, 1, 2));
+		assertEquals(1, region.getOverlayPath(0, 1, 2));
+		assertEquals(2, region.getOverlayRotation(0, 1, 2));
+		assertEquals(3, region.getTileSetting(0, 1, 2));
+		assertEquals(7, region.getUnderlayId(0, 1, 2));
+		assertEquals(0, region.getUnderlayId(0, 2, 1));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testIndexOutOfRegion()
+	{
+		// would otherwise alias tile 1, 0, 0
+		MapDefinition.index(0, MapDefinition.X, 0);
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StoreArchiveCacheTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static class CountingStorage implements Storage
+	{
+		private final Storage storage;
+		private final AtomicInteger loads = new AtomicInteger();
+
+		CountingStorage(Storage storage)
+		{
+			this.storage = storage;
+		}
+
+		@Override
+		public void init(Store store) throws IOException
+		{
+			storage.init(store);
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			storage.close();
+		}
+
+		@Override
+		public void load(Store store) throws IOException
+		{
+			storage.load(store);
+		}
+
+		@Override
+		public void save(Store store) throws IOException
+		{
+			storage.save(store);
+		}
+
+		@Override
+		public byte[] load(int index, int archive) throws IOException
+		{
+			loads.incrementAndGet();
+			return storage.load(index, archive);
+		}
+
+		@Override
+		public void store(int index, int archive, byte[] data) throws IOException
+		{
+			storage.store(index, archive, data);
+		}
+	}
+
+	private static Archive addArchive(Store store, Index index, int id, byte[] data) throws IOException
+	{
+		Archive archive = index.addArchive(id);
+		FileData[] fileData = new FileData[]{new FileData()};
+		archive.setFileData(fileData);
+
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(data, null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+		return archive;
+	}
+
+	@Test
+	public void testCache() throws Exception
+	{
+		CountingStorage storage = new CountingStorage(new DiskStorage(folder.newFolder()));
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			List<Archive> archives = new ArrayList<>();
+			for (int i = 0; i < 8; ++i)
+			{
+				archives.add(addArchive(store, index, i, new byte[100]));
+			}
+			Archive empty = index.addArchive(8);
+
+			// uncached
+			assertFalse(store.isArchiveCacheEnabled());
+			assertArrayEquals(new byte[100], store.loadArchiveData(archives.get(0)));
+			assertArrayEquals(new byte[100], store.loadArchiveData(archives.get(0)));
+			assertEquals(2, storage.loads.get());
+
+			store.enableArchiveCache(1 << 20);
+			storage.loads.set(0);
+
+			store.prefetch(archives.subList(0, 4)).get();
+			assertEquals(4, storage.loads.get());
+
+			byte[] data = store.loadArchiveData(archives.get(0));
+			assertSame(data, store.loadArchiveData(archives.get(0)));
+			assertArrayEquals(new byte[100], store.loadArchiveFiles(archives.get(3)).findFile(0).getContents());
+			assertEquals(4, storage.loads.get());
+
+			assertNull(store.loadArchiveData(empty));
+
+			// going over the weight limit evicts
+			store.enableArchiveCache(200);
+			for (Archive archive : archives)
+			{
+				store.loadArchiveData(archive);
+			}
+			assertTrue(store.getArchiveCacheStats().evictionCount() > 0);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testPrefetchDisabled() throws Exception
+	{
+		try (Store store = new Store(new DiskStorage(folder.newFolder())))
+		{
+			store.prefetch(new ArrayList<>());
+		}
+	}
+}
@@ -167,4 +167,34 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testFreeReuse() throws IOException
+	{
+		DataFile df = new DataFile(folder.newFile());
+
+		byte[] big = new byte[2000];
+		for (int i = 0; i < big.length; ++i)
+		{
+			big[i] = (byte) i;
+		}
+
+		DataFileWriteResult res = df.write(2, 7, big);
+		DataFileWriteResult res2 = df.write(2, 8, "test".getBytes());
+		Assert.assertEquals(0, df.getFreeSectors());
+
+		// freeing with the wrong archive id does nothing
+		df.free(2, 8, res.sector, res.compressedLength);
+		Assert.assertEquals(0, df.getFreeSectors());
+
+		df.free(2, 7, res.sector, res.compressedLength);
+		Assert.assertEquals(4, df.getFreeSectors());
+
+		DataFileWriteResult res3 = df.write(2, 9, new byte[1000]);
+		Assert.assertEquals(res.sector, res3.sector);
+		Assert.assertEquals(2, df.getFreeSectors());
+
+		Assert.assertArrayEquals(new byte[1000], df.read(2, 9, res3.sector, res3.compressedLength));
+		Assert.assertArrayEquals("test".getBytes(), df.read(2, 8, res2.sector, res2.compressedLength));
+	}
 }
@@ -25,6 +25,10 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
@@ -101,4 +105,118 @@ public class DiskStorageTest
 		}
 	}
 
+	/**
+	 * Write a cache with a single archive which is saved several times, leaving unused sectors in the data file
+	 *
+	 * @return the data of the archive
+	 */
+	private static byte[] writeFragmentedCache(File file) throws Exception
+	{
+		DiskStorage storage = new DiskStorage(file);
+		byte[] data = new byte[4096];
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			archive.setFileData(new FileData[]{new FileData()});
+
+			// each save is larger than the last, so the freed sectors can't be reused
+			for (int i = 1; i <= 4; ++i)
+			{
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(new byte[i * 1024], null);
+				archive.setCrc(container.crc);
+				storage.saveArchive(archive, container.data);
+			}
+
+			Container container = new Container(archive.getCompression(), -1);
+			container.compress(data, null);
+			archive.setCrc(container.crc);
+			storage.saveArchive(archive, container.data);
+
+			store.save();
+		}
+		return data;
+	}
+
+	private static void assertArchive(File file, byte[] data) throws Exception
+	{
+		DiskStorage storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			Archive archive = store.findIndex(0).getArchive(0);
+			assertArrayEquals(data, archive.decompress(storage.loadArchive(archive)));
+		}
+	}
+
+	@Test
+	public void testCompact() throws Exception
+	{
+		File file = folder.newFolder();
+		byte[] data = writeFragmentedCache(file);
+
+		File dat = new File(file, "main_file_cache.dat2");
+		long length = dat.length();
+		DiskStorage.compact(file);
+		assertTrue(dat.length() < length);
+		assertArrayEquals(new String[]{"main_file_cache.dat2", "main_file_cache.idx0", "main_file_cache.idx255"}, sortedList(file));
+
+		assertArchive(file, data);
+	}
+
+	@Test
+	public void testCompactUnreadable() throws Exception
+	{
+		File file = folder.newFolder();
+		writeFragmentedCache(file);
+
+		File dat = new File(file, "main_file_cache.dat2");
+		try (RandomAccessFile raf = new RandomAccessFile(dat, "rw"))
+		{
+			// overwrite the sector headers, so no archive can be read
+			byte[] b = new byte[(int) raf.length() - 520];
+			Arrays.fill(b, (byte) -1);
+			raf.seek(520);
+			raf.write(b);
+		}
+		long length = dat.length();
+
+		try
+		{
+			DiskStorage.compact(file);
+			fail();
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+
+		// the cache is unchanged
+		assertEquals(length, dat.length());
+		assertArrayEquals(new String[]{"main_file_cache.dat2", "main_file_cache.idx0", "main_file_cache.idx255"}, sortedList(file));
+	}
+
+	@Test
+	public void testRecoverCompaction() throws Exception
+	{
+		File file = folder.newFolder();
+		byte[] data = writeFragmentedCache(file);
+
+		// interrupt a compaction after the data file was swapped, but not the index files
+		File backup = new File(file, "compact.bak");
+		assertTrue(backup.mkdir());
+		Files.move(new File(file, "main_file_cache.dat2").toPath(), new File(backup, "main_file_cache.dat2").toPath());
+		Files.write(new File(file, "main_file_cache.dat2").toPath(), new byte[520]);
+
+		assertArchive(file, data);
+		assertFalse(backup.exists());
+	}
+
+	private static String[] sortedList(File file)
+	{
+		String[] names = file.list();
+		Arrays.sort(names);
+		return names;
+	}
 }
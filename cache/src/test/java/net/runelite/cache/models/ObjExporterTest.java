@@ -33,6 +33,8 @@ import net.runelite.cache.TextureManager;
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.definitions.loaders.ModelLoader;
 import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -60,4 +62,37 @@ public class ObjExporterTest
 			}
 		}
 	}
+
+	@Test
+	public void testExportTriangle()
+	{
+		ModelDefinition model = new ModelDefinition();
+		model.id = 42;
+		model.vertexCount = 3;
+		model.vertexX = new int[]{0, 128, 0};
+		model.vertexY = new int[]{0, 0, 0};
+		model.vertexZ = new int[]{0, 0, 128};
+		model.faceCount = 1;
+		model.faceIndices1 = new int[]{0};
+		model.faceIndices2 = new int[]{1};
+		model.faceIndices3 = new int[]{2};
+		model.faceColors = new short[]{0};
+		model.faceTransparencies = new byte[]{(byte) 128};
+
+		StringBuilder obj = new StringBuilder();
+		StringBuilder mtl = new StringBuilder();
+		new ObjExporter(null, model).export(obj, mtl);
+
+		String nl = System.lineSeparator();
+		int rgb = JagexColor.HSLtoRGB((short) 0, JagexColor.BRIGHTNESS_MAX);
+		assertTrue(obj.toString().startsWith("mtllib 42.mtl" + nl
+			+ "o runescapemodel" + nl
+			+ "v 0 0 0" + nl
+			+ "v 128 0 0" + nl
+			+ "v 0 0 -128" + nl));
+		assertTrue(obj.toString().endsWith("usemtl m0" + nl + "f 1 2 3" + nl + nl));
+		assertEquals("newmtl m0" + nl
+			+ "Kd " + ((rgb >> 16 & 0xff) / 255.0) + " " + ((rgb >> 8 & 0xff) / 255.0) + " " + ((rgb & 0xff) / 255.0) + nl
+			+ "d " + (128 / 255.0) + nl, mtl.toString());
+	}
 }
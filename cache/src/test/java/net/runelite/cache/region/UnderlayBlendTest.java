@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.definitions.UnderlayDefinition;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class UnderlayBlendTest
+{
+	private static final int[] COLORS = {0x4D6B2C, 0x8C7B5A, 0x3A5F8C};
+
+	@Test
+	public void testBlend()
+	{
+		Map<Integer, UnderlayDefinition> underlays = new HashMap<>();
+		for (int i = 0; i < COLORS.length; ++i)
+		{
+			UnderlayDefinition underlay = new UnderlayDefinition();
+			underlay.setId(i);
+			underlay.setColor(COLORS[i]);
+			underlay.calculateHsl();
+			underlays.put(i, underlay);
+		}
+
+		Random random = new Random(42);
+		List<Region> regions = new ArrayList<>();
+		Map<Integer, Region> byId = new HashMap<>();
+		for (int rx = 50; rx < 52; ++rx)
+		{
+			for (int ry = 50; ry < 52; ++ry)
+			{
+				MapDefinition map = new MapDefinition();
+				short[] underlayIds = map.getUnderlayIds();
+				for (int i = 0; i < underlayIds.length; ++i)
+				{
+					// mostly grass, some of the other underlays, and some tiles without one
+					int r = random.nextInt(10);
+					underlayIds[i] = (short) (r < 6 ? 1 : r < 9 ? r - 5 : 0);
+				}
+
+				Region region = new Region(rx, ry);
+				region.loadTerrain(map);
+				regions.add(region);
+				byId.put(region.getRegionID(), region);
+			}
+		}
+
+		int z = 0;
+		UnderlayBlend blend = UnderlayBlend.build(regions, z, underlays::get);
+
+		for (Region region : regions)
+		{
+			int[] blends = blend.getRegion(region);
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					int expected = UnderlayBlend.NONE;
+					if (region.getUnderlayId(z, x, y) > 0)
+					{
+						int hue = 0, sat = 0, light = 0, mul = 0, num = 0;
+						for (int wx = x - UnderlayBlend.BLEND + 1; wx <= x + UnderlayBlend.BLEND; ++wx)
+						{
+							for (int wy = y - UnderlayBlend.BLEND + 1; wy <= y + UnderlayBlend.BLEND; ++wy)
+							{
+								int worldX = region.getBaseX() + wx;
+								int worldY = region.getBaseY() + wy;
+								Region r = byId.get((worldX >> 6) << 8 | (worldY >> 6));
+								int id = r == null ? 0 : r.getUnderlayId(z, worldX & 63, worldY & 63);
+								if (id > 0)
+								{
+									UnderlayDefinition underlay = underlays.get(id - 1);
+									hue += underlay.getHue();
+									sat += underlay.getSaturation();
+									light += underlay.getLightness();
+									mul += underlay.getHueMultiplier();
+									++num;
+								}
+							}
+						}
+
+						expected = (hue * 256 / mul) << 16 | (sat / num) << 8 | Math.min(255, light / num);
+					}
+
+					assertEquals("tile " + x + "," + y + " of region " + region.getRegionID(), expected, blends[x << 6 | y]);
+				}
+			}
+		}
+
+		assertNull(blend.getRegion(new Region(10, 10)));
+	}
+}
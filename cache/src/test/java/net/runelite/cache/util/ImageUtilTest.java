@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ImageUtilTest
+{
+	@Test
+	public void testIsUniform()
+	{
+		BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+		assertTrue(ImageUtil.isUniform(image));
+
+		image.setRGB(40, 50, 0xFFFFFF);
+		assertFalse(ImageUtil.isUniform(image));
+
+		// subimages are checked against the parent raster at their offset
+		assertTrue(ImageUtil.isUniform(image.getSubimage(0, 0, 32, 64)));
+		assertTrue(ImageUtil.isUniform(image.getSubimage(32, 0, 32, 32)));
+		assertFalse(ImageUtil.isUniform(image.getSubimage(32, 32, 32, 32)));
+		assertTrue(ImageUtil.isUniform(image.getSubimage(40, 50, 1, 1)));
+	}
+
+	@Test
+	public void testIsUniformNonIntRaster()
+	{
+		BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_3BYTE_BGR);
+		assertTrue(ImageUtil.isUniform(image));
+
+		image.setRGB(15, 15, 0x123456);
+		assertFalse(ImageUtil.isUniform(image));
+		assertTrue(ImageUtil.isUniform(image.getSubimage(0, 0, 15, 16)));
+	}
+}
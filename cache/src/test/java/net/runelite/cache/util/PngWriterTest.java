@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.Adler32;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class PngWriterTest
+{
+	@Test
+	public void testAlpha() throws IOException
+	{
+		testRoundTrip(BufferedImage.TYPE_INT_ARGB);
+	}
+
+	@Test
+	public void testNoAlpha() throws IOException
+	{
+		testRoundTrip(BufferedImage.TYPE_INT_RGB);
+	}
+
+	private static void testRoundTrip(int type) throws IOException
+	{
+		// large enough to be split into several strips
+		final int width = 1000, height = 700;
+		final BufferedImage image = new BufferedImage(width, height, type);
+		final Random random = new Random(42);
+		for (int y = 0; y < height; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				// a mix of gradients and noise, so that every filter gets used
+				int rgb = x < width / 2 ? (x << 16 | y << 8 | (x ^ y)) : random.nextInt();
+				image.setRGB(x, y, (random.nextInt(4) * 85) << 24 | (rgb & 0xffffff));
+			}
+		}
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		PngWriter.write(image, out);
+
+		final BufferedImage read = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals(width, read.getWidth());
+		assertEquals(height, read.getHeight());
+		assertArrayEquals(image.getRGB(0, 0, width, height, null, 0, width), read.getRGB(0, 0, width, height, null, 0, width));
+	}
+
+	@Test
+	public void testWriteRows() throws IOException
+	{
+		final int width = 3, height = 2;
+		final int[] pixels = {0xff000000, 0xffff0000, 0xff00ff00, 0x800000ff, 0x00000000, 0xffffffff};
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final PngWriter writer = new PngWriter(out, width, height, true);
+		writer.writeRows(pixels, 0, width, 1);
+		writer.writeRows(pixels, width, width, 1);
+
+		final BufferedImage read = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+		assertArrayEquals(pixels, read.getRGB(0, 0, width, height, null, 0, width));
+	}
+
+	@Test
+	public void testCombineAdler()
+	{
+		final byte[] data = new byte[100_000];
+		new Random(1).nextBytes(data);
+
+		final Adler32 whole = new Adler32();
+		whole.update(data);
+
+		final Adler32 first = new Adler32();
+		first.update(data, 0, 30_000);
+		final Adler32 second = new Adler32();
+		second.update(data, 30_000, 70_000);
+
+		assertEquals(whole.getValue(), PngWriter.combineAdler(first.getValue(), second.getValue(), 70_000));
+	}
+}
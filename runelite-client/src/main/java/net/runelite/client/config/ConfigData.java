@@ -25,54 +25,56 @@
 package net.runelite.client.config;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.nio.channels.FileChannel;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.AtomicMoveNotSupportedException;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
-import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 class ConfigData
 {
+	// journal size in bytes after which it is compacted straight away
+	private static final int JOURNAL_COMPACT_SIZE = 64 * 1024;
+	// seconds after a patch the journal is compacted, so that the properties file doesn't lag far behind
+	private static final int COMPACT_DELAY_SECONDS = 60;
+
 	private final File configPath;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// sorted view of the keys of properties. Whole keys are group.[profile.]key, so every group and
+	// rs profile occupies a contiguous range of this set, which makes prefix lookups O(log n + result)
+	private final NavigableSet<String> sortedKeys = new ConcurrentSkipListSet<>();
 	private Map<String, String> patchChanges = new HashMap<>();
+	private final AtomicBoolean compactQueued = new AtomicBoolean();
 
 	ConfigData(File configPath)
 	{
 		this.configPath = configPath;
 
-		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
+		Map<String, String> config;
+		try
 		{
+			config = ConfigStorage.load(configPath);
 		}
 		catch (Exception ex)
 		{
 			throw new RuntimeException(ex);
 		}
 
-		properties = new ConcurrentHashMap<>(props.size());
-		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		properties = new ConcurrentHashMap<>(config);
+		sortedKeys.addAll(properties.keySet());
 	}
 
 	String getProperty(String key)
@@ -83,6 +85,10 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			sortedKeys.add(key);
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
@@ -95,6 +101,7 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			sortedKeys.remove(key);
 			patchChanges.put(key, null);
 		}
 		return old;
@@ -104,6 +111,7 @@ class ConfigData
 	{
 		patchChanges.putAll(values);
 		properties.putAll(values);
+		sortedKeys.addAll(values.keySet());
 	}
 
 	Set<String> keySet()
@@ -111,6 +119,26 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Get all keys which start with the given prefix, in sorted order
+	 *
+	 * @param prefix key prefix, eg. "group." or "group.rsprofile.xxx."
+	 * @return the matching keys
+	 */
+	List<String> keysWithPrefix(String prefix)
+	{
+		List<String> keys = new ArrayList<>();
+		for (String key : sortedKeys.tailSet(prefix, true))
+		{
+			if (!key.startsWith(prefix))
+			{
+				break;
+			}
+			keys.add(key);
+		}
+		return keys;
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
@@ -128,77 +156,69 @@ class ConfigData
 		return p;
 	}
 
+	/**
+	 * Write a patch to disk. This appends the patch to the journal of the config, and blocks
+	 * only for the size of the patch.
+	 *
+	 * @param patch the patch
+	 */
 	void patch(Map<String, String> patch)
 	{
-		// load + patch + store instead of just flushing the in-memory properties to disk so that
-		// multiple clients editing one config data (such as rs profile config) get their data merged
-		// correctly
-
-		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
-		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
-			FileChannel lckChannel = lockOut.getChannel())
+		// the patch is appended to a journal shared by every client using this config instead of flushing
+		// the in-memory properties to disk, so that multiple clients editing one config data (such as rs
+		// profile config) get their data merged correctly
+		try
+		{
+			ConfigStorage.append(configPath, patch, properties);
+		}
+		catch (IOException ex)
 		{
-			lckChannel.lock();
+			log.error("unable to save configuration file", ex);
+		}
+	}
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-			{
-				tempProps.load(reader);
-			}
-			catch (FileNotFoundException e)
-			{
-				log.debug("config file {} does not exist", configPath);
-			}
+	/**
+	 * Write a patch to disk, and schedule the journal to be compacted on the given executor
+	 *
+	 * @param patch the patch
+	 * @param executor executor to compact the journal on
+	 */
+	void patch(Map<String, String> patch, ScheduledExecutorService executor)
+	{
+		patch(patch);
 
-			if (tempProps.isEmpty())
-			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
-			}
-			else
+		if (compactQueued.compareAndSet(false, true))
+		{
+			// compact soon after a large journal, otherwise wait for further patches to fold in with this one
+			long delay = ConfigStorage.journalFile(configPath).length() >= JOURNAL_COMPACT_SIZE ? 0 : COMPACT_DELAY_SECONDS;
+			try
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				executor.schedule(() ->
 				{
-					if (entry.getValue() == null)
-					{
-						tempProps.remove(entry.getKey());
-					}
-					else
-					{
-						tempProps.put(entry.getKey(), entry.getValue());
-					}
-				}
+					compactQueued.set(false);
+					compact();
+				}, delay, TimeUnit.SECONDS);
 			}
-
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+			catch (RejectedExecutionException ex)
 			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
+				log.debug("unable to schedule config compaction", ex);
+				compactQueued.set(false);
 			}
+		}
+	}
 
-			try
-			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
-			}
-			catch (AtomicMoveNotSupportedException ex)
-			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
-			}
+	/**
+	 * Fold the journal into the snapshot and rewrite the properties file
+	 */
+	void compact()
+	{
+		try
+		{
+			ConfigStorage.compact(configPath);
 		}
 		catch (IOException ex)
 		{
-			log.error("unable to save configuration file", ex);
+			log.error("unable to compact configuration file", ex);
 		}
-		lckFile.delete();
 	}
 }
@@ -118,6 +118,7 @@ public class ConfigManager
 	private final ConfigClient configClient;
 	private final ProfileManager profileManager;
 	private final SessionManager sessionManager;
+	private final ScheduledExecutorService scheduledExecutorService;
 
 	private final ConfigInvocationHandler handler = new ConfigInvocationHandler(this);
 
@@ -152,6 +153,7 @@ public class ConfigManager
 		this.configClient = configClient;
 		this.profileManager = profileManager;
 		this.sessionManager = sessionManager;
+		this.scheduledExecutorService = scheduledExecutorService;
 
 		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::sendConfig), 30 + (int) (5 * 60 * Math.random()), 5 * 60, TimeUnit.SECONDS);
 	}
@@ -734,12 +736,9 @@ public class ConfigManager
 				}
 
 				File configFile = ProfileManager.profileConfigFile(profile);
-				// remote configuration replaces local
-				configFile.delete();
-
-				ConfigData configData = new ConfigData(configFile);
-				configData.putAll(remoteConfiguration.getConfig());
-				configData.patch(configData.swapChanges());
+				// remote configuration replaces local. This is under the same file lock as journal appends,
+				// so no patch from this or another client can land on top of the old config afterwards
+				ConfigStorage.replace(configFile, remoteConfiguration.getConfig());
 
 				log.debug("synced remote profile {} rev {} to disk", profile, remoteConfiguration.getRev());
 				profile.setRev(remoteConfiguration.getRev());
@@ -769,9 +768,7 @@ public class ConfigManager
 
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return configProfile.keysWithPrefix(prefix);
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -783,11 +780,12 @@ public class ConfigManager
 
 		assert profile.startsWith(RSPROFILE_GROUP);
 
-		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
-			.collect(Collectors.toList());
+		// the key starts after group.profile., so there is no need to split each matching key
+		String groupProfilePrefix = group + "." + profile + ".";
+		int keyStart = groupProfilePrefix.length();
+		List<String> keys = rsProfileConfigProfile.keysWithPrefix(groupProfilePrefix + keyPrefix);
+		keys.replaceAll(k -> k.substring(keyStart));
+		return keys;
 	}
 
 	public static String getWholeKey(String groupName, String profile, String key)
@@ -1432,7 +1430,28 @@ public class ConfigManager
 			}
 		}
 
-		data.patch(patch);
+		// written under the profile lock, so the patch is on disk before the new rev is
+		data.patch(patch, scheduledExecutorService);
+	}
+
+	/**
+	 * Write the config of a profile to a properties file, such as for an export. The config of
+	 * the active profiles should be saved with {@link #sendConfig()} first.
+	 *
+	 * @param profile the profile
+	 * @param file the properties file to write
+	 * @return false if the profile has no config
+	 */
+	public boolean exportProfile(ConfigProfile profile, File file) throws IOException
+	{
+		File configFile = ProfileManager.profileConfigFile(profile);
+		if (!ConfigStorage.exists(configFile))
+		{
+			return false;
+		}
+
+		ConfigStorage.export(configFile, file);
+		return true;
 	}
 
 	private static ConfigPatch buildConfigPatch(@Nullable String profileName, Map<String, String> patchChanges)
@@ -1460,13 +1479,8 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		for (String key : rsProfileConfigProfile.keysWithPrefix(prefix))
 		{
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
 			if (split == null)
 			{
@@ -0,0 +1,605 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores a config as a binary snapshot plus an append-only journal of patches, with the
+ * properties file kept as an export of the config.
+ * <p>
+ * Saving appends the patch to the journal, which costs the size of the patch instead of the
+ * size of the config. Every client using a config appends to the same journal under the file
+ * lock, so clients sharing a config (such as the rs profile config) still get their changes
+ * merged. {@link #compact(File)} folds the journal back into the snapshot and rewrites the
+ * properties file.
+ * <p>
+ * The snapshot records the size and modification time of the properties file it was written
+ * with. If the properties file has changed since, for example because it was edited by hand or
+ * written by an older client, the properties file is loaded instead of the snapshot.
+ */
+@Slf4j
+final class ConfigStorage
+{
+	private static final int SNAPSHOT_MAGIC = 0x524c4353; // RLCS
+	private static final int SNAPSHOT_VERSION = 1;
+	private static final int MAX_JOURNAL_RECORD_SIZE = 64 * 1024 * 1024;
+
+	// file locks are held by the whole jvm and overlapping locks throw, so access is first
+	// serialized between threads with a lock per config
+	private static final Map<File, Object> LOCKS = new ConcurrentHashMap<>();
+
+	private ConfigStorage()
+	{
+	}
+
+	static File snapshotFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".snapshot");
+	}
+
+	static File journalFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".journal");
+	}
+
+	/**
+	 * @return whether any of the files of the config exist
+	 */
+	static boolean exists(File configPath)
+	{
+		return configPath.exists() || snapshotFile(configPath).exists() || journalFile(configPath).exists();
+	}
+
+	/**
+	 * Load a config
+	 *
+	 * @param configPath properties file of the config
+	 * @return the config
+	 */
+	static Map<String, String> load(File configPath) throws IOException
+	{
+		if (!snapshotFile(configPath).exists() && !journalFile(configPath).exists())
+		{
+			// a plain properties file, such as an import or a config which was never saved by this client
+			return loadProperties(configPath);
+		}
+
+		// read the snapshot and journal under the lock to not observe a half finished compaction
+		Map<String, String> config = new HashMap<>();
+		locked(configPath, () -> config.putAll(read(configPath)));
+		return config;
+	}
+
+	/**
+	 * Append a patch to the journal of a config
+	 *
+	 * @param configPath properties file of the config
+	 * @param patch the patch, with null values for unset keys
+	 * @param config the full config, which is written instead of the patch if none of the files of
+	 * the config exist
+	 */
+	static void append(File configPath, Map<String, String> patch, Map<String, String> config) throws IOException
+	{
+		locked(configPath, () ->
+		{
+			if (!exists(configPath))
+			{
+				// this probably doesn't happen outside of the very first save (when no file exists)
+				// but to be safe in the event the config is deleted off disk, write the entire config
+				// from memory
+				write(configPath, config);
+				return;
+			}
+
+			appendJournal(journalFile(configPath), patch);
+		});
+	}
+
+	/**
+	 * Fold the journal of a config into its snapshot and rewrite its properties file
+	 *
+	 * @param configPath properties file of the config
+	 */
+	static void compact(File configPath) throws IOException
+	{
+		locked(configPath, () ->
+		{
+			File journalPath = journalFile(configPath);
+			if (!journalPath.exists() && snapshotFile(configPath).exists())
+			{
+				return;
+			}
+
+			write(configPath, read(configPath));
+
+			// if this fails the journal is just replayed again on top of the new snapshot, which has no effect
+			Files.deleteIfExists(journalPath.toPath());
+			log.debug("compacted config {}", configPath);
+		});
+	}
+
+	/**
+	 * Replace all of a config
+	 *
+	 * @param configPath properties file of the config
+	 * @param config the new config
+	 */
+	static void replace(File configPath, Map<String, String> config) throws IOException
+	{
+		locked(configPath, () ->
+		{
+			write(configPath, config);
+			Files.deleteIfExists(journalFile(configPath).toPath());
+		});
+	}
+
+	/**
+	 * Write a config to a properties file outside of the config storage, such as an export
+	 *
+	 * @param configPath properties file of the config
+	 * @param to file to write
+	 */
+	static void export(File configPath, File to) throws IOException
+	{
+		Map<String, String> config = load(configPath);
+		storeProperties(to, config);
+	}
+
+	/**
+	 * Move all of the files of a config
+	 *
+	 * @param from properties file of the config
+	 * @param to new properties file of the config
+	 */
+	static void move(File from, File to) throws IOException
+	{
+		locked(from, () ->
+		{
+			// the properties file is moved last, as a snapshot without its properties file is ignored
+			moveIfExists(journalFile(from), journalFile(to));
+			moveIfExists(snapshotFile(from), snapshotFile(to));
+			moveIfExists(from, to);
+		});
+	}
+
+	private static void moveIfExists(File from, File to) throws IOException
+	{
+		try
+		{
+			Files.move(from.toPath(), to.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (NoSuchFileException ignored)
+		{
+		}
+	}
+
+	private interface IORunnable
+	{
+		void run() throws IOException;
+	}
+
+	private static void locked(File configPath, IORunnable runnable) throws IOException
+	{
+		Object lock = LOCKS.computeIfAbsent(configPath.getAbsoluteFile(), k -> new Object());
+		synchronized (lock)
+		{
+			File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+			try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+				FileChannel lckChannel = lockOut.getChannel())
+			{
+				lckChannel.lock();
+				runnable.run();
+			}
+			finally
+			{
+				lckFile.delete();
+			}
+		}
+	}
+
+	private static Map<String, String> read(File configPath) throws IOException
+	{
+		Map<String, String> config = readSnapshot(configPath);
+		if (config == null)
+		{
+			config = loadProperties(configPath);
+		}
+
+		File journalPath = journalFile(configPath);
+		try (FileInputStream in = new FileInputStream(journalPath);
+			DataInputStream journal = new DataInputStream(new BufferedInputStream(in)))
+		{
+			replayJournal(journal, config);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config journal {} does not exist", journalPath);
+		}
+		return config;
+	}
+
+	private static void write(File configPath, Map<String, String> config) throws IOException
+	{
+		// the properties file is written first, so that the snapshot can record it
+		storeProperties(configPath, config);
+		writeSnapshot(configPath, config);
+	}
+
+	private static Map<String, String> loadProperties(File configPath) throws IOException
+	{
+		Properties props = new Properties();
+		try (FileInputStream in = new FileInputStream(configPath);
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config file {} does not exist", configPath);
+		}
+
+		Map<String, String> config = new HashMap<>(props.size());
+		props.forEach((k, v) -> config.put((String) k, (String) v));
+		return config;
+	}
+
+	private static void storeProperties(File configPath, Map<String, String> config) throws IOException
+	{
+		Properties props = new Properties();
+		props.putAll(config);
+
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile);
+			FileChannel channel = out.getChannel();
+			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			channel.lock();
+			props.store(writer, "RuneLite configuration");
+			writer.flush();
+			channel.force(true);
+		}
+
+		replaceFile(tempFile, configPath);
+	}
+
+	private static void replaceFile(File tempFile, File file) throws IOException
+	{
+		try
+		{
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/*
+	 * The snapshot is:
+	 * int magic, int version, long properties file length, long properties file modification time,
+	 * int entry count, then for each entry: key, value
+	 * followed by the crc32 of everything before it. Strings are an int length (-1 for null) and utf-8 bytes.
+	 */
+
+	private static void writeSnapshot(File configPath, Map<String, String> config) throws IOException
+	{
+		File snapshotPath = snapshotFile(configPath);
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile))
+		{
+			CRC32 crc = new CRC32();
+			DataOutputStream snapshot = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(out, crc)));
+			snapshot.writeInt(SNAPSHOT_MAGIC);
+			snapshot.writeInt(SNAPSHOT_VERSION);
+			snapshot.writeLong(configPath.length());
+			snapshot.writeLong(configPath.lastModified());
+			snapshot.writeInt(config.size());
+			for (Map.Entry<String, String> entry : config.entrySet())
+			{
+				writeString(snapshot, entry.getKey());
+				writeString(snapshot, entry.getValue());
+			}
+			snapshot.flush();
+
+			new DataOutputStream(out).writeInt((int) crc.getValue());
+			out.getChannel().force(true);
+		}
+
+		replaceFile(tempFile, snapshotPath);
+	}
+
+	/**
+	 * @return the config in the snapshot, or null if there is no valid snapshot for the current properties file
+	 */
+	@Nullable
+	private static Map<String, String> readSnapshot(File configPath) throws IOException
+	{
+		File snapshotPath = snapshotFile(configPath);
+		byte[] bytes;
+		try
+		{
+			bytes = Files.readAllBytes(snapshotPath.toPath());
+		}
+		catch (NoSuchFileException e)
+		{
+			return null;
+		}
+
+		if (bytes.length < 4)
+		{
+			log.warn("config snapshot {} is truncated", snapshotPath);
+			return null;
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, bytes.length - 4);
+		if ((int) crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - 4, 4).getInt())
+		{
+			log.warn("config snapshot {} is corrupt", snapshotPath);
+			return null;
+		}
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 4));
+		if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION)
+		{
+			log.warn("config snapshot {} has an unknown format", snapshotPath);
+			return null;
+		}
+
+		long length = in.readLong();
+		long lastModified = in.readLong();
+		if (length != configPath.length() || lastModified != configPath.lastModified())
+		{
+			log.info("config file {} was changed outside of the client, loading it instead of the snapshot", configPath);
+			return null;
+		}
+
+		int count = in.readInt();
+		Map<String, String> config = new HashMap<>(count);
+		for (int i = 0; i < count; ++i)
+		{
+			config.put(readString(in), readString(in));
+		}
+		return config;
+	}
+
+	/*
+	 * The journal is a sequence of records, one per patch:
+	 * int payload length, int payload crc32, payload, int payload length
+	 * where the payload is:
+	 * int entry count, then for each entry: key, value (null for unset)
+	 * The trailing length allows the last record to be found and checked without reading the whole
+	 * journal. Reading stops at the first incomplete or corrupt record, which is what a crash in the
+	 * middle of an append leaves behind.
+	 */
+
+	private static void appendJournal(File journalPath, Map<String, String> patch) throws IOException
+	{
+		ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(payloadBytes);
+		payload.writeInt(patch.size());
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			writeString(payload, entry.getKey());
+			writeString(payload, entry.getValue());
+		}
+
+		byte[] data = payloadBytes.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(data);
+
+		ByteBuffer record = ByteBuffer.allocate(12 + data.length);
+		record.putInt(data.length);
+		record.putInt((int) crc.getValue());
+		record.put(data);
+		record.putInt(data.length);
+		record.flip();
+
+		try (FileChannel channel = FileChannel.open(journalPath.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			long end = channel.size();
+			if (!isLastRecordValid(channel, end))
+			{
+				// drop a torn record from a previous crash, otherwise this record would be unreachable behind it.
+				// the stream isn't closed, since that would close the channel
+				channel.position(0);
+				DataInputStream journal = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+				end = replayJournal(journal, null);
+				log.warn("truncating config journal {} from {} to {} bytes", journalPath, channel.size(), end);
+				channel.truncate(end);
+			}
+
+			channel.position(end);
+			while (record.hasRemaining())
+			{
+				channel.write(record);
+			}
+			channel.force(true);
+		}
+	}
+
+	private static boolean isLastRecordValid(FileChannel channel, long end) throws IOException
+	{
+		if (end == 0)
+		{
+			return true;
+		}
+		if (end < 16)
+		{
+			return false;
+		}
+
+		ByteBuffer trailer = ByteBuffer.allocate(4);
+		channel.read(trailer, end - 4);
+		int length = trailer.getInt(0);
+		if (length < 4 || length > end - 12)
+		{
+			return false;
+		}
+
+		ByteBuffer record = ByteBuffer.allocate(8 + length);
+		long start = end - 12 - length;
+		while (record.hasRemaining())
+		{
+			if (channel.read(record, start + record.position()) < 0)
+			{
+				return false;
+			}
+		}
+		if (record.getInt(0) != length)
+		{
+			return false;
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(record.array(), 8, length);
+		return (int) crc.getValue() == record.getInt(4);
+	}
+
+	/**
+	 * Apply the records of a journal to a config
+	 *
+	 * @param journal journal input
+	 * @param config config to apply the records to, or null to only validate the journal
+	 * @return the length of the valid prefix of the journal
+	 */
+	private static long replayJournal(DataInputStream journal, @Nullable Map<String, String> config) throws IOException
+	{
+		long valid = 0;
+		CRC32 crc = new CRC32();
+		for (;;)
+		{
+			byte[] payload;
+			int expectedCrc;
+			try
+			{
+				int length = journal.readInt();
+				expectedCrc = journal.readInt();
+				if (length < 4 || length > MAX_JOURNAL_RECORD_SIZE)
+				{
+					return valid;
+				}
+
+				payload = new byte[length];
+				journal.readFully(payload);
+				if (journal.readInt() != length)
+				{
+					return valid;
+				}
+			}
+			catch (EOFException e)
+			{
+				return valid;
+			}
+
+			crc.reset();
+			crc.update(payload);
+			if ((int) crc.getValue() != expectedCrc)
+			{
+				return valid;
+			}
+
+			if (config != null)
+			{
+				DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+				int count = in.readInt();
+				for (int i = 0; i < count; ++i)
+				{
+					String key = readString(in);
+					String value = readString(in);
+					if (value == null)
+					{
+						config.remove(key);
+					}
+					else
+					{
+						config.put(key, value);
+					}
+				}
+			}
+
+			valid += 12 + payload.length;
+		}
+	}
+
+	private static void writeString(DataOutputStream out, @Nullable String s) throws IOException
+	{
+		if (s == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	@Nullable
+	private static String readString(DataInputStream in) throws IOException
+	{
+		int length = in.readInt();
+		if (length == -1)
+		{
+			return null;
+		}
+
+		byte[] b = new byte[length];
+		in.readFully(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+}
@@ -199,7 +199,7 @@ public class ProfileManager
 			modified = true;
 			File newFile = profileConfigFile(profile);
 
-			if (!oldFile.exists())
+			if (!ConfigStorage.exists(oldFile))
 			{
 				// no config file is valid if the profile hasn't been used yet.
 				log.info("Old profile file {} does not exist", oldFile.getName());
@@ -208,11 +208,7 @@ public class ProfileManager
 
 			try
 			{
-				Files.move(
-					oldFile.toPath(),
-					newFile.toPath(),
-					StandardCopyOption.REPLACE_EXISTING
-				);
+				ConfigStorage.move(oldFile, newFile);
 				log.info("Renamed profile file {} to {}", oldFile.getName(), newFile.getName());
 			}
 			catch (IOException e)
@@ -35,12 +35,22 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -62,6 +72,18 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		@Getter(AccessLevel.NONE)
+		private final LongAdder count = new LongAdder();
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		@Getter(AccessLevel.NONE)
+		private final LongAdder totalNanos = new LongAdder();
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		@Getter(AccessLevel.NONE)
+		private final AtomicLong maxNanos = new AtomicLong();
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -74,10 +96,60 @@ public class EventBus
 				method.invoke(object, arg);
 			}
 		}
+
+		/**
+		 * @return true if this is the slowest invocation of the subscriber
+		 */
+		boolean record(final long nanos)
+		{
+			count.increment();
+			totalNanos.add(nanos);
+
+			for (long max = maxNanos.get(); nanos > max; max = maxNanos.get())
+			{
+				if (maxNanos.compareAndSet(max, nanos))
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+
+		String getName()
+		{
+			return method != null
+				? method.getDeclaringClass().getName() + "." + method.getName()
+				: object.getClass().getName();
+		}
+	}
+
+	@Value
+	public static class Timing
+	{
+		String event;
+		String subscriber;
+		long count;
+		long totalNanos;
+		long maxNanos;
 	}
 
 	private final Consumer<Throwable> exceptionHandler;
 
+	/**
+	 * Whether the time each subscriber takes to handle its events is recorded
+	 */
+	@Getter
+	@Setter
+	private volatile boolean profiling;
+
+	/**
+	 * The time in nanoseconds a subscriber may take to handle an event before it is logged when profiling,
+	 * or 0 to not log slow subscribers
+	 */
+	@Getter
+	@Setter
+	private volatile long slowSubscriberThreshold;
+
 	@Nonnull
 	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
 
@@ -216,6 +288,12 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
+		if (profiling)
+		{
+			postProfiled(event);
+			return;
+		}
+
 		for (final Subscriber subscriber : subscribers.get(event.getClass()))
 		{
 			try
@@ -228,4 +306,57 @@ public class EventBus
 			}
 		}
 	}
+
+	private void postProfiled(final Object event)
+	{
+		final long threshold = slowSubscriberThreshold;
+		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		{
+			final long start = System.nanoTime();
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Exception e)
+			{
+				exceptionHandler.accept(e);
+			}
+
+			final long nanos = System.nanoTime() - start;
+			if (subscriber.record(nanos) && threshold > 0 && nanos > threshold)
+			{
+				log.warn("Subscriber {} took {}ms to handle {}", subscriber.getName(),
+					TimeUnit.NANOSECONDS.toMillis(nanos), event.getClass().getSimpleName());
+			}
+		}
+	}
+
+	/**
+	 * Get the recorded subscriber timings, for subscribers which have been invoked while profiling
+	 */
+	public List<Timing> getTimings()
+	{
+		final List<Timing> timings = new ArrayList<>();
+		for (Map.Entry<Class<?>, Subscriber> entry : subscribers.entries())
+		{
+			final Subscriber subscriber = entry.getValue();
+			final long count = subscriber.count.sum();
+			if (count > 0)
+			{
+				timings.add(new Timing(entry.getKey().getSimpleName(), subscriber.getName(), count,
+					subscriber.totalNanos.sum(), subscriber.maxNanos.get()));
+			}
+		}
+		return timings;
+	}
+
+	public void resetTimings()
+	{
+		for (Subscriber subscriber : subscribers.values())
+		{
+			subscriber.count.reset();
+			subscriber.totalNanos.reset();
+			subscriber.maxNanos.set(0);
+		}
+	}
 }
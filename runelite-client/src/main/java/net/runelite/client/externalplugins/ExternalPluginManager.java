@@ -28,9 +28,7 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
-import com.google.common.hash.Hashing;
-import com.google.common.hash.HashingInputStream;
-import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import java.io.File;
 import java.io.IOException;
@@ -46,8 +44,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -66,19 +70,16 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginInstantiationException;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.ui.SplashScreen;
-import net.runelite.client.util.CountingInputStream;
 import net.runelite.client.util.Text;
 import net.runelite.client.util.VerificationException;
-import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 
 @Singleton
 @Slf4j
 public class ExternalPluginManager
 {
 	private static final String PLUGIN_LIST_KEY = "externalPlugins";
+	private static final int MAX_PARALLEL_DOWNLOADS = 4;
 	private static Class<? extends Plugin>[] builtinExternals = null;
 
 	@Inject
@@ -90,8 +91,8 @@ public class ExternalPluginManager
 	private final ScheduledExecutorService executor;
 	private final PluginManager pluginManager;
 	private final EventBus eventBus;
-	private final OkHttpClient okHttpClient;
 	private final Gson gson;
+	private final PluginHubDownloader pluginHubDownloader;
 
 	@Inject
 	private ExternalPluginManager(
@@ -109,8 +110,8 @@ public class ExternalPluginManager
 		this.executor = executor;
 		this.pluginManager = pluginManager;
 		this.eventBus = eventBus;
-		this.okHttpClient = okHttpClient;
 		this.gson = gson;
+		this.pluginHubDownloader = new PluginHubDownloader(okHttpClient);
 
 		executor.scheduleWithFixedDelay(() -> externalPluginClient.submitPlugins(getInstalledExternalPlugins()),
 			new Random().nextInt(60), 180, TimeUnit.MINUTES);
@@ -187,13 +188,13 @@ public class ExternalPluginManager
 
 			RuneLite.PLUGINS_DIR.mkdirs();
 
+			Set<PluginHubManifest.JarData> needsDownload = new HashSet<>();
 			try
 			{
 				PluginHubManifest.ManifestLite manifest = externalPluginClient.downloadManifestLite();
 				Map<String, PluginHubManifest.JarData> manifests = manifest.getJars()
 					.stream().collect(ImmutableMap.toImmutableMap(PluginHubManifest.JarData::getInternalName, Function.identity()));
 
-				Set<PluginHubManifest.JarData> needsDownload = new HashSet<>();
 				Set<File> keep = new HashSet<>();
 
 				for (String name : installedIDs)
@@ -207,6 +208,8 @@ public class ExternalPluginManager
 						if (!jarData.isValid())
 						{
 							needsDownload.add(jarData);
+							// keep any partial download so it can be resumed
+							keep.add(PluginHubDownloader.partFile(jarData.getJarFile()));
 						}
 						else
 						{
@@ -227,35 +230,6 @@ public class ExternalPluginManager
 						}
 					}
 				}
-
-				int toDownload = needsDownload.stream().mapToInt(PluginHubManifest.JarData::getJarSize).sum();
-				int downloaded = 0;
-
-				for (PluginHubManifest.JarData jarData : needsDownload)
-				{
-					HttpUrl url = externalPluginClient.getJarURL(jarData);
-
-					try (Response res = okHttpClient.newCall(new Request.Builder().url(url).build()).execute())
-					{
-						int fdownloaded = downloaded;
-						downloaded += jarData.getJarSize();
-						HashingInputStream his = new HashingInputStream(Hashing.sha256(),
-							new CountingInputStream(res.body().byteStream(), i ->
-								SplashScreen.stage(splashStart + (splashLength * .2), splashStart + (splashLength * .8),
-									null, "Downloading " + jarData.getDisplayName(),
-									i + fdownloaded, toDownload, true)));
-						Files.asByteSink(jarData.getJarFile()).writeFrom(his);
-						if (!PluginHubManifest.HASH_ENCODER.encodeToString(his.hash().asBytes()).equals(jarData.getJarHash()))
-						{
-							throw new VerificationException("Plugin " + jarData.getInternalName() + " didn't match its hash");
-						}
-					}
-					catch (IOException | VerificationException e)
-					{
-						externalPlugins.remove(jarData);
-						log.error("Unable to download external plugin \"{}\"", jarData.getInternalName(), e);
-					}
-				}
 			}
 			catch (IOException | VerificationException e)
 			{
@@ -263,126 +237,118 @@ public class ExternalPluginManager
 				return;
 			}
 
-			SplashScreen.stage(splashStart + (splashLength * .8), null, "Starting external plugins");
-
-			// TODO(abex): make sure the plugins get fully removed from the scheduler/eventbus/other managers (iterate and check classloader)
-			Set<PluginHubManifest.JarData> add = new HashSet<>();
-			for (PluginHubManifest.JarData jarData : externalPlugins)
+			// start the downloads now so they run while plugins are stopped and the already downloaded ones are loaded
+			ExecutorService downloadExecutor = null;
+			CompletionService<PluginHubManifest.JarData> downloads = null;
+			if (!needsDownload.isEmpty())
 			{
-				if (loadedExternalPlugins.removeAll(jarData).size() <= 0)
-				{
-					add.add(jarData);
-				}
-			}
-			// list of loaded external plugins that aren't in the manifest
-			Collection<Plugin> remove = loadedExternalPlugins.values();
+				downloadExecutor = Executors.newFixedThreadPool(Math.min(needsDownload.size(), MAX_PARALLEL_DOWNLOADS),
+					new ThreadFactoryBuilder()
+						.setNameFormat("plugin-download-%d")
+						.setDaemon(true)
+						.build());
+				downloads = new ExecutorCompletionService<>(downloadExecutor);
 
-			for (Plugin p : remove)
-			{
-				log.info("Stopping external plugin \"{}\"", p.getClass());
-				try
+				int toDownload = needsDownload.stream().mapToInt(PluginHubManifest.JarData::getJarSize).sum();
+				AtomicInteger downloaded = new AtomicInteger();
+				for (PluginHubManifest.JarData jarData : needsDownload)
 				{
-					SwingUtilities.invokeAndWait(() ->
+					downloads.submit(() ->
 					{
+						int[] last = new int[1];
 						try
 						{
-							pluginManager.stopPlugin(p);
+							pluginHubDownloader.download(externalPluginClient.getJarURL(jarData), jarData.getJarFile(), jarData.getJarHash(), i ->
+							{
+								int total = downloaded.addAndGet(i - last[0]);
+								last[0] = i;
+								SplashScreen.stage(splashStart + (splashLength * .2), splashStart + (splashLength * .8),
+									null, "Downloading " + jarData.getDisplayName(),
+									total, toDownload, true);
+							});
+							return jarData;
 						}
-						catch (Exception e)
+						catch (IOException | VerificationException e)
 						{
-							throw new RuntimeException(e);
+							log.error("Unable to download external plugin \"{}\"", jarData.getInternalName(), e);
+							return null;
 						}
 					});
 				}
-				catch (InterruptedException | InvocationTargetException e)
-				{
-					log.warn("Unable to stop external plugin \"{}\"", p.getClass().getName(), e);
-				}
-				pluginManager.remove(p);
 			}
 
-			for (PluginHubManifest.JarData jarData : add)
+			try
 			{
-				// I think this can't happen, but just in case
-				if (!jarData.isValid())
+				// TODO(abex): make sure the plugins get fully removed from the scheduler/eventbus/other managers (iterate and check classloader)
+				Set<PluginHubManifest.JarData> add = new HashSet<>();
+				for (PluginHubManifest.JarData jarData : externalPlugins)
 				{
-					log.warn("Invalid plugin for validated manifest: {}", jarData);
-					continue;
-				}
-
-				log.info("Loading external plugin \"{}\" jar \"{}\"", jarData.getInternalName(), jarData.getJarHash());
-
-				List<Plugin> newPlugins = null;
-				try
-				{
-					PluginHubClassLoader cl = new PluginHubClassLoader(jarData, new URL[]{jarData.getJarFile().toURI().toURL()}, gson);
-					if (Arrays.stream(cl.getStub().getPlugins()).anyMatch(builtinExternalClasses::contains))
-					{
-						log.debug("Skipping loading \"{}\" from hub as a conflicting builtin external is present", jarData.getInternalName());
-						continue;
-					}
-
-					List<Class<?>> clazzes = new ArrayList<>();
-					for (String className : cl.getStub().getPlugins())
+					if (loadedExternalPlugins.removeAll(jarData).size() <= 0)
 					{
-						clazzes.add(cl.loadClass(className));
+						add.add(jarData);
 					}
+				}
+				// list of loaded external plugins that aren't in the manifest
+				Collection<Plugin> remove = loadedExternalPlugins.values();
 
-					List<Plugin> newPlugins2 = newPlugins = pluginManager.loadPlugins(clazzes, null);
-					if (!startup)
+				for (Plugin p : remove)
+				{
+					log.info("Stopping external plugin \"{}\"", p.getClass());
+					try
 					{
-						pluginManager.loadDefaultPluginConfiguration(newPlugins);
-
 						SwingUtilities.invokeAndWait(() ->
 						{
 							try
 							{
-								for (Plugin p : newPlugins2)
-								{
-									pluginManager.startPlugin(p);
-								}
+								pluginManager.stopPlugin(p);
 							}
-							catch (PluginInstantiationException e)
+							catch (Exception e)
 							{
 								throw new RuntimeException(e);
 							}
 						});
 					}
+					catch (InterruptedException | InvocationTargetException e)
+					{
+						log.warn("Unable to stop external plugin \"{}\"", p.getClass().getName(), e);
+					}
+					pluginManager.remove(p);
 				}
-				catch (ThreadDeath e)
+
+				if (downloads == null)
 				{
-					throw e;
+					SplashScreen.stage(splashStart + (splashLength * .8), null, "Starting external plugins");
 				}
-				catch (Throwable e)
+
+				for (PluginHubManifest.JarData jarData : add)
 				{
-					log.warn("Unable to start or load external plugin \"{}\"", jarData.getInternalName(), e);
-					if (newPlugins != null)
+					if (!needsDownload.contains(jarData))
 					{
-						for (Plugin p : newPlugins)
-						{
-							try
-							{
-								SwingUtilities.invokeAndWait(() ->
-								{
-									try
-									{
-										pluginManager.stopPlugin(p);
-									}
-									catch (Exception e2)
-									{
-										throw new RuntimeException(e2);
-									}
-								});
-							}
-							catch (InterruptedException | InvocationTargetException e2)
-							{
-								log.info("Unable to fully stop plugin \"{}\"", jarData.getInternalName(), e2);
-							}
-							pluginManager.remove(p);
-						}
+						loadPlugin(jarData, builtinExternalClasses, startup);
+					}
+				}
+
+				// load the remaining plugins in the order their downloads complete
+				for (int i = 0; i < needsDownload.size(); ++i)
+				{
+					PluginHubManifest.JarData jarData = downloads.take().get();
+					if (jarData != null && add.contains(jarData))
+					{
+						loadPlugin(jarData, builtinExternalClasses, startup);
 					}
 				}
 			}
+			catch (InterruptedException | ExecutionException e)
+			{
+				log.warn("Unable to load external plugins", e);
+			}
+			finally
+			{
+				if (downloadExecutor != null)
+				{
+					downloadExecutor.shutdownNow();
+				}
+			}
 
 			if (!startup)
 			{
@@ -398,6 +364,89 @@ public class ExternalPluginManager
 		}
 	}
 
+	private void loadPlugin(PluginHubManifest.JarData jarData, Set<String> builtinExternalClasses, boolean startup)
+	{
+		// I think this can't happen, but just in case
+		if (!jarData.isValid())
+		{
+			log.warn("Invalid plugin for validated manifest: {}", jarData);
+			return;
+		}
+
+		log.info("Loading external plugin \"{}\" jar \"{}\"", jarData.getInternalName(), jarData.getJarHash());
+
+		List<Plugin> newPlugins = null;
+		try
+		{
+			PluginHubClassLoader cl = new PluginHubClassLoader(jarData, new URL[]{jarData.getJarFile().toURI().toURL()}, gson);
+			if (Arrays.stream(cl.getStub().getPlugins()).anyMatch(builtinExternalClasses::contains))
+			{
+				log.debug("Skipping loading \"{}\" from hub as a conflicting builtin external is present", jarData.getInternalName());
+				return;
+			}
+
+			List<Class<?>> clazzes = new ArrayList<>();
+			for (String className : cl.getStub().getPlugins())
+			{
+				clazzes.add(cl.loadClass(className));
+			}
+
+			List<Plugin> newPlugins2 = newPlugins = pluginManager.loadPlugins(clazzes, null);
+			if (!startup)
+			{
+				pluginManager.loadDefaultPluginConfiguration(newPlugins);
+
+				SwingUtilities.invokeAndWait(() ->
+				{
+					try
+					{
+						for (Plugin p : newPlugins2)
+						{
+							pluginManager.startPlugin(p);
+						}
+					}
+					catch (PluginInstantiationException e)
+					{
+						throw new RuntimeException(e);
+					}
+				});
+			}
+		}
+		catch (ThreadDeath e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			log.warn("Unable to start or load external plugin \"{}\"", jarData.getInternalName(), e);
+			if (newPlugins != null)
+			{
+				for (Plugin p : newPlugins)
+				{
+					try
+					{
+						SwingUtilities.invokeAndWait(() ->
+						{
+							try
+							{
+								pluginManager.stopPlugin(p);
+							}
+							catch (Exception e2)
+							{
+								throw new RuntimeException(e2);
+							}
+						});
+					}
+					catch (InterruptedException | InvocationTargetException e2)
+					{
+						log.info("Unable to fully stop plugin \"{}\"", jarData.getInternalName(), e2);
+					}
+					pluginManager.remove(p);
+				}
+			}
+		}
+	}
+
 	public List<String> getInstalledExternalPlugins()
 	{
 		String externalPluginsStr = configManager.getConfiguration(RuneLiteConfig.GROUP_NAME, PLUGIN_LIST_KEY);
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.externalplugins;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.StandardCopyOption;
+import java.util.function.IntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.CountingInputStream;
+import net.runelite.client.util.VerificationException;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Downloads plugin hub jars. A download is written to a .part file next to the jar, so that an
+ * interrupted download can be resumed with a range request, and the jar is only moved into place
+ * once its hash has been verified.
+ */
+@Slf4j
+class PluginHubDownloader
+{
+	private static final int HTTP_PARTIAL_CONTENT = 206;
+	private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
+	private final OkHttpClient okHttpClient;
+
+	PluginHubDownloader(OkHttpClient okHttpClient)
+	{
+		this.okHttpClient = okHttpClient;
+	}
+
+	/**
+	 * Download a jar
+	 *
+	 * @param url the url of the jar
+	 * @param jarFile where to save the jar
+	 * @param jarHash the expected hash of the jar
+	 * @param progress called with the number of bytes of the jar which have been downloaded,
+	 *                 including any bytes from a resumed download
+	 */
+	void download(HttpUrl url, File jarFile, String jarHash, IntConsumer progress) throws IOException, VerificationException
+	{
+		final File partFile = partFile(jarFile);
+		final long resumeFrom = partFile.length();
+
+		Request.Builder request = new Request.Builder().url(url);
+		if (resumeFrom > 0)
+		{
+			request.header("Range", "bytes=" + resumeFrom + "-");
+		}
+
+		try (Response res = okHttpClient.newCall(request.build()).execute())
+		{
+			if (resumeFrom > 0 && res.code() == HTTP_RANGE_NOT_SATISFIABLE)
+			{
+				// the part file is not a prefix of the jar, start over
+				log.debug("Unable to resume download of {}, restarting", jarFile.getName());
+				partFile.delete();
+				res.close();
+				download(url, jarFile, jarHash, progress);
+				return;
+			}
+
+			if (!res.isSuccessful())
+			{
+				throw new IOException("unsuccessful response fetching " + url + ": " + res.code());
+			}
+
+			final Hasher hasher = Hashing.sha256().newHasher();
+			final boolean resume = resumeFrom > 0 && res.code() == HTTP_PARTIAL_CONTENT;
+			if (resume)
+			{
+				String contentRange = res.header("Content-Range");
+				if (contentRange == null || !contentRange.startsWith("bytes " + resumeFrom + "-"))
+				{
+					partFile.delete();
+					throw new IOException("unexpected content range resuming " + url + ": " + contentRange);
+				}
+
+				log.debug("Resuming download of {} from {}", jarFile.getName(), resumeFrom);
+				Files.asByteSource(partFile).copyTo(Funnels.asOutputStream(hasher));
+			}
+
+			final int offset = resume ? (int) resumeFrom : 0;
+			try (InputStream in = new CountingInputStream(res.body().byteStream(), i -> progress.accept(offset + i));
+				OutputStream out = new FileOutputStream(partFile, resume))
+			{
+				byte[] buf = new byte[8192];
+				for (int n; (n = in.read(buf)) != -1; )
+				{
+					hasher.putBytes(buf, 0, n);
+					out.write(buf, 0, n);
+				}
+			}
+
+			if (!PluginHubManifest.HASH_ENCODER.encodeToString(hasher.hash().asBytes()).equals(jarHash))
+			{
+				partFile.delete();
+				throw new VerificationException("Plugin " + jarFile.getName() + " didn't match its hash");
+			}
+
+			java.nio.file.Files.move(partFile.toPath(), jarFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	static File partFile(File jarFile)
+	{
+		return new File(jarFile.getParentFile(), jarFile.getName() + ".part");
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk cache of rendered item icons, so that icons do not have to be rendered
+ * by the client again in later sessions. Icons are stored as deflated ARGB pixels,
+ * in a directory per client revision, and are keyed by item id, quantity and stackable.
+ * A fingerprint of the cache data the icon was rendered from is stored with each icon, and
+ * icons with a mismatched fingerprint are ignored.
+ * <p>
+ * Stacks have a distinct icon for every quantity under 100K, so the cache is bounded by
+ * size and by age, and the least recently used icons are deleted first.
+ */
+@Slf4j
+class ItemIconCache
+{
+	private static final int VERSION = 1;
+	private static final long MAX_SIZE = 32L * 1024 * 1024;
+	private static final long MAX_AGE = TimeUnit.DAYS.toMillis(30);
+	// how often the modification time of a read icon is updated, which is its last use
+	private static final long TOUCH_INTERVAL = TimeUnit.DAYS.toMillis(1);
+	// number of writes between checks of the cache size
+	private static final int PRUNE_INTERVAL = 256;
+
+	private final File directory;
+	private final long maxSize;
+	private int prunedRevision = -1;
+	private int writes;
+
+	ItemIconCache(File directory)
+	{
+		this(directory, MAX_SIZE);
+	}
+
+	@VisibleForTesting
+	ItemIconCache(File directory, long maxSize)
+	{
+		this.directory = directory;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Read a cached icon into the given image
+	 *
+	 * @return true if the icon was cached and has been read into the image
+	 */
+	boolean read(int revision, int itemId, int quantity, boolean stackable, int fingerprint, BufferedImage image)
+	{
+		final File file = iconFile(revision, itemId, quantity, stackable);
+		if (!file.exists())
+		{
+			return false;
+		}
+
+		try (DataInputStream in = new DataInputStream(new InflaterInputStream(new BufferedInputStream(new FileInputStream(file)))))
+		{
+			final int width = image.getWidth(), height = image.getHeight();
+			if (in.readInt() != VERSION || in.readInt() != fingerprint
+				|| in.readInt() != width || in.readInt() != height)
+			{
+				return false;
+			}
+
+			final int[] pixels = new int[width * height];
+			for (int i = 0; i < pixels.length; ++i)
+			{
+				pixels[i] = in.readInt();
+			}
+			image.setRGB(0, 0, width, height, pixels, 0, width);
+
+			final long now = System.currentTimeMillis();
+			if (now - file.lastModified() > TOUCH_INTERVAL)
+			{
+				file.setLastModified(now);
+			}
+			return true;
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to read cached icon {}", file, ex);
+			return false;
+		}
+	}
+
+	void write(int revision, int itemId, int quantity, boolean stackable, int fingerprint, BufferedImage image)
+	{
+		pruneRevisions(revision);
+
+		final File file = iconFile(revision, itemId, quantity, stackable);
+		final int width = image.getWidth(), height = image.getHeight();
+		final int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+		try
+		{
+			file.getParentFile().mkdirs();
+			File tempFile = File.createTempFile("icon", ".tmp", file.getParentFile());
+			try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))))
+			{
+				out.writeInt(VERSION);
+				out.writeInt(fingerprint);
+				out.writeInt(width);
+				out.writeInt(height);
+				for (int pixel : pixels)
+				{
+					out.writeInt(pixel);
+				}
+			}
+
+			try
+			{
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex)
+			{
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to write cached icon {}", file, ex);
+		}
+
+		pruneIcons(file.getParentFile());
+	}
+
+	/**
+	 * Delete icons which haven't been used for {@link #MAX_AGE}, then the least recently used
+	 * icons until the cache is under 3/4 of its maximum size, so that it isn't pruned again
+	 * right away. This lists the directory, so is only done every {@link #PRUNE_INTERVAL} writes.
+	 */
+	private synchronized void pruneIcons(File revisionDir)
+	{
+		if (writes++ % PRUNE_INTERVAL != 0)
+		{
+			return;
+		}
+
+		File[] files = revisionDir.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		final long now = System.currentTimeMillis();
+		List<File> icons = new ArrayList<>(files.length);
+		Map<File, Long> lastModified = new HashMap<>(files.length);
+		long size = 0;
+		int deleted = 0;
+		for (File f : files)
+		{
+			final long modified = f.lastModified();
+			if (now - modified > MAX_AGE)
+			{
+				deleted += f.delete() ? 1 : 0;
+				continue;
+			}
+
+			icons.add(f);
+			lastModified.put(f, modified);
+			size += f.length();
+		}
+
+		if (size > maxSize)
+		{
+			icons.sort(Comparator.comparingLong(lastModified::get));
+			for (File f : icons)
+			{
+				if (size <= maxSize * 3 / 4)
+				{
+					break;
+				}
+
+				final long length = f.length();
+				if (f.delete())
+				{
+					size -= length;
+					++deleted;
+				}
+			}
+		}
+
+		if (deleted > 0)
+		{
+			log.debug("Pruned {} item icons", deleted);
+		}
+	}
+
+	/**
+	 * Delete the icons of other client revisions, which will not be read again
+	 */
+	private synchronized void pruneRevisions(int revision)
+	{
+		if (prunedRevision == revision)
+		{
+			return;
+		}
+
+		prunedRevision = revision;
+		File[] revisionDirs = directory.listFiles();
+		if (revisionDirs == null)
+		{
+			return;
+		}
+
+		for (File revisionDir : revisionDirs)
+		{
+			if (revisionDir.getName().equals(Integer.toString(revision)))
+			{
+				continue;
+			}
+
+			File[] files = revisionDir.listFiles();
+			if (files != null)
+			{
+				for (File f : files)
+				{
+					f.delete();
+				}
+			}
+			revisionDir.delete();
+			log.debug("Pruned item icons from revision {}", revisionDir.getName());
+		}
+	}
+
+	private File iconFile(int revision, int itemId, int quantity, boolean stackable)
+	{
+		return new File(new File(directory, Integer.toString(revision)), itemId + "_" + quantity + (stackable ? "_s" : "") + ".icon");
+	}
+}
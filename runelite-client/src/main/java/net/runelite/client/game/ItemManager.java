@@ -24,6 +24,7 @@
  */
 package net.runelite.client.game;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -32,14 +33,17 @@ import com.google.inject.Inject;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Named;
@@ -50,13 +54,18 @@ import net.runelite.api.Client;
 import net.runelite.api.Constants;
 import static net.runelite.api.Constants.CLIENT_DEFAULT_ZOOM;
 import net.runelite.api.GameState;
+import net.runelite.api.IndexDataBase;
 import net.runelite.api.ItemComposition;
 import static net.runelite.api.ItemID.*;
 import net.runelite.api.SpritePixels;
 import net.runelite.api.widgets.ItemQuantityMode;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.util.AsyncBufferedImage;
+import net.runelite.client.util.ClientExecutors;
 import net.runelite.http.api.item.ItemPrice;
 
 @Singleton
@@ -83,6 +92,8 @@ public class ItemManager
 	private final ClientThread clientThread;
 	private final ItemClient itemClient;
 	private final RuneLiteConfig runeLiteConfig;
+	private final ExecutorService ioExecutor;
+	private final ItemIconCache itemIconCache = new ItemIconCache(ITEM_ICON_DIR);
 
 	@Inject(optional = true)
 	@Named("activePriceThreshold")
@@ -99,6 +110,10 @@ public class ItemManager
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
 
+	private static final File ITEM_ICON_DIR = new File(RuneLite.CACHE_DIR, "item-icons");
+	// enough for a full bank of icons
+	private static final long ITEM_IMAGE_CACHE_BYTES = 8L * 1024 * 1024;
+
 	// Worn items with weight reducing property have a different worn and inventory ItemID
 	private static final ImmutableMap<Integer, Integer> WORN_ITEMS = ImmutableMap.<Integer, Integer>builder().
 		put(BOOTS_OF_LIGHTNESS_89, BOOTS_OF_LIGHTNESS).
@@ -187,19 +202,21 @@ public class ItemManager
 		build();
 
 	@Inject
-	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
-		ItemClient itemClient, RuneLiteConfig runeLiteConfig)
+	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientExecutors clientExecutors,
+		ClientThread clientThread, ItemClient itemClient, RuneLiteConfig runeLiteConfig)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
+		this.ioExecutor = clientExecutors.getIo();
 
-		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
-		scheduledExecutorService.submit(this::loadStats);
+		scheduledExecutorService.scheduleWithFixedDelay(() -> ioExecutor.execute(this::loadPrices), 0, 30, TimeUnit.MINUTES);
+		ioExecutor.submit(this::loadStats);
 
 		itemImages = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+			.maximumWeight(ITEM_IMAGE_CACHE_BYTES)
+			.weigher((ImageKey k, AsyncBufferedImage img) -> img.getWidth() * img.getHeight() * 4)
 			.expireAfterAccess(1, TimeUnit.HOURS)
 			.build(new CacheLoader<>()
 			{
@@ -439,7 +456,7 @@ public class ItemManager
 	}
 
 	/**
-	 * Loads item sprite from game, makes transparent, and generates image
+	 * Loads item sprite from the icon cache, or from game, and generates image
 	 *
 	 * @param itemId
 	 * @return
@@ -453,19 +470,83 @@ public class ItemManager
 			{
 				return false;
 			}
-			SpritePixels sprite = client.createItemSprite(itemId, quantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
-				stackable ? ItemQuantityMode.ALWAYS : ItemQuantityMode.NEVER, false, CLIENT_DEFAULT_ZOOM);
-			if (sprite == null)
+
+			final int revision = client.getRevision();
+			final int fingerprint = iconFingerprint(client, client.getItemDefinition(itemId));
+			ioExecutor.execute(() ->
 			{
-				return false;
-			}
-			sprite.toBufferedImage(img);
-			img.loaded();
+				if (itemIconCache.read(revision, itemId, quantity, stackable, fingerprint, img))
+				{
+					clientThread.invoke(img::loaded);
+					return;
+				}
+
+				clientThread.invoke(() ->
+				{
+					if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+					{
+						return false;
+					}
+					SpritePixels sprite = client.createItemSprite(itemId, quantity, 1, SpritePixels.DEFAULT_SHADOW_COLOR,
+						stackable ? ItemQuantityMode.ALWAYS : ItemQuantityMode.NEVER, false, CLIENT_DEFAULT_ZOOM);
+					if (sprite == null)
+					{
+						return false;
+					}
+					sprite.toBufferedImage(img);
+					img.loaded();
+					ioExecutor.execute(() -> itemIconCache.write(revision, itemId, quantity, stackable, fingerprint, img));
+					return true;
+				});
+			});
 			return true;
 		});
 		return img;
 	}
 
+	/**
+	 * Hash the cache data an item icon is rendered from: the raw definition of the item, of the
+	 * item it is a note or placeholder of, and of the note or placeholder template, and the raw
+	 * inventory model. Cache updates do not change the client revision, so this is what detects
+	 * a stale cached icon.
+	 */
+	@VisibleForTesting
+	static int iconFingerprint(Client client, ItemComposition itemComposition)
+	{
+		final IndexDataBase configs = client.getIndexConfig();
+		final CRC32 crc = new CRC32();
+		updateFingerprint(crc, configs.loadData(ConfigType.ITEM.getId(), itemComposition.getId()));
+		if (itemComposition.getNote() != -1)
+		{
+			updateFingerprint(crc, configs.loadData(ConfigType.ITEM.getId(), itemComposition.getNote()));
+			updateFingerprint(crc, configs.loadData(ConfigType.ITEM.getId(), itemComposition.getLinkedNoteId()));
+		}
+		if (itemComposition.getPlaceholderTemplateId() != -1)
+		{
+			updateFingerprint(crc, configs.loadData(ConfigType.ITEM.getId(), itemComposition.getPlaceholderTemplateId()));
+			updateFingerprint(crc, configs.loadData(ConfigType.ITEM.getId(), itemComposition.getPlaceholderId()));
+		}
+		// notes and placeholders have the model of the item they are of
+		updateFingerprint(crc, client.getIndex(IndexType.MODELS.getNumber()).loadData(itemComposition.getInventoryModel(), 0));
+		return (int) crc.getValue();
+	}
+
+	private static void updateFingerprint(CRC32 crc, @Nullable byte[] data)
+	{
+		if (data == null)
+		{
+			crc.update(0);
+			return;
+		}
+
+		// the length separates the data of each file
+		crc.update(data.length >>> 24);
+		crc.update(data.length >>> 16);
+		crc.update(data.length >>> 8);
+		crc.update(data.length);
+		crc.update(data);
+	}
+
 	/**
 	 * Get item sprite image as BufferedImage.
 	 * <p>
@@ -496,7 +577,7 @@ public class ItemManager
 	{
 		try
 		{
-			return itemImages.get(new ImageKey(itemId, quantity, stackable));
+			return itemImages.get(new ImageKey(itemId, iconQuantity(quantity), stackable));
 		}
 		catch (ExecutionException ex)
 		{
@@ -504,6 +585,31 @@ public class ItemManager
 		}
 	}
 
+	/**
+	 * Get the quantity to render an icon with, so that quantities which render identical icons
+	 * share one icon. Quantity text of 100K and over is drawn as thousands, and of 10M and over
+	 * as millions. Item models only vary with quantities which fit in an unsigned short, so they
+	 * are the same above 100K.
+	 *
+	 * @param quantity item quantity
+	 * @return the lowest quantity with the same icon
+	 */
+	static int iconQuantity(int quantity)
+	{
+		if (quantity < 100_000)
+		{
+			return quantity;
+		}
+		else if (quantity < 10_000_000)
+		{
+			return quantity - quantity % 1_000;
+		}
+		else
+		{
+			return quantity - quantity % 1_000_000;
+		}
+	}
+
 	/**
 	 * Create item sprite and applies an outline.
 	 *
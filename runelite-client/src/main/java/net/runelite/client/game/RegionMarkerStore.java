@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.primitives.Ints;
+import com.google.gson.Gson;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+
+/**
+ * Storage for markers which are saved per region as json in the config, under region_&lt;id&gt;
+ * keys, such as ground markers and object markers.
+ * <p>
+ * Decoded regions are kept in an LRU cache, so reloading the markers on a map region change
+ * does not decode any json for recently visited regions. Each region indexes its points by tile,
+ * so checking a tile for markers does not scan the region. The store must be registered on
+ * the event bus to see config changes, including those from profile switches.
+ *
+ * @param <T> the marker point type
+ */
+@Slf4j
+public class RegionMarkerStore<T>
+{
+	private static final String REGION_PREFIX = "region_";
+
+	private final ConfigManager configManager;
+	private final Gson gson;
+	private final String configGroup;
+	private final Type listType;
+	private final ToIntFunction<T> tile;
+	private final Predicate<T> filter;
+
+	private final Cache<Integer, Region<T>> regions = CacheBuilder.newBuilder()
+		.maximumSize(64L)
+		.build();
+
+	/**
+	 * @param configManager config manager
+	 * @param gson gson
+	 * @param configGroup config group the regions are stored in
+	 * @param listType type of a {@code List<T>}, used for decoding regions
+	 * @param tile function to get the packed tile of a point, see {@link #packTile(int, int, int)}
+	 * @param filter predicate for which decoded points to keep
+	 */
+	public RegionMarkerStore(ConfigManager configManager, Gson gson, String configGroup, Type listType, ToIntFunction<T> tile, Predicate<T> filter)
+	{
+		this.configManager = configManager;
+		this.gson = gson;
+		this.configGroup = configGroup;
+		this.listType = listType;
+		this.tile = tile;
+		this.filter = filter;
+	}
+
+	/**
+	 * Pack a region-relative tile into a single int
+	 *
+	 * @param regionX x coordinate in the region, 0-63
+	 * @param regionY y coordinate in the region, 0-63
+	 * @param plane plane, 0-3
+	 * @return the packed tile
+	 */
+	public static int packTile(int regionX, int regionY, int plane)
+	{
+		return plane << 12 | regionX << 6 | regionY;
+	}
+
+	/**
+	 * Get the markers of a region, decoding them from the config if they are not cached
+	 *
+	 * @param regionId region id
+	 * @return the region
+	 */
+	public synchronized Region<T> get(int regionId)
+	{
+		Region<T> region = regions.getIfPresent(regionId);
+		if (region == null)
+		{
+			String json = configManager.getConfiguration(configGroup, REGION_PREFIX + regionId);
+			region = decode(json);
+			regions.put(regionId, region);
+		}
+		return region;
+	}
+
+	/**
+	 * Save the markers of a region to the config
+	 *
+	 * @param regionId region id
+	 * @param points the points of the region, or null to clear the region
+	 */
+	public synchronized void save(int regionId, @Nullable Collection<T> points)
+	{
+		if (points == null || points.isEmpty())
+		{
+			configManager.unsetConfiguration(configGroup, REGION_PREFIX + regionId);
+			regions.put(regionId, new Region<>(null, Collections.emptyList(), new int[0]));
+		}
+		else
+		{
+			String json = gson.toJson(points);
+			configManager.setConfiguration(configGroup, REGION_PREFIX + regionId, json);
+			regions.put(regionId, index(json, new ArrayList<>(points)));
+		}
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (!configGroup.equals(event.getGroup()) || event.getProfile() != null || !event.getKey().startsWith(REGION_PREFIX))
+		{
+			return;
+		}
+
+		Integer regionId = Ints.tryParse(event.getKey().substring(REGION_PREFIX.length()));
+		if (regionId == null)
+		{
+			return;
+		}
+
+		synchronized (this)
+		{
+			Region<T> region = regions.getIfPresent(regionId);
+			if (region != null && !Objects.equals(region.json, event.getNewValue()))
+			{
+				log.debug("Invalidating {} region {}", configGroup, regionId);
+				regions.invalidate(regionId);
+			}
+		}
+	}
+
+	private Region<T> decode(@Nullable String json)
+	{
+		if (Strings.isNullOrEmpty(json))
+		{
+			return new Region<>(json, Collections.emptyList(), new int[0]);
+		}
+
+		List<T> points = gson.fromJson(json, listType);
+		return index(json, points);
+	}
+
+	private Region<T> index(String json, List<T> points)
+	{
+		points.removeIf(filter.negate());
+		points.sort(Comparator.comparingInt(tile));
+
+		int[] tiles = new int[points.size()];
+		for (int i = 0; i < tiles.length; ++i)
+		{
+			tiles[i] = tile.applyAsInt(points.get(i));
+		}
+		return new Region<>(json, Collections.unmodifiableList(points), tiles);
+	}
+
+	/**
+	 * The decoded markers of a region
+	 *
+	 * @param <T> the marker point type
+	 */
+	public static final class Region<T>
+	{
+		@Nullable
+		private final String json;
+		/**
+		 * All points in the region, ordered by tile
+		 */
+		@Getter
+		private final List<T> points;
+		// packed tile of each point, sorted
+		private final int[] tiles;
+
+		private Region(@Nullable String json, List<T> points, int[] tiles)
+		{
+			this.json = json;
+			this.points = points;
+			this.tiles = tiles;
+		}
+
+		/**
+		 * Get the points on a tile of this region
+		 *
+		 * @param regionX x coordinate in the region
+		 * @param regionY y coordinate in the region
+		 * @param plane plane
+		 * @return the points on the tile
+		 */
+		public List<T> getPoints(int regionX, int regionY, int plane)
+		{
+			int packed = packTile(regionX, regionY, plane);
+			int idx = Arrays.binarySearch(tiles, packed);
+			if (idx < 0)
+			{
+				return Collections.emptyList();
+			}
+
+			int start = idx, end = idx + 1;
+			while (start > 0 && tiles[start - 1] == packed)
+			{
+				--start;
+			}
+			while (end < tiles.length && tiles[end] == packed)
+			{
+				++end;
+			}
+			return points.subList(start, end);
+		}
+
+		public boolean isEmpty()
+		{
+			return points.isEmpty();
+		}
+	}
+}
@@ -25,13 +25,20 @@
  */
 package net.runelite.client.game.npcoverlay;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.NPC;
@@ -50,8 +57,31 @@ public class NpcOverlayService
 {
 	private final Client client;
 	private final ClientThread clientThread;
-	private final List<Function<NPC, HighlightedNpc>> highlightFunctions = new ArrayList<>();
+	// all highlighters, in registration order. Earlier highlighters take priority.
+	private final List<Highlighter> highlighters = new ArrayList<>();
+	// highlighters which apply to every npc
+	private final List<Highlighter> globalHighlighters = new ArrayList<>();
+	// highlighters which only apply to specific npc ids, keyed by npc id
+	private final Map<Integer, List<Highlighter>> idHighlighters = new HashMap<>();
 	private final Map<NPC, HighlightedNpc> highlightedNpcs = new HashMap<>();
+	// the highlighter which produced each entry in highlightedNpcs
+	private final Map<NPC, Highlighter> highlightOwners = new HashMap<>();
+	private int nextOrder;
+
+	@RequiredArgsConstructor
+	private static final class Highlighter
+	{
+		private final Function<NPC, HighlightedNpc> function;
+		// null if the highlighter applies to all npcs
+		@Nullable
+		private final Set<Integer> npcIds;
+		private final int order;
+
+		boolean appliesTo(NPC npc)
+		{
+			return npcIds == null || npcIds.contains(npc.getId());
+		}
+	}
 
 	@Inject
 	private NpcOverlayService(Client client, ClientThread clientThread,
@@ -71,6 +101,7 @@ public class NpcOverlayService
 			event.getGameState() == GameState.HOPPING)
 		{
 			highlightedNpcs.clear();
+			highlightOwners.clear();
 		}
 	}
 
@@ -80,17 +111,7 @@ public class NpcOverlayService
 	)
 	private void onNpcSpawned(NpcSpawned npcSpawned)
 	{
-		final NPC npc = npcSpawned.getNpc();
-
-		for (Function<NPC, HighlightedNpc> f : highlightFunctions)
-		{
-			HighlightedNpc highlightedNpc = f.apply(npc);
-			if (highlightedNpc != null)
-			{
-				highlightedNpcs.put(npc, highlightedNpc);
-				return;
-			}
-		}
+		evaluate(npcSpawned.getNpc(), 0);
 	}
 
 	@Subscribe(
@@ -100,6 +121,7 @@ public class NpcOverlayService
 	{
 		final NPC npc = npcDespawned.getNpc();
 		highlightedNpcs.remove(npc);
+		highlightOwners.remove(npc);
 	}
 
 	@Subscribe(
@@ -107,52 +129,195 @@ public class NpcOverlayService
 	)
 	private void onNpcChanged(NpcChanged event)
 	{
-		final NPC npc = event.getNpc();
+		// the id has changed, so the npc may now be in a different set of highlighters
+		evaluate(event.getNpc(), 0);
+	}
 
+	/**
+	 * Re-evaluate the highlight of an npc, considering only highlighters registered at or after
+	 * the given order. The caller must know that the npc is not highlighted by an earlier highlighter.
+	 */
+	private void evaluate(NPC npc, int fromOrder)
+	{
 		highlightedNpcs.remove(npc);
+		highlightOwners.remove(npc);
 
-		for (Function<NPC, HighlightedNpc> f : highlightFunctions)
+		// merge the global and id-specific highlighters, which are each in registration order
+		List<Highlighter> byId = idHighlighters.getOrDefault(npc.getId(), Collections.emptyList());
+		int g = 0, i = 0;
+		while (g < globalHighlighters.size() || i < byId.size())
 		{
-			HighlightedNpc highlightedNpc = f.apply(npc);
+			Highlighter h;
+			if (i >= byId.size() || (g < globalHighlighters.size() && globalHighlighters.get(g).order < byId.get(i).order))
+			{
+				h = globalHighlighters.get(g++);
+			}
+			else
+			{
+				h = byId.get(i++);
+			}
+
+			if (h.order < fromOrder)
+			{
+				continue;
+			}
+
+			HighlightedNpc highlightedNpc = h.function.apply(npc);
 			if (highlightedNpc != null)
 			{
 				highlightedNpcs.put(npc, highlightedNpc);
+				highlightOwners.put(npc, h);
 				return;
 			}
 		}
 	}
 
+	/**
+	 * Re-evaluate every highlighter against every npc
+	 */
 	public void rebuild()
 	{
 		clientThread.invoke(() ->
 		{
 			highlightedNpcs.clear();
+			highlightOwners.clear();
+
+			for (NPC npc : client.getNpcs())
+			{
+				evaluate(npc, 0);
+			}
+		});
+	}
+
+	/**
+	 * Re-evaluate a single highlighter, for example after a config change which only affects it.
+	 * Only npcs the highlighter applies to, and which are not highlighted by a higher priority
+	 * highlighter, are re-evaluated.
+	 *
+	 * @param p the highlighter
+	 */
+	public void rebuild(Function<NPC, HighlightedNpc> p)
+	{
+		clientThread.invoke(() ->
+		{
+			Highlighter highlighter = findHighlighter(p);
+			if (highlighter == null)
+			{
+				return;
+			}
 
-			outer:
 			for (NPC npc : client.getNpcs())
 			{
-				for (Function<NPC, HighlightedNpc> f : highlightFunctions)
+				if (!highlighter.appliesTo(npc))
 				{
-					HighlightedNpc highlightedNpc = f.apply(npc);
-					if (highlightedNpc != null)
-					{
-						highlightedNpcs.put(npc, highlightedNpc);
-						continue outer;
-					}
+					continue;
+				}
+
+				Highlighter owner = highlightOwners.get(npc);
+				if (owner == null || owner.order >= highlighter.order)
+				{
+					evaluate(npc, highlighter.order);
 				}
 			}
 		});
 	}
 
+	/**
+	 * Register a highlighter, which is applied to all npcs
+	 *
+	 * @param p the highlighter
+	 */
 	public void registerHighlighter(Function<NPC, HighlightedNpc> p)
 	{
-		highlightFunctions.add(p);
-		rebuild();
+		register(p, null);
+	}
+
+	/**
+	 * Register a highlighter which only applies to npcs with the given ids.
+	 * The highlighter is not called for other npcs.
+	 *
+	 * @param p the highlighter
+	 * @param npcIds the npc ids the highlighter applies to
+	 */
+	public void registerHighlighter(Function<NPC, HighlightedNpc> p, Collection<Integer> npcIds)
+	{
+		register(p, ImmutableSet.copyOf(npcIds));
+	}
+
+	private void register(Function<NPC, HighlightedNpc> p, @Nullable Set<Integer> npcIds)
+	{
+		Highlighter highlighter = new Highlighter(p, npcIds, nextOrder++);
+		highlighters.add(highlighter);
+		if (npcIds == null)
+		{
+			globalHighlighters.add(highlighter);
+		}
+		else
+		{
+			for (int id : npcIds)
+			{
+				idHighlighters.computeIfAbsent(id, k -> new ArrayList<>()).add(highlighter);
+			}
+		}
+		rebuild(p);
 	}
 
 	public void unregisterHighlighter(Function<NPC, HighlightedNpc> p)
 	{
-		highlightFunctions.remove(p);
-		rebuild();
+		Highlighter highlighter = findHighlighter(p);
+		if (highlighter == null)
+		{
+			return;
+		}
+
+		highlighters.remove(highlighter);
+		if (highlighter.npcIds == null)
+		{
+			globalHighlighters.remove(highlighter);
+		}
+		else
+		{
+			for (int id : highlighter.npcIds)
+			{
+				List<Highlighter> l = idHighlighters.get(id);
+				l.remove(highlighter);
+				if (l.isEmpty())
+				{
+					idHighlighters.remove(id);
+				}
+			}
+		}
+
+		clientThread.invoke(() ->
+		{
+			// only npcs highlighted by the removed highlighter can change, to a lower priority highlighter
+			for (NPC npc : new ArrayList<>(highlightOwners.keySet()))
+			{
+				if (highlightOwners.get(npc) == highlighter)
+				{
+					evaluate(npc, highlighter.order);
+				}
+			}
+		});
+	}
+
+	@VisibleForTesting
+	@Nullable
+	HighlightedNpc getHighlight(NPC npc)
+	{
+		return highlightedNpcs.get(npc);
+	}
+
+	@Nullable
+	private Highlighter findHighlighter(Function<NPC, HighlightedNpc> p)
+	{
+		for (Highlighter highlighter : highlighters)
+		{
+			if (highlighter.function == p)
+			{
+				return highlighter;
+			}
+		}
+		return null;
 	}
 }
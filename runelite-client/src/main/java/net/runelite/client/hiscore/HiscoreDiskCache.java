@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import com.google.common.io.BaseEncoding;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk cache of hiscore lookups, so that recently looked up players do not have to be
+ * fetched again in later sessions. Entries are stored as json, in a directory per endpoint,
+ * along with the time they were fetched.
+ */
+@Slf4j
+class HiscoreDiskCache
+{
+	@AllArgsConstructor
+	@Data
+	static class Entry
+	{
+		long fetched;
+		/**
+		 * The looked up result, or null if the player is not on the hiscores
+		 */
+		@Nullable
+		HiscoreResult result;
+	}
+
+	private final File directory;
+	private final Gson gson;
+
+	HiscoreDiskCache(File directory, Gson gson)
+	{
+		this.directory = directory;
+		this.gson = gson;
+	}
+
+	@Nullable
+	Entry read(HiscoreManager.HiscoreKey key)
+	{
+		final File file = entryFile(key);
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try (Reader in = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))
+		{
+			return gson.fromJson(in, Entry.class);
+		}
+		catch (IOException | JsonParseException ex)
+		{
+			log.debug("unable to read cached hiscore {}", file, ex);
+			return null;
+		}
+	}
+
+	void write(HiscoreManager.HiscoreKey key, Entry entry)
+	{
+		final File file = entryFile(key);
+
+		try
+		{
+			file.getParentFile().mkdirs();
+			File tempFile = File.createTempFile("hiscore", ".tmp", file.getParentFile());
+			try (Writer out = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8))
+			{
+				gson.toJson(entry, out);
+			}
+
+			try
+			{
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex)
+			{
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to write cached hiscore {}", file, ex);
+		}
+	}
+
+	/**
+	 * Delete entries which were last written before the given time
+	 */
+	void prune(long before)
+	{
+		File[] endpointDirs = directory.listFiles();
+		if (endpointDirs == null)
+		{
+			return;
+		}
+
+		int pruned = 0;
+		for (File endpointDir : endpointDirs)
+		{
+			File[] files = endpointDir.listFiles();
+			if (files == null)
+			{
+				continue;
+			}
+
+			for (File f : files)
+			{
+				if (f.lastModified() < before && f.delete())
+				{
+					++pruned;
+				}
+			}
+		}
+		log.debug("Pruned {} cached hiscores", pruned);
+	}
+
+	private File entryFile(HiscoreManager.HiscoreKey key)
+	{
+		// hex encode the name so that it is safe to use as a file name on case insensitive file systems
+		String name = BaseEncoding.base16().lowerCase().encode(key.getUsername().getBytes(StandardCharsets.UTF_8));
+		return new File(new File(directory, key.getType().name().toLowerCase()), name + ".json");
+	}
+}
@@ -24,17 +24,34 @@
  */
 package net.runelite.client.hiscore;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import java.io.File;
 import java.io.IOException;
-import java.util.concurrent.ScheduledExecutorService;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.client.util.Text;
 
+@Slf4j
 @Singleton
 public class HiscoreManager
 {
@@ -46,20 +63,58 @@ public class HiscoreManager
 		HiscoreEndpoint type;
 	}
 
-	static final HiscoreResult EMPTY = new HiscoreResult(null, ImmutableMap.of());
 	static final HiscoreResult NONE = new HiscoreResult(null, ImmutableMap.of());
 
-	private final LoadingCache<HiscoreKey, HiscoreResult> hiscoreCache;
+	private static final File HISCORE_DIR = new File(RuneLite.CACHE_DIR, "hiscores");
+	// cached results younger than this are used without being looked up again
+	private static final long FRESH_MILLIS = TimeUnit.HOURS.toMillis(1);
+	// cached results younger than this are used while they are looked up again
+	private static final long STALE_MILLIS = TimeUnit.DAYS.toMillis(7);
+	private static final double LOOKUPS_PER_SECOND = 2;
+	// lookups wait for the rate limiter, so they have their own threads instead of parking the shared io threads
+	private static final int LOOKUP_THREADS = 2;
+	// async lookups which failed are not retried for this long, so that callers polling lookupAsync don't retry every frame
+	private static final long FAILURE_RETRY_SECONDS = 30;
+
+	private final Cache<HiscoreKey, HiscoreResult> hiscoreCache = CacheBuilder.newBuilder()
+		.maximumSize(128L)
+		.expireAfterWrite(1, TimeUnit.HOURS)
+		.build();
+	private final Cache<HiscoreKey, Boolean> failedLookups = CacheBuilder.newBuilder()
+		.maximumSize(128L)
+		.expireAfterWrite(FAILURE_RETRY_SECONDS, TimeUnit.SECONDS)
+		.build();
+	private final ConcurrentMap<HiscoreKey, CompletableFuture<HiscoreResult>> pending = new ConcurrentHashMap<>();
+	private final RateLimiter rateLimiter = RateLimiter.create(LOOKUPS_PER_SECOND);
+	private final Executor executor;
 	private final HiscoreClient hiscoreClient;
+	private final HiscoreDiskCache diskCache;
 
 	@Inject
-	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient)
+	private HiscoreManager(HiscoreClient hiscoreClient, Gson gson)
+	{
+		this(newLookupExecutor(), hiscoreClient, new HiscoreDiskCache(HISCORE_DIR, gson));
+		executor.execute(() -> diskCache.prune(System.currentTimeMillis() - STALE_MILLIS));
+	}
+
+	@VisibleForTesting
+	HiscoreManager(Executor executor, HiscoreClient hiscoreClient, HiscoreDiskCache diskCache)
 	{
+		this.executor = executor;
 		this.hiscoreClient = hiscoreClient;
-		hiscoreCache = CacheBuilder.newBuilder()
-			.maximumSize(128L)
-			.expireAfterWrite(1, TimeUnit.HOURS)
-			.build(new HiscoreLoader(executor, hiscoreClient));
+		this.diskCache = diskCache;
+	}
+
+	private static Executor newLookupExecutor()
+	{
+		ThreadFactory threadFactory = new ThreadFactoryBuilder()
+			.setNameFormat("hiscore-lookup-%d")
+			.setDaemon(true)
+			.build();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(LOOKUP_THREADS, LOOKUP_THREADS, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
 	}
 
 	/**
@@ -72,22 +127,44 @@ public class HiscoreManager
 	 */
 	public HiscoreResult lookup(String username, HiscoreEndpoint endpoint) throws IOException
 	{
-		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
+		HiscoreKey hiscoreKey = key(username, endpoint);
 		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		if (hiscoreResult != null)
 		{
 			return hiscoreResult == NONE ? null : hiscoreResult;
 		}
 
-		hiscoreResult = hiscoreClient.lookup(username, endpoint);
-		if (hiscoreResult == null)
+		HiscoreDiskCache.Entry entry = diskCache.read(hiscoreKey);
+		long age = entry == null ? Long.MAX_VALUE : System.currentTimeMillis() - entry.getFetched();
+		if (age < STALE_MILLIS)
 		{
-			hiscoreCache.put(hiscoreKey, NONE);
-			return null;
+			hiscoreResult = result(entry);
+			hiscoreCache.put(hiscoreKey, hiscoreResult);
+			if (age >= FRESH_MILLIS)
+			{
+				load(hiscoreKey, username);
+			}
+			return hiscoreResult == NONE ? null : hiscoreResult;
 		}
 
-		hiscoreCache.put(hiscoreKey, hiscoreResult);
-		return hiscoreResult;
+		try
+		{
+			hiscoreResult = load(hiscoreKey, username).get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+		return hiscoreResult == NONE ? null : hiscoreResult;
 	}
 
 	/**
@@ -99,14 +176,103 @@ public class HiscoreManager
 	 */
 	public HiscoreResult lookupAsync(String username, HiscoreEndpoint endpoint)
 	{
-		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
+		HiscoreKey hiscoreKey = key(username, endpoint);
 		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		if (hiscoreResult != null)
 		{
 			return hiscoreResult == NONE ? null : hiscoreResult;
 		}
 
-		hiscoreCache.refresh(hiscoreKey);
+		if (failedLookups.getIfPresent(hiscoreKey) == null)
+		{
+			load(hiscoreKey, username);
+		}
 		return null;
 	}
+
+	/**
+	 * Look up a hiscore in the background. Concurrent lookups of the same hiscore share a single request.
+	 * Failed lookups are not cached, so that a later lookup tries again.
+	 */
+	private CompletableFuture<HiscoreResult> load(HiscoreKey hiscoreKey, String username)
+	{
+		CompletableFuture<HiscoreResult> future = new CompletableFuture<>();
+		CompletableFuture<HiscoreResult> existing = pending.putIfAbsent(hiscoreKey, future);
+		if (existing != null)
+		{
+			return existing;
+		}
+
+		log.debug("Submitting hiscore lookup for {} type {}", username, hiscoreKey.getType());
+
+		executor.execute(() ->
+		{
+			try
+			{
+				HiscoreResult result = fetch(hiscoreKey, username);
+				// cache the result before removing the pending lookup, so that there is no window for a second lookup
+				hiscoreCache.put(hiscoreKey, result);
+				failedLookups.invalidate(hiscoreKey);
+				pending.remove(hiscoreKey, future);
+				future.complete(result);
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to look up hiscore!", ex);
+				failedLookups.put(hiscoreKey, Boolean.TRUE);
+				pending.remove(hiscoreKey, future);
+				future.completeExceptionally(ex);
+			}
+		});
+		return future;
+	}
+
+	private HiscoreResult fetch(HiscoreKey hiscoreKey, String username) throws IOException
+	{
+		HiscoreDiskCache.Entry entry = diskCache.read(hiscoreKey);
+		long age = entry == null ? Long.MAX_VALUE : System.currentTimeMillis() - entry.getFetched();
+		if (age < FRESH_MILLIS)
+		{
+			return result(entry);
+		}
+
+		HiscoreResult stale = null;
+		if (age < STALE_MILLIS)
+		{
+			// serve the stale result until the lookup completes
+			stale = result(entry);
+			hiscoreCache.put(hiscoreKey, stale);
+		}
+
+		rateLimiter.acquire();
+
+		HiscoreResult result;
+		try
+		{
+			result = hiscoreClient.lookup(username, hiscoreKey.getType());
+		}
+		catch (IOException ex)
+		{
+			if (stale != null)
+			{
+				log.debug("Unable to look up hiscore, using cached result", ex);
+				return stale;
+			}
+			throw ex;
+		}
+
+		diskCache.write(hiscoreKey, new HiscoreDiskCache.Entry(System.currentTimeMillis(), result));
+		return result == null ? NONE : result;
+	}
+
+	private static HiscoreKey key(String username, HiscoreEndpoint endpoint)
+	{
+		// the hiscores are case insensitive, and treat _ and - as spaces
+		return new HiscoreKey(Text.toJagexName(username).toLowerCase(), endpoint);
+	}
+
+	private static HiscoreResult result(HiscoreDiskCache.Entry entry)
+	{
+		return entry.getResult() == null ? NONE : entry.getResult();
+	}
 }
@@ -26,15 +26,24 @@
 package net.runelite.client.plugins.banktags;
 
 import com.google.common.base.Strings;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.TreeMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import static net.runelite.client.plugins.banktags.BankTagsPlugin.CONFIG_GROUP;
@@ -49,13 +58,73 @@ public class TagManager
 	private final ItemManager itemManager;
 	private final Map<String, BankTag> customTags = new HashMap<>();
 
+	// parsed tags of each tagged item, keyed by the (possibly negative variation) item id in the config
+	private final Map<Integer, ItemTags> itemTags = new HashMap<>();
+	// inverted index of tag -> item ids, see encodeId. Built on first use and then kept up to date
+	// from config changes. Sorted so that the tags starting with a search are a contiguous range.
+	private TreeMap<String, BitSet> tagItems;
+	// the tags each item is indexed under. This is separate from itemTags, which is replaced
+	// whenever the config is read, and so may already hold the new tags of a changed item.
+	private final Map<Integer, Set<String>> indexedTags = new HashMap<>();
+	private String lastSearch;
+	// union of the items of every tag starting with lastSearch, or null if the index has changed since
+	private BitSet lastSearchItems;
+
+	@RequiredArgsConstructor
+	private static final class ItemTags
+	{
+		// the config value the tags were parsed from
+		private final String config;
+		private final Set<String> tags;
+	}
+
 	@Inject
 	private TagManager(
 		final ItemManager itemManager,
-		final ConfigManager configManager)
+		final ConfigManager configManager,
+		final EventBus eventBus)
 	{
 		this.itemManager = itemManager;
 		this.configManager = configManager;
+		eventBus.register(this);
+	}
+
+	@Subscribe
+	public synchronized void onConfigChanged(ConfigChanged configChanged)
+	{
+		if (!configChanged.getGroup().equals(CONFIG_GROUP) || configChanged.getProfile() != null
+			|| !configChanged.getKey().startsWith(ITEM_KEY_PREFIX))
+		{
+			return;
+		}
+
+		final int id;
+		try
+		{
+			id = Integer.parseInt(configChanged.getKey().substring(ITEM_KEY_PREFIX.length()));
+		}
+		catch (NumberFormatException ex)
+		{
+			return;
+		}
+
+		if (tagItems != null)
+		{
+			unindex(id);
+			index(id);
+		}
+		else
+		{
+			itemTags.remove(id);
+		}
+	}
+
+	@Subscribe
+	public synchronized void onProfileChanged(ProfileChanged profileChanged)
+	{
+		// the config may have been reloaded without a change event for each key
+		tagItems = null;
+		lastSearchItems = null;
 	}
 
 	String getTagString(int itemId, boolean variation)
@@ -73,7 +142,30 @@ public class TagManager
 
 	Collection<String> getTags(int itemId, boolean variation)
 	{
-		return new LinkedHashSet<>(Text.fromCSV(getTagString(itemId, variation).toLowerCase()));
+		return new LinkedHashSet<>(getCachedTags(getItemId(itemId, variation)));
+	}
+
+	/**
+	 * Get the tags of an item from the cache, reparsing them if the config has changed
+	 *
+	 * @param id item id, as used in the config key
+	 * @return immutable set of tags
+	 */
+	private synchronized Set<String> getCachedTags(int id)
+	{
+		String config = configManager.getConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + id);
+		if (config == null)
+		{
+			config = "";
+		}
+
+		ItemTags cached = itemTags.get(id);
+		if (cached == null || !cached.config.equals(config))
+		{
+			cached = new ItemTags(config, Collections.unmodifiableSet(new LinkedHashSet<>(Text.fromCSV(config.toLowerCase()))));
+			itemTags.put(id, cached);
+		}
+		return cached.tags;
 	}
 
 	void setTagString(int itemId, String tags, boolean variation)
@@ -113,30 +205,54 @@ public class TagManager
 		setTagString(itemId, Text.toCSV(tags), variation);
 	}
 
-	boolean findTag(int itemId, String search)
+	synchronized boolean findTag(int itemId, String search)
 	{
-		Collection<String> tags = getTags(itemId, false);
-		tags.addAll(getTags(itemId, true));
-		return tags.stream().anyMatch(tag -> tag.startsWith(Text.standardize(search)));
+		final BitSet items = getSearchItems(search);
+		return items.get(encodeId(getItemId(itemId, false)))
+			|| items.get(encodeId(getItemId(itemId, true)));
+	}
+
+	private BitSet getSearchItems(String search)
+	{
+		// the same search is repeated for every item in the bank
+		final TreeMap<String, BitSet> index = getTagIndex();
+		if (lastSearchItems == null || !search.equals(lastSearch))
+		{
+			final String prefix = Text.standardize(search);
+			final BitSet items = new BitSet();
+			for (BitSet tagged : index.subMap(prefix, prefix + Character.MAX_VALUE).values())
+			{
+				items.or(tagged);
+			}
+
+			lastSearch = search;
+			lastSearchItems = items;
+		}
+		return lastSearchItems;
 	}
 
-	public List<Integer> getItemsForTag(String tag)
+	public synchronized List<Integer> getItemsForTag(String tag)
 	{
-		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
-		return configManager.getConfigurationKeys(prefix).stream()
-			.map(item -> Integer.parseInt(item.replace(prefix, "")))
-			.filter(item -> getTags(item, false).contains(tag) || getTags(item, true).contains(tag))
-			.collect(Collectors.toList());
+		final BitSet items = getTagIndex().get(tag);
+		if (items == null)
+		{
+			return new ArrayList<>();
+		}
+
+		final List<Integer> ids = new ArrayList<>(items.cardinality());
+		for (int i = items.nextSetBit(0); i >= 0; i = items.nextSetBit(i + 1))
+		{
+			ids.add(decodeId(i));
+		}
+		return ids;
 	}
 
 	public void removeTag(String tag)
 	{
-		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
-		configManager.getConfigurationKeys(prefix).forEach(item ->
+		for (int id : getItemsForTag(Text.standardize(tag)))
 		{
-			int id = Integer.parseInt(item.replace(prefix, ""));
 			removeTag(id, tag);
-		});
+		}
 
 		setHidden(tag, false);
 	}
@@ -156,6 +272,80 @@ public class TagManager
 		}
 	}
 
+	private TreeMap<String, BitSet> getTagIndex()
+	{
+		if (tagItems == null)
+		{
+			tagItems = new TreeMap<>();
+			itemTags.clear();
+			indexedTags.clear();
+
+			final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
+			for (String key : configManager.getConfigurationKeys(prefix))
+			{
+				try
+				{
+					index(Integer.parseInt(key.substring(prefix.length())));
+				}
+				catch (NumberFormatException ex)
+				{
+					// not an item key
+				}
+			}
+		}
+		return tagItems;
+	}
+
+	private void index(int id)
+	{
+		final Set<String> tags = getCachedTags(id);
+		if (tags.isEmpty())
+		{
+			return;
+		}
+
+		for (String tag : tags)
+		{
+			tagItems.computeIfAbsent(tag, k -> new BitSet()).set(encodeId(id));
+		}
+		indexedTags.put(id, tags);
+		lastSearchItems = null;
+	}
+
+	private void unindex(int id)
+	{
+		final Set<String> tags = indexedTags.remove(id);
+		if (tags == null)
+		{
+			return;
+		}
+
+		for (String tag : tags)
+		{
+			final BitSet items = tagItems.get(tag);
+			if (items != null)
+			{
+				items.clear(encodeId(id));
+				if (items.isEmpty())
+				{
+					tagItems.remove(tag);
+				}
+			}
+		}
+		lastSearchItems = null;
+	}
+
+	// variation ids are negative, so interleave them with the item ids for use as a bitset index
+	private static int encodeId(int id)
+	{
+		return id >= 0 ? id << 1 : (-id << 1) - 1;
+	}
+
+	private static int decodeId(int i)
+	{
+		return (i & 1) == 0 ? i >> 1 : -((i + 1) >> 1);
+	}
+
 	public void renameTag(String oldTag, String newTag)
 	{
 		List<Integer> items = getItemsForTag(Text.standardize(oldTag));
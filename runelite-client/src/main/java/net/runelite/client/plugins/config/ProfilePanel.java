@@ -38,8 +38,6 @@ import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -834,20 +832,12 @@ class ProfilePanel extends PluginPanel
 			// save config to disk so the export copies the full config
 			configManager.sendConfig();
 
-			File source = ProfileManager.profileConfigFile(profile);
-			if (!source.exists())
-			{
-				SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null, "Profile '" + profile.getName() + "' can not be exported because it has no settings."));
-				return;
-			}
-
 			try
 			{
-				Files.copy(
-					source.toPath(),
-					file.toPath(),
-					StandardCopyOption.REPLACE_EXISTING
-				);
+				if (!configManager.exportProfile(profile, file))
+				{
+					SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(null, "Profile '" + profile.getName() + "' can not be exported because it has no settings."));
+				}
 			}
 			catch (IOException e)
 			{
@@ -904,22 +894,14 @@ class ProfilePanel extends PluginPanel
 				reload(lock.getProfiles());
 
 				// copy config if present
-				File from = ProfileManager.profileConfigFile(profile);
 				File to = ProfileManager.profileConfigFile(clonedProfile);
-
-				if (from.exists())
+				try
 				{
-					try
-					{
-						Files.copy(
-							from.toPath(),
-							to.toPath()
-						);
-					}
-					catch (IOException e)
-					{
-						log.error("error cloning profile", e);
-					}
+					configManager.exportProfile(profile, to);
+				}
+				catch (IOException e)
+				{
+					log.error("error cloning profile", e);
 				}
 			}
 		});
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins.corp;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.inject.Provides;
 import java.awt.Color;
 import java.util.HashSet;
@@ -123,7 +124,7 @@ public class CorpPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
-		npcOverlayService.registerHighlighter(isCore);
+		npcOverlayService.registerHighlighter(isCore, ImmutableSet.of(NpcID.DARK_ENERGY_CORE));
 		overlayManager.add(corpOverlay);
 	}
 
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
+import javax.swing.JTabbedPane;
+import javax.swing.JTable;
+import javax.swing.SpinnerNumberModel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.ui.overlay.OverlayProfiler;
+import net.runelite.client.util.ClientExecutors;
+import net.runelite.client.util.ExecutorStats;
+
+@Slf4j
+@Singleton
+class ProfilerInspector extends DevToolsFrame
+{
+	private static final String[] OVERLAY_COLUMNS = {"Name", "Count", "Mean (ms)", "p50 (ms)", "p99 (ms)", "Max (ms)", "Overruns"};
+	private static final String[] SUBSCRIBER_COLUMNS = {"Event", "Subscriber", "Count", "Mean (ms)", "Total (ms)", "Max (ms)"};
+	private static final String[] EXECUTOR_COLUMNS = {"Executor", "Submitter", "Queued", "Completed", "Mean wait (ms)", "Max wait (ms)", "Mean run (ms)", "Max run (ms)"};
+
+	private final ClientThread clientThread;
+	private final OverlayProfiler overlayProfiler;
+	private final EventBus eventBus;
+	private final ClientExecutors clientExecutors;
+
+	private final TimingTableModel<OverlayProfiler.Timing> overlayModel = new TimingTableModel<>(OVERLAY_COLUMNS, ProfilerInspector::overlayValue);
+	private final TimingTableModel<EventBus.Timing> subscriberModel = new TimingTableModel<>(SUBSCRIBER_COLUMNS, ProfilerInspector::subscriberValue);
+	private final TimingTableModel<ExecutorTiming> executorModel = new TimingTableModel<>(EXECUTOR_COLUMNS, ProfilerInspector::executorValue);
+	private final JSpinner budget = new JSpinner(new SpinnerNumberModel(0, 0, 1000, 1));
+	private final JSpinner slowThreshold = new JSpinner(new SpinnerNumberModel(0, 0, 1000, 1));
+	private final Timer refreshTimer = new Timer(1000, e -> refresh());
+
+	@Inject
+	ProfilerInspector(ClientThread clientThread, OverlayProfiler overlayProfiler, EventBus eventBus, ClientExecutors clientExecutors)
+	{
+		this.clientThread = clientThread;
+		this.overlayProfiler = overlayProfiler;
+		this.eventBus = eventBus;
+		this.clientExecutors = clientExecutors;
+
+		setLayout(new BorderLayout());
+		setTitle("RuneLite Profiler");
+
+		final JTabbedPane tabs = new JTabbedPane();
+		tabs.addTab("Overlays", createTable(overlayModel));
+		tabs.addTab("Event subscribers", createTable(subscriberModel));
+		tabs.addTab("Executors", createTable(executorModel));
+		add(tabs, BorderLayout.CENTER);
+
+		budget.setToolTipText("Overlays which take longer than this to render are skipped for a number of frames. 0 to disable.");
+		budget.addChangeListener(e -> overlayProfiler.setFrameBudget(TimeUnit.MILLISECONDS.toNanos((Integer) budget.getValue())));
+
+		slowThreshold.setToolTipText("Event subscribers which take longer than this are logged. 0 to disable.");
+		slowThreshold.addChangeListener(e -> eventBus.setSlowSubscriberThreshold(TimeUnit.MILLISECONDS.toNanos((Integer) slowThreshold.getValue())));
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.setFocusable(false);
+		resetBtn.addActionListener(e ->
+		{
+			clientThread.invoke(overlayProfiler::reset);
+			eventBus.resetTimings();
+		});
+
+		final JButton logBtn = new JButton("Log");
+		logBtn.setFocusable(false);
+		logBtn.addActionListener(e -> clientThread.invoke(() ->
+		{
+			log.info("Overlay timings:\n{}", format(OVERLAY_COLUMNS, overlayProfiler.getTimings(), ProfilerInspector::overlayValue));
+			log.info("Event subscriber timings:\n{}", format(SUBSCRIBER_COLUMNS, subscriberTimings(), ProfilerInspector::subscriberValue));
+			log.info("Executor timings:\n{}", format(EXECUTOR_COLUMNS, executorTimings(), ProfilerInspector::executorValue));
+		}));
+
+		final JPanel bottomRow = new JPanel();
+		bottomRow.add(new JLabel("Overlay budget (ms)"));
+		bottomRow.add(budget);
+		bottomRow.add(new JLabel("Slow subscriber (ms)"));
+		bottomRow.add(slowThreshold);
+		bottomRow.add(resetBtn);
+		bottomRow.add(logBtn);
+		add(bottomRow, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		overlayProfiler.setEnabled(true);
+		eventBus.setProfiling(true);
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		refreshTimer.stop();
+		overlayProfiler.setEnabled(false);
+		overlayProfiler.setFrameBudget(0);
+		budget.setValue(0);
+		eventBus.setProfiling(false);
+		eventBus.setSlowSubscriberThreshold(0);
+		slowThreshold.setValue(0);
+		clientThread.invoke(overlayProfiler::reset);
+		eventBus.resetTimings();
+		super.close();
+	}
+
+	private void refresh()
+	{
+		clientThread.invoke(() ->
+		{
+			final List<OverlayProfiler.Timing> timings = overlayProfiler.getTimings();
+			SwingUtilities.invokeLater(() -> overlayModel.setTimings(timings));
+		});
+
+		subscriberModel.setTimings(subscriberTimings());
+		executorModel.setTimings(executorTimings());
+	}
+
+	private List<EventBus.Timing> subscriberTimings()
+	{
+		final List<EventBus.Timing> timings = eventBus.getTimings();
+		timings.sort(Comparator.comparingLong(EventBus.Timing::getTotalNanos).reversed());
+		return timings;
+	}
+
+	private List<ExecutorTiming> executorTimings()
+	{
+		final List<ExecutorTiming> timings = new ArrayList<>();
+		for (ExecutorStats stats : clientExecutors.getStats())
+		{
+			for (ExecutorStats.Snapshot snapshot : stats.snapshot())
+			{
+				timings.add(new ExecutorTiming(stats.getName(), snapshot));
+			}
+		}
+		timings.sort(Comparator.comparingLong((ExecutorTiming t) -> t.getSnapshot().getTotalRunNanos()).reversed());
+		return timings;
+	}
+
+	private static JScrollPane createTable(TimingTableModel<?> model)
+	{
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		final JScrollPane scroller = new JScrollPane(table);
+		scroller.setPreferredSize(new Dimension(700, 400));
+		return scroller;
+	}
+
+	private static <T> String format(String[] columns, List<T> timings, BiFunction<T, Integer, Object> values)
+	{
+		final StringBuilder sb = new StringBuilder(String.join("\t", columns));
+		for (T timing : timings)
+		{
+			sb.append('\n').append(values.apply(timing, 0));
+			for (int column = 1; column < columns.length; ++column)
+			{
+				sb.append('\t').append(values.apply(timing, column));
+			}
+		}
+		return sb.toString();
+	}
+
+	private static Object overlayValue(OverlayProfiler.Timing timing, int column)
+	{
+		switch (column)
+		{
+			case 0:
+				return timing.getName();
+			case 1:
+				return timing.getCount();
+			case 2:
+				return millis(timing.getMean());
+			case 3:
+				return millis(timing.getP50());
+			case 4:
+				return millis(timing.getP99());
+			case 5:
+				return millis(timing.getMax());
+			case 6:
+				return timing.getOverruns();
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	private static Object subscriberValue(EventBus.Timing timing, int column)
+	{
+		switch (column)
+		{
+			case 0:
+				return timing.getEvent();
+			case 1:
+				return timing.getSubscriber();
+			case 2:
+				return timing.getCount();
+			case 3:
+				return millis(timing.getTotalNanos() / timing.getCount());
+			case 4:
+				return millis(timing.getTotalNanos());
+			case 5:
+				return millis(timing.getMaxNanos());
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	private static Object executorValue(ExecutorTiming timing, int column)
+	{
+		final ExecutorStats.Snapshot snapshot = timing.getSnapshot();
+		final long completed = Math.max(1, snapshot.getCompleted());
+		switch (column)
+		{
+			case 0:
+				return timing.getExecutor();
+			case 1:
+				return snapshot.getSubmitter();
+			case 2:
+				return snapshot.getQueued();
+			case 3:
+				return snapshot.getCompleted();
+			case 4:
+				return millis(snapshot.getTotalWaitNanos() / completed);
+			case 5:
+				return millis(snapshot.getMaxWaitNanos());
+			case 6:
+				return millis(snapshot.getTotalRunNanos() / completed);
+			case 7:
+				return millis(snapshot.getMaxRunNanos());
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	private static double millis(long nanos)
+	{
+		// round to microseconds
+		return Math.round(nanos / 1_000d) / 1_000d;
+	}
+
+	@Value
+	private static class ExecutorTiming
+	{
+		String executor;
+		ExecutorStats.Snapshot snapshot;
+	}
+
+	private static class TimingTableModel<T> extends AbstractTableModel
+	{
+		private final String[] columns;
+		private final BiFunction<T, Integer, Object> values;
+		private List<T> timings = new ArrayList<>();
+
+		TimingTableModel(String[] columns, BiFunction<T, Integer, Object> values)
+		{
+			this.columns = columns;
+			this.values = values;
+		}
+
+		void setTimings(List<T> timings)
+		{
+			this.timings = timings;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return timings.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return columns.length;
+		}
+
+		@Override
+		public String getColumnName(int column)
+		{
+			return columns[column];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int column)
+		{
+			return timings.isEmpty() ? Object.class : getValueAt(0, column).getClass();
+		}
+
+		@Override
+		public Object getValueAt(int row, int column)
+		{
+			return values.apply(timings.get(row), column);
+		}
+	}
+}
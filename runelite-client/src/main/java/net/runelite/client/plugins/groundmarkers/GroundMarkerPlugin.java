@@ -59,6 +59,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.ProfileChanged;
+import net.runelite.client.game.RegionMarkerStore;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -77,7 +78,6 @@ public class GroundMarkerPlugin extends Plugin
 {
 	private static final String CONFIG_GROUP = "groundMarker";
 	private static final String WALK_HERE = "Walk here";
-	private static final String REGION_PREFIX = "region_";
 
 	@Getter(AccessLevel.PACKAGE)
 	private final List<ColorTileMarker> points = new ArrayList<>();
@@ -115,29 +115,16 @@ public class GroundMarkerPlugin extends Plugin
 	@Inject
 	private ColorPickerManager colorPickerManager;
 
+	private RegionMarkerStore<GroundMarkerPoint> store;
+
 	void savePoints(int regionId, Collection<GroundMarkerPoint> points)
 	{
-		if (points == null || points.isEmpty())
-		{
-			configManager.unsetConfiguration(CONFIG_GROUP, REGION_PREFIX + regionId);
-			return;
-		}
-
-		String json = gson.toJson(points);
-		configManager.setConfiguration(CONFIG_GROUP, REGION_PREFIX + regionId, json);
+		store.save(regionId, points);
 	}
 
 	Collection<GroundMarkerPoint> getPoints(int regionId)
 	{
-		String json = configManager.getConfiguration(CONFIG_GROUP, REGION_PREFIX + regionId);
-		if (Strings.isNullOrEmpty(json))
-		{
-			return Collections.emptyList();
-		}
-
-		// CHECKSTYLE:OFF
-		return gson.fromJson(json, new TypeToken<List<GroundMarkerPoint>>(){}.getType());
-		// CHECKSTYLE:ON
+		return store.get(regionId).getPoints();
 	}
 
 	@Provides
@@ -196,6 +183,11 @@ public class GroundMarkerPlugin extends Plugin
 	@Override
 	public void startUp()
 	{
+		// CHECKSTYLE:OFF
+		store = new RegionMarkerStore<>(configManager, gson, CONFIG_GROUP, new TypeToken<List<GroundMarkerPoint>>(){}.getType(),
+			p -> RegionMarkerStore.packTile(p.getRegionX(), p.getRegionY(), p.getZ()), p -> true);
+		// CHECKSTYLE:ON
+		eventBus.register(store);
 		overlayManager.add(overlay);
 		overlayManager.add(minimapOverlay);
 		if (config.showImportExport())
@@ -215,6 +207,8 @@ public class GroundMarkerPlugin extends Plugin
 		overlayManager.remove(minimapOverlay);
 		sharingManager.removeMenuOptions();
 		points.clear();
+		eventBus.unregister(store);
+		store = null;
 	}
 
 	@Subscribe
@@ -251,8 +245,7 @@ public class GroundMarkerPlugin extends Plugin
 			final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, selectedSceneTile.getLocalLocation());
 			final int regionId = worldPoint.getRegionID();
 			var regionPoints = getPoints(regionId);
-			var existingOpt = regionPoints.stream()
-				.filter(p -> p.getRegionX() == worldPoint.getRegionX() && p.getRegionY() == worldPoint.getRegionY() && p.getZ() == worldPoint.getPlane())
+			var existingOpt = store.get(regionId).getPoints(worldPoint.getRegionX(), worldPoint.getRegionY(), worldPoint.getPlane()).stream()
 				.findFirst();
 
 			client.createMenuEntry(-1)
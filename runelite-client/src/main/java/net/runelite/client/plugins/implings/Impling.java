@@ -26,6 +26,7 @@ package net.runelite.client.plugins.implings;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import net.runelite.api.NpcID;
@@ -106,4 +107,9 @@ enum Impling
 	{
 		return IMPLINGS.get(npcId);
 	}
+
+	static Set<Integer> getNpcIds()
+	{
+		return IMPLINGS.keySet();
+	}
 }
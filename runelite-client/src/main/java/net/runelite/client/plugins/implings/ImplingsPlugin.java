@@ -90,7 +90,7 @@ public class ImplingsPlugin extends Plugin
 	protected void startUp()
 	{
 		overlayManager.add(overlay);
-		npcOverlayService.registerHighlighter(isTarget);
+		npcOverlayService.registerHighlighter(isTarget, Impling.getNpcIds());
 	}
 
 	@Override
@@ -108,7 +108,7 @@ public class ImplingsPlugin extends Plugin
 			return;
 		}
 
-		npcOverlayService.rebuild();
+		npcOverlayService.rebuild(isTarget);
 	}
 
 	@Subscribe
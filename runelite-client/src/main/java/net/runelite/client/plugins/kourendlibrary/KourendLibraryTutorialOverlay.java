@@ -53,6 +53,7 @@ class KourendLibraryTutorialOverlay extends OverlayPanel
 		this.library = library;
 
 		panelComponent.setPreferredSize(new Dimension(177, 0));
+		panelComponent.setRetained(true);
 
 		noDataMessageComponent = LineComponent.builder().left("Click on the white squares to start finding books.").build();
 		incompleteMessageComponent = LineComponent.builder().left("Some books have been found. Keep checking marked bookcases to find more.").build();
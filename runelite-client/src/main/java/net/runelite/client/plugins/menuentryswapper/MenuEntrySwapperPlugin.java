@@ -41,7 +41,9 @@ import com.google.inject.Provides;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -76,6 +78,7 @@ import net.runelite.client.chat.ChatMessageBuilder;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
@@ -108,6 +111,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private static final String WORN_ITEM_SHIFT_KEY_PREFIX = "wornitem_shift_";
 	private static final String UI_KEY_PREFIX = "ui_";
 	private static final String UI_SHIFT_KEY_PREFIX = "ui_shift_";
+	private static final int NORMALIZED_TEXT_CACHE_SIZE = 1024;
 
 	private static final List<MenuAction> NPC_MENU_TYPES = ImmutableList.of(
 		MenuAction.NPC_FIRST_OPTION,
@@ -162,6 +166,10 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private NpcUtil npcUtil;
 
 	private final Multimap<String, Swap> swaps = LinkedHashMultimap.create();
+	// swaps which may be enabled with the current config, keyed by option. Rebuilt lazily after config changes.
+	private Map<String, Swap[]> swapTable;
+	// option and target text with tags removed and lower cased, keyed by the raw text
+	private final Map<String, String> normalizedText = new HashMap<>();
 	private final ArrayListMultimap<String, Integer> cacheOptionIndexes = ArrayListMultimap.create();
 	private Menu cacheOptionMenu;
 	private final Multimap<Integer, TeleportSwap> teleportSwaps = HashMultimap.create();
@@ -185,6 +193,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 	public void shutDown()
 	{
 		swaps.clear();
+		swapTable = null;
+		normalizedText.clear();
 		teleportSwaps.clear();
 	}
 
@@ -314,17 +324,17 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		swap("pick", "pick-lots", config::swapPick);
 
-		swap("view offer", "abort offer", () -> shiftModifier() && config.swapGEAbort());
+		swapDynamic("view offer", "abort offer", () -> shiftModifier() && config.swapGEAbort());
 
-		swap("value", "buy 1", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_1);
-		swap("value", "buy 5", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_5);
-		swap("value", "buy 10", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_10);
-		swap("value", "buy 50", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_50);
+		swapDynamic("value", "buy 1", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_1);
+		swapDynamic("value", "buy 5", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_5);
+		swapDynamic("value", "buy 10", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_10);
+		swapDynamic("value", "buy 50", () -> shiftModifier() && config.shopBuy() == BuyMode.BUY_50);
 
-		swap("value", "sell 1", () -> shiftModifier() && config.shopSell() == SellMode.SELL_1);
-		swap("value", "sell 5", () -> shiftModifier() && config.shopSell() == SellMode.SELL_5);
-		swap("value", "sell 10", () -> shiftModifier() && config.shopSell() == SellMode.SELL_10);
-		swap("value", "sell 50", () -> shiftModifier() && config.shopSell() == SellMode.SELL_50);
+		swapDynamic("value", "sell 1", () -> shiftModifier() && config.shopSell() == SellMode.SELL_1);
+		swapDynamic("value", "sell 5", () -> shiftModifier() && config.shopSell() == SellMode.SELL_5);
+		swapDynamic("value", "sell 10", () -> shiftModifier() && config.shopSell() == SellMode.SELL_10);
+		swapDynamic("value", "sell 50", () -> shiftModifier() && config.shopSell() == SellMode.SELL_50);
 
 		swap("wear", "tele to poh", config::swapTeleToPoh);
 
@@ -368,8 +378,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		swap("tan 1", "tan all", config::swapTan);
 
-		swap("climb", "climb-up", () -> (shiftModifier() ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_UP);
-		swap("climb", "climb-down", () -> (shiftModifier() ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_DOWN);
+		swapDynamic("climb", "climb-up", () -> (shiftModifier() ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_UP);
+		swapDynamic("climb", "climb-down", () -> (shiftModifier() ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_DOWN);
 	}
 
 	private void removeOldSwaps()
@@ -415,12 +425,51 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private void swap(String option, Predicate<String> targetPredicate, String swappedOption, Supplier<Boolean> enabled)
 	{
-		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, enabled, true));
+		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, enabled, true, false));
 	}
 
 	private void swapContains(String option, Predicate<String> targetPredicate, String swappedOption, Supplier<Boolean> enabled)
 	{
-		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, enabled, false));
+		swaps.put(option, new Swap(alwaysTrue(), targetPredicate, swappedOption, enabled, false, false));
+	}
+
+	private void swapDynamic(String option, String swappedOption, Supplier<Boolean> enabled)
+	{
+		swaps.put(option, new Swap(alwaysTrue(), alwaysTrue(), swappedOption, enabled, true, true));
+	}
+
+	private Map<String, Swap[]> getSwapTable()
+	{
+		if (swapTable == null)
+		{
+			// evaluate the config once, and only keep the swaps which can apply, so that
+			// options with no enabled swaps skip the target and config checks entirely
+			Map<String, Swap[]> table = new HashMap<>();
+			for (Map.Entry<String, Collection<Swap>> entry : swaps.asMap().entrySet())
+			{
+				Swap[] enabled = entry.getValue().stream()
+					.filter(swap -> swap.isDynamic() || swap.getEnabled().get())
+					.toArray(Swap[]::new);
+				if (enabled.length > 0)
+				{
+					table.put(entry.getKey(), enabled);
+				}
+			}
+			swapTable = table;
+			log.debug("Compiled swap table with {} options", table.size());
+		}
+		return swapTable;
+	}
+
+	private String normalize(String text)
+	{
+		String normalized = normalizedText.get(text);
+		if (normalized == null)
+		{
+			normalized = Text.removeTags(text).toLowerCase();
+			normalizedText.put(text, normalized);
+		}
+		return normalized;
 	}
 
 	private Integer getItemSwapConfig(boolean shift, int itemId)
@@ -1431,8 +1480,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		final int eventId = menuEntry.getIdentifier();
 		final MenuAction menuAction = menuEntry.getType();
-		final String option = Text.removeTags(menuEntry.getOption()).toLowerCase();
-		final String target = Text.removeTags(menuEntry.getTarget()).toLowerCase();
+		final String option = normalize(menuEntry.getOption());
+		final String target = normalize(menuEntry.getTarget());
 
 		final Widget w = parent != null ? parent.getWidget() : menuEntry.getWidget();
 		// Custom item swap
@@ -1577,10 +1626,15 @@ public class MenuEntrySwapperPlugin extends Plugin
 		}
 
 		// Built-in swaps
-		Collection<Swap> swaps = this.swaps.get(option);
+		final Swap[] swaps = getSwapTable().get(option);
+		if (swaps == null)
+		{
+			return;
+		}
+
 		for (Swap swap : swaps)
 		{
-			if (swap.getTargetPredicate().test(target) && swap.getEnabled().get())
+			if (swap.getTargetPredicate().test(target) && (!swap.isDynamic() || swap.getEnabled().get()))
 			{
 				if (swap(menu, menuEntries, swap.getSwappedOption(), target, index, swap.isStrict()))
 				{
@@ -1590,6 +1644,15 @@ public class MenuEntrySwapperPlugin extends Plugin
 		}
 	}
 
+	@Subscribe
+	public void onConfigChanged(ConfigChanged configChanged)
+	{
+		if (configChanged.getGroup().equals(MenuEntrySwapperConfig.GROUP))
+		{
+			swapTable = null;
+		}
+	}
+
 	@Subscribe
 	public void onClientTick(ClientTick clientTick)
 	{
@@ -1674,6 +1737,12 @@ public class MenuEntrySwapperPlugin extends Plugin
 		Menu root = client.getMenu();
 		MenuEntry[] menuEntries = root.getMenuEntries();
 
+		// the menu text is mostly the same from frame to frame, but bound the cache for eg. player names
+		if (normalizedText.size() > NORMALIZED_TEXT_CACHE_SIZE)
+		{
+			normalizedText.clear();
+		}
+
 		// Perform swaps
 		int idx = 0;
 		for (MenuEntry entry : menuEntries)
@@ -1733,7 +1802,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			{
 				int idx = indexes.get(i);
 				MenuEntry entry = entries[idx];
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryTarget = normalize(entry.getTarget());
 
 				// Limit to the last index which is prior to the current entry
 				if (idx < limit && entryTarget.equals(target))
@@ -1748,10 +1817,10 @@ public class MenuEntrySwapperPlugin extends Plugin
 			for (int i = limit - 1; i >= 0; i--)
 			{
 				MenuEntry entry = entries[i];
-				String entryOption = Text.removeTags(entry.getOption()).toLowerCase();
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryOption = normalize(entry.getOption());
+				String entryTarget = normalize(entry.getTarget());
 
-				if (entryOption.contains(option.toLowerCase()) && entryTarget.equals(target))
+				if (entryOption.contains(option) && entryTarget.equals(target))
 				{
 					return i;
 				}
@@ -1771,7 +1840,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			cacheOptionIndexes.clear();
 			for (MenuEntry entry : menu.getMenuEntries())
 			{
-				String opt = Text.removeTags(entry.getOption()).toLowerCase();
+				String opt = normalize(entry.getOption());
 				cacheOptionIndexes.put(opt, idx++);
 			}
 			log.trace("[{}] Rebuilt option index cache with {} entries", client.getGameCycle(), idx);
@@ -1808,8 +1877,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 		// Update optionIndexes
 		if (cacheOptionMenu == menu)
 		{
-			String option1 = Text.removeTags(entry1.getOption()).toLowerCase(),
-				option2 = Text.removeTags(entry2.getOption()).toLowerCase();
+			String option1 = normalize(entry1.getOption()),
+				option2 = normalize(entry2.getOption());
 
 			List<Integer> list1 = cacheOptionIndexes.get(option1),
 				list2 = cacheOptionIndexes.get(option2);
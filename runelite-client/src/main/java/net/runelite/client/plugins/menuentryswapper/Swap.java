@@ -36,4 +36,9 @@ class Swap
 	private String swappedOption;
 	private Supplier<Boolean> enabled;
 	private boolean strict;
+	/**
+	 * Whether {@link #enabled} depends on state other than the config, such as the shift modifier,
+	 * and so must be checked on each menu sort instead of once per config change.
+	 */
+	private boolean dynamic;
 }
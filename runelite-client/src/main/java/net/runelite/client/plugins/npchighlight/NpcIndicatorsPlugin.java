@@ -462,7 +462,7 @@ public class NpcIndicatorsPlugin extends Plugin
 				highlightedNpcs.put(npc, highlightedNpc(npc));
 			}
 
-			npcOverlayService.rebuild();
+			npcOverlayService.rebuild(isHighlighted);
 		}
 		else
 		{
@@ -675,7 +675,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			memorizedNpcs.remove(npc.getIndex());
 		}
 
-		npcOverlayService.rebuild();
+		npcOverlayService.rebuild(isHighlighted);
 	}
 
 	private boolean highlightMatchesNPCName(String npcName)
@@ -33,15 +33,12 @@ import com.google.inject.Provides;
 import java.applet.Applet;
 import java.awt.Color;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
@@ -75,8 +72,9 @@ import net.runelite.api.events.WallObjectDespawned;
 import net.runelite.api.events.WallObjectSpawned;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
-import net.runelite.client.events.ProfileChanged;
+import net.runelite.client.game.RegionMarkerStore;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_CLICKBOX;
@@ -103,7 +101,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 
 	@Getter(AccessLevel.PACKAGE)
 	private final List<ColorTileObject> objects = new ArrayList<>();
-	private final Map<Integer, Set<ObjectPoint>> points = new HashMap<>();
+	private RegionMarkerStore<ObjectPoint> points;
 
 	@Inject
 	private Client client;
@@ -129,6 +127,9 @@ public class ObjectIndicatorsPlugin extends Plugin
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private EventBus eventBus;
+
 	@Provides
 	ObjectIndicatorsConfig provideConfig(ConfigManager configManager)
 	{
@@ -138,24 +139,27 @@ public class ObjectIndicatorsPlugin extends Plugin
 	@Override
 	protected void startUp()
 	{
+		// CHECKSTYLE:OFF
+		points = new RegionMarkerStore<>(configManager, gson, CONFIG_GROUP, new TypeToken<List<ObjectPoint>>(){}.getType(),
+			p -> RegionMarkerStore.packTile(p.getRegionX(), p.getRegionY(), p.getZ()),
+			// Prior to multiloc support the plugin would mark objects named "null", which breaks
+			// in most cases due to the specific object being identified being ambiguous, so remove
+			// them
+			p -> !p.getName().equals("null"));
+		// CHECKSTYLE:ON
+		eventBus.register(points);
 		overlayManager.add(overlay);
-		clientThread.invokeLater(this::reloadPoints);
 	}
 
 	@Override
 	protected void shutDown()
 	{
 		overlayManager.remove(overlay);
-		points.clear();
+		eventBus.unregister(points);
+		points = null;
 		objects.clear();
 	}
 
-	@Subscribe
-	public void onProfileChanged(ProfileChanged e)
-	{
-		clientThread.invokeLater(this::reloadPoints);
-	}
-
 	@Subscribe
 	public void onWallObjectSpawned(WallObjectSpawned event)
 	{
@@ -204,32 +208,14 @@ public class ObjectIndicatorsPlugin extends Plugin
 		objects.removeIf(o -> o.getTileObject() == event.getGroundObject());
 	}
 
-	private void reloadPoints()
-	{
-		points.clear();
-		if (client.getMapRegions() != null)
-		{
-			for (int regionId : client.getMapRegions())
-			{
-				// load points for region
-				final Set<ObjectPoint> regionPoints = loadPoints(regionId);
-				if (regionPoints != null)
-				{
-					points.put(regionId, regionPoints);
-				}
-			}
-		}
-	}
-
 	@Subscribe
 	public void onGameStateChanged(GameStateChanged gameStateChanged)
 	{
 		GameState gameState = gameStateChanged.getGameState();
 		if (gameState == GameState.LOADING)
 		{
-			// Reload points with new map regions
+			// objects are respawned with the new map regions
 			objects.clear();
-			reloadPoints();
 		}
 	}
 
@@ -428,14 +414,17 @@ public class ObjectIndicatorsPlugin extends Plugin
 	{
 		final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, object.getLocalLocation());
 		final int regionId = worldPoint.getRegionID();
-		Set<ObjectPoint> objectPoints = points.get(regionId);
-		if (objectPoints.isEmpty())
+		final RegionMarkerStore.Region<ObjectPoint> region = points.get(regionId);
+		if (region.isEmpty())
 		{
 			return;
 		}
 
 		final ObjectComposition objectComposition = getObjectComposition(object.getId());
-		ObjectPoint objectPoint = objectPoints.stream().filter(findObjectPredicate(objectComposition, object, worldPoint)).findFirst().orElse(null);
+		ObjectPoint objectPoint = region.getPoints(worldPoint.getRegionX(), worldPoint.getRegionY(), worldPoint.getPlane()).stream()
+			.filter(findObjectPredicate(objectComposition, object, worldPoint))
+			.findFirst()
+			.orElse(null);
 		if (objectPoint == null)
 		{
 			return;
@@ -443,7 +432,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 
 		c.accept(objectPoint);
 
-		savePoints(regionId, objectPoints);
+		points.save(regionId, region.getPoints());
 
 		// rebuild the ColorTileObject from the new config
 		if (objects.removeIf(o -> o.getTileObject() == object))
@@ -461,9 +450,10 @@ public class ObjectIndicatorsPlugin extends Plugin
 		}
 
 		final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, object.getLocalLocation(), object.getPlane());
-		final Set<ObjectPoint> objectPoints = points.get(worldPoint.getRegionID());
+		final List<ObjectPoint> objectPoints = points.get(worldPoint.getRegionID())
+			.getPoints(worldPoint.getRegionX(), worldPoint.getRegionY(), worldPoint.getPlane());
 
-		if (objectPoints == null)
+		if (objectPoints.isEmpty())
 		{
 			return;
 		}
@@ -482,10 +472,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 
 		for (ObjectPoint objectPoint : objectPoints)
 		{
-			if (worldPoint.getRegionX() == objectPoint.getRegionX()
-					&& worldPoint.getRegionY() == objectPoint.getRegionY()
-					&& worldPoint.getPlane() == objectPoint.getZ()
-					&& objectPoint.getId() == object.getId())
+			if (objectPoint.getId() == object.getId())
 			{
 				log.debug("Marking object {} due to matching {}", object, objectPoint);
 				var flags =
@@ -599,7 +586,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 			// use the default config values
 			null, null, null, null);
 
-		Set<ObjectPoint> objectPoints = points.computeIfAbsent(regionId, k -> new HashSet<>());
+		Set<ObjectPoint> objectPoints = new HashSet<>(points.get(regionId).getPoints());
 
 		if (objects.removeIf(o -> o.getTileObject() == object))
 		{
@@ -622,7 +609,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 			log.debug("Marking object: {}", point);
 		}
 
-		savePoints(regionId, objectPoints);
+		points.save(regionId, objectPoints);
 	}
 
 	private static Predicate<ObjectPoint> findObjectPredicate(ObjectComposition objectComposition, TileObject object, WorldPoint worldPoint)
@@ -637,39 +624,6 @@ public class ObjectIndicatorsPlugin extends Plugin
 			&& op.getZ() == worldPoint.getPlane();
 	}
 
-	private void savePoints(final int id, final Set<ObjectPoint> points)
-	{
-		if (points.isEmpty())
-		{
-			configManager.unsetConfiguration(CONFIG_GROUP, "region_" + id);
-		}
-		else
-		{
-			final String json = gson.toJson(points);
-			configManager.setConfiguration(CONFIG_GROUP, "region_" + id, json);
-		}
-	}
-
-	private Set<ObjectPoint> loadPoints(final int id)
-	{
-		final String json = configManager.getConfiguration(CONFIG_GROUP, "region_" + id);
-
-		if (Strings.isNullOrEmpty(json))
-		{
-			return null;
-		}
-
-		Set<ObjectPoint> points = gson.fromJson(json, new TypeToken<Set<ObjectPoint>>()
-		{
-		}.getType());
-		// Prior to multiloc support the plugin would mark objects named "null", which breaks
-		// in most cases due to the specific object being identified being ambiguous, so remove
-		// them
-		return points.stream()
-			.filter(point -> !point.getName().equals("null"))
-			.collect(Collectors.toSet());
-	}
-
 	@Nullable
 	private ObjectComposition getObjectComposition(int id)
 	{
@@ -682,19 +636,15 @@ public class ObjectIndicatorsPlugin extends Plugin
 		List<Color> colors = new ArrayList<>();
 		for (int region : client.getMapRegions())
 		{
-			var points = this.points.get(region);
-			if (points != null)
+			for (var p : points.get(region).getPoints())
 			{
-				for (var p : points)
+				Color c = getColor.apply(p);
+				if (c != null & !colors.contains(c))
 				{
-					Color c = getColor.apply(p);
-					if (c != null & !colors.contains(c))
+					colors.add(c);
+					if (colors.size() >= 5)
 					{
-						colors.add(c);
-						if (colors.size() >= 5)
-						{
-							return colors;
-						}
+						return colors;
 					}
 				}
 			}
@@ -25,6 +25,7 @@
 package net.runelite.client.plugins.runecraft;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.inject.Provides;
 import java.awt.Color;
 import java.util.HashSet;
@@ -107,7 +108,7 @@ public class RunecraftPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
-		npcOverlayService.registerHighlighter(highlightDarkMage);
+		npcOverlayService.registerHighlighter(highlightDarkMage, ImmutableSet.of(NpcID.DARK_MAGE));
 		overlayManager.add(abyssOverlay);
 		overlayManager.add(abyssMinimapOverlay);
 	}
@@ -486,7 +486,7 @@ public class SlayerPlugin extends Plugin
 		}
 		else
 		{
-			npcOverlayService.rebuild();
+			npcOverlayService.rebuild(isTarget);
 		}
 	}
 
@@ -620,7 +620,7 @@ public class SlayerPlugin extends Plugin
 		Task task = Task.getTask(name);
 		rebuildTargetNames(task);
 		rebuildTargetList();
-		npcOverlayService.rebuild();
+		npcOverlayService.rebuild(isTarget);
 	}
 
 	private void addCounter()
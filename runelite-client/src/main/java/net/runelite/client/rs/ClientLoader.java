@@ -28,15 +28,18 @@ package net.runelite.client.rs;
 
 import com.google.common.base.Strings;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.Files;
 import java.applet.Applet;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
@@ -44,13 +47,14 @@ import java.nio.file.StandardOpenOption;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import javax.annotation.Nonnull;
 import javax.swing.SwingUtilities;
@@ -80,6 +84,9 @@ public class ClientLoader implements Supplier<Applet>
 	private static final int NUM_ATTEMPTS = 6;
 	private static File LOCK_FILE = new File(RuneLite.CACHE_DIR, "cache.lock");
 	private static File VANILLA_CACHE = new File(RuneLite.CACHE_DIR, "vanilla.cache");
+	// size, mtime, and hash of the vanilla cache when it was last fully verified
+	private static File VANILLA_FINGERPRINT = new File(RuneLite.CACHE_DIR, "vanilla.cache.verified");
+	private static final int FINGERPRINT_VERSION = 1;
 
 	private final OkHttpClient okHttpClient;
 	private final ClientConfigLoader clientConfigLoader;
@@ -89,6 +96,10 @@ public class ClientLoader implements Supplier<Applet>
 	private final String javConfigUrl;
 
 	private Object client;
+	// sha512 of the vanilla cache, if known
+	private byte[] vanillaCacheHash;
+	// whether the vanilla cache was verified without a matching fingerprint, and so a new fingerprint should be written
+	private boolean vanillaCacheVerified;
 
 	public ClientLoader(OkHttpClient okHttpClient, ClientUpdateCheckMode updateCheckMode, RuntimeConfigLoader runtimeConfigLoader, String javConfigUrl)
 	{
@@ -155,6 +166,11 @@ public class ClientLoader implements Supplier<Applet>
 					}
 				}
 
+				if (vanillaCacheVerified)
+				{
+					writeVanillaFingerprint();
+				}
+
 				if (updateCheckMode == AUTO)
 				{
 					SplashScreen.stage(.35, null, "Checking version");
@@ -281,6 +297,9 @@ public class ClientLoader implements Supplier<Applet>
 			loadCertificateChain("jagex2021.crt")
 		};
 
+		// If the vanilla cache is unchanged since it was last verified, it doesn't need to be verified again
+		final byte[] verifiedHash = readVanillaFingerprint();
+
 		// Get the mtime of the first thing in the vanilla cache
 		// we check this against what the server gives us to let us skip downloading and patching the whole thing
 
@@ -391,13 +410,19 @@ public class ClientLoader implements Supplier<Applet>
 
 					// the mtime matches so the cache is probably up to date, but just make sure its fully
 					// intact before closing the server connection
-					if (!vanillaCacheIsInvalid)
+					if (!vanillaCacheIsInvalid && verifiedHash != null)
+					{
+						log.debug("Vanilla cache matches its verified fingerprint");
+						vanillaCacheHash = verifiedHash;
+					}
+					else if (!vanillaCacheIsInvalid)
 					{
 						try
 						{
 							// as with the request stream, its important to not early close vanilla too
 							JarInputStream vanillaCacheTest = new JarInputStream(Channels.newInputStream(vanilla));
 							verifyWholeJar(vanillaCacheTest, jagexCertificateChains);
+							vanillaCacheVerified = true;
 						}
 						catch (Exception e)
 						{
@@ -410,13 +435,15 @@ public class ClientLoader implements Supplier<Applet>
 					{
 						// the cache is not up to date, commit our peek to the file and write the rest of it, while verifying
 						vanilla.position(0);
-						OutputStream out = Channels.newOutputStream(vanilla);
+						HashingOutputStream out = new HashingOutputStream(Hashing.sha512(), Channels.newOutputStream(vanilla));
 						out.write(preRead.toByteArray());
 						copyStream.setOut(out);
 						verifyWholeJar(networkJIS, jagexCertificateChains);
 						copyStream.skip(Long.MAX_VALUE); // write the trailer to the file too
 						out.flush();
 						vanilla.truncate(vanilla.position());
+						vanillaCacheHash = out.hash().asBytes();
+						vanillaCacheVerified = true;
 					}
 					else
 					{
@@ -465,7 +492,10 @@ public class ClientLoader implements Supplier<Applet>
 			dis.readFully(vanillaHash);
 		}
 
-		byte[] vanillaCacheHash = Files.asByteSource(VANILLA_CACHE).hash(Hashing.sha512()).asBytes();
+		if (vanillaCacheHash == null)
+		{
+			vanillaCacheHash = Files.asByteSource(VANILLA_CACHE).hash(Hashing.sha512()).asBytes();
+		}
 		if (!Arrays.equals(vanillaHash, vanillaCacheHash))
 		{
 			log.info("Client is outdated!");
@@ -473,67 +503,137 @@ public class ClientLoader implements Supplier<Applet>
 		}
 	}
 
-	private ClassLoader createJarClassLoader(File jar) throws IOException, ClassNotFoundException
+	/**
+	 * Read the fingerprint of the vanilla cache from when it was last verified
+	 *
+	 * @return the sha512 of the vanilla cache, or null if it has changed since it was verified
+	 */
+	private static byte[] readVanillaFingerprint()
 	{
-		try (JarFile jarFile = new JarFile(jar))
+		if (!VANILLA_FINGERPRINT.exists())
 		{
-			// We explicitly use the platform class loader so that the patched classes do not get used
-			// when loading vanilla
-			ClassLoader classLoader = new ClassLoader(ClassLoader.getPlatformClassLoader())
-			{
-				@Override
-				protected Class<?> findClass(String name) throws ClassNotFoundException
-				{
-					String entryName = name.replace('.', '/').concat(".class");
-					JarEntry jarEntry;
+			return null;
+		}
 
-					try
-					{
-						jarEntry = jarFile.getJarEntry(entryName);
-					}
-					catch (IllegalStateException ex)
-					{
-						throw new ClassNotFoundException(name, ex);
-					}
+		try (DataInputStream in = new DataInputStream(new FileInputStream(VANILLA_FINGERPRINT)))
+		{
+			if (in.readInt() != FINGERPRINT_VERSION
+				|| in.readLong() != VANILLA_CACHE.length()
+				|| in.readLong() != VANILLA_CACHE.lastModified())
+			{
+				return null;
+			}
 
-					if (jarEntry == null)
-					{
-						throw new ClassNotFoundException(name);
-					}
+			byte[] hash = new byte[in.readUnsignedByte()];
+			in.readFully(hash);
+			return hash;
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to read vanilla cache fingerprint", ex);
+			return null;
+		}
+	}
 
-					try
-					{
-						InputStream inputStream = jarFile.getInputStream(jarEntry);
-						if (inputStream == null)
-						{
-							throw new ClassNotFoundException(name);
-						}
+	private void writeVanillaFingerprint()
+	{
+		try
+		{
+			if (vanillaCacheHash == null)
+			{
+				vanillaCacheHash = Files.asByteSource(VANILLA_CACHE).hash(Hashing.sha512()).asBytes();
+			}
 
-						byte[] bytes = ByteStreams.toByteArray(inputStream);
-						return defineClass(name, bytes, 0, bytes.length);
-					}
-					catch (IOException e)
-					{
-						throw new ClassNotFoundException(null, e);
-					}
-				}
-			};
+			try (DataOutputStream out = new DataOutputStream(new FileOutputStream(VANILLA_FINGERPRINT)))
+			{
+				out.writeInt(FINGERPRINT_VERSION);
+				out.writeLong(VANILLA_CACHE.length());
+				out.writeLong(VANILLA_CACHE.lastModified());
+				out.writeByte(vanillaCacheHash.length);
+				out.write(vanillaCacheHash);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write vanilla cache fingerprint", ex);
+			VANILLA_FINGERPRINT.delete();
+		}
+	}
 
-			// load all of the classes in this jar; after the jar is closed the classloader
-			// will no longer be able to look up classes
-			Enumeration<JarEntry> entries = jarFile.entries();
-			while (entries.hasMoreElements())
+	private ClassLoader createJarClassLoader(File jar) throws IOException, ClassNotFoundException
+	{
+		// read all of the classes in one pass over the jar
+		Map<String, byte[]> classes = new HashMap<>();
+		try (JarInputStream jis = new JarInputStream(new FileInputStream(jar)))
+		{
+			for (JarEntry jarEntry; (jarEntry = jis.getNextJarEntry()) != null; )
 			{
-				JarEntry jarEntry = entries.nextElement();
 				String name = jarEntry.getName();
 				if (name.endsWith(".class"))
 				{
 					name = name.substring(0, name.length() - 6);
-					classLoader.loadClass(name.replace('/', '.'));
+					classes.put(name.replace('/', '.'), ByteStreams.toByteArray(jis));
+				}
+			}
+		}
+
+		JarClassLoader classLoader = new JarClassLoader(classes);
+
+		// load all of the classes in this jar, in parallel. Once a class is loaded its bytes are released,
+		// so that the jar can change on disk after this without breaking future classloads
+		try
+		{
+			new ArrayList<>(classes.keySet()).parallelStream().forEach(name ->
+			{
+				try
+				{
+					classLoader.loadClass(name);
+				}
+				catch (ClassNotFoundException ex)
+				{
+					throw new RuntimeException(ex);
 				}
+			});
+		}
+		catch (RuntimeException ex)
+		{
+			if (ex.getCause() instanceof ClassNotFoundException)
+			{
+				throw (ClassNotFoundException) ex.getCause();
+			}
+			throw ex;
+		}
+
+		return classLoader;
+	}
+
+	private static class JarClassLoader extends ClassLoader
+	{
+		static
+		{
+			registerAsParallelCapable();
+		}
+
+		private final Map<String, byte[]> classes;
+
+		private JarClassLoader(Map<String, byte[]> classes)
+		{
+			// We explicitly use the platform class loader so that the patched classes do not get used
+			// when loading vanilla
+			super(ClassLoader.getPlatformClassLoader());
+			this.classes = new ConcurrentHashMap<>(classes);
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException
+		{
+			byte[] bytes = classes.remove(name);
+			if (bytes == null)
+			{
+				throw new ClassNotFoundException(name);
 			}
 
-			return classLoader;
+			return defineClass(name, bytes, 0, bytes.length);
 		}
 	}
 
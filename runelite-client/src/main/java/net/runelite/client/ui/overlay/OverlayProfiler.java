@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.common.collect.MapMaker;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.ui.overlay.tooltip.TooltipOverlay;
+import net.runelite.client.util.Histogram;
+
+/**
+ * Records how long each overlay, and each layer of overlays, takes to render. Overlays which take
+ * longer than the frame budget to render are skipped for a number of frames, which doubles each time
+ * the overlay overruns the budget again, until the overlay has rendered within the budget for a run of
+ * frames. Widget and tooltip overlays are never skipped, as they are part of the game interface. All
+ * methods other than the setters must be called from the client thread.
+ */
+@Singleton
+@Slf4j
+public class OverlayProfiler
+{
+	private static final int MAX_SKIPPED_FRAMES = 64;
+	/**
+	 * The number of consecutive frames an overlay must render within the budget before its skipping backs off
+	 */
+	private static final int RECOVERY_FRAMES = 256;
+
+	@Value
+	public static class Timing
+	{
+		String name;
+		long count;
+		long mean;
+		long p50;
+		long p99;
+		long max;
+		int overruns;
+	}
+
+	private static class OverlayTiming
+	{
+		final Histogram histogram = new Histogram();
+		int overruns;
+		// overruns since the overlay last rendered within budget for RECOVERY_FRAMES frames
+		int recentOverruns;
+		int framesWithinBudget;
+		int skipFrames;
+	}
+
+	/**
+	 * Whether overlay render times are recorded
+	 */
+	@Getter
+	@Setter
+	private volatile boolean enabled;
+
+	/**
+	 * The time in nanoseconds an overlay may take to render before it is skipped, or 0 for no budget
+	 */
+	@Getter
+	@Setter
+	private volatile long frameBudget;
+
+	private final Map<Overlay, OverlayTiming> overlays = new MapMaker().weakKeys().makeMap();
+	private final Map<OverlayLayer, Histogram> layers = new EnumMap<>(OverlayLayer.class);
+	private final Histogram frames = new Histogram();
+	private long frameTime;
+
+	/**
+	 * @return whether any overlays should be timed
+	 */
+	boolean isActive()
+	{
+		return enabled || frameBudget > 0;
+	}
+
+	void startFrame()
+	{
+		if (frameTime > 0)
+		{
+			frames.record(frameTime);
+			frameTime = 0;
+		}
+	}
+
+	/**
+	 * @return whether the overlay should be rendered this frame, or skipped because it overran the frame budget
+	 */
+	boolean shouldRender(Overlay overlay)
+	{
+		OverlayTiming timing = overlays.get(overlay);
+		if (timing == null || timing.skipFrames == 0)
+		{
+			return true;
+		}
+
+		--timing.skipFrames;
+		return false;
+	}
+
+	void recordOverlay(Overlay overlay, long nanos)
+	{
+		final OverlayTiming timing = overlays.computeIfAbsent(overlay, k -> new OverlayTiming());
+		if (enabled)
+		{
+			timing.histogram.record(nanos);
+		}
+
+		final long budget = frameBudget;
+		if (budget <= 0 || isExempt(overlay))
+		{
+			return;
+		}
+
+		if (nanos <= budget)
+		{
+			if (timing.recentOverruns > 0 && ++timing.framesWithinBudget >= RECOVERY_FRAMES)
+			{
+				timing.recentOverruns = 0;
+				timing.framesWithinBudget = 0;
+			}
+			return;
+		}
+
+		timing.framesWithinBudget = 0;
+		timing.skipFrames = Math.min(1 << Math.min(timing.recentOverruns, 30), MAX_SKIPPED_FRAMES);
+		++timing.overruns;
+		if (timing.recentOverruns++ == 0)
+		{
+			log.warn("Overlay {} took {}ms to render, exceeding the frame budget of {}ms", overlay.getName(),
+				TimeUnit.NANOSECONDS.toMillis(nanos), TimeUnit.NANOSECONDS.toMillis(budget));
+		}
+	}
+
+	private static boolean isExempt(Overlay overlay)
+	{
+		return overlay instanceof WidgetOverlay || overlay instanceof TooltipOverlay;
+	}
+
+	void recordLayer(OverlayLayer layer, long nanos)
+	{
+		if (enabled)
+		{
+			layers.computeIfAbsent(layer, k -> new Histogram()).record(nanos);
+			frameTime += nanos;
+		}
+	}
+
+	/**
+	 * Get the recorded timings, with the slowest overlays first
+	 */
+	public List<Timing> getTimings()
+	{
+		final List<Timing> timings = new ArrayList<>();
+		timings.add(timing("Frame", frames, 0));
+		for (Map.Entry<OverlayLayer, Histogram> entry : layers.entrySet())
+		{
+			timings.add(timing("Layer " + entry.getKey(), entry.getValue(), 0));
+		}
+
+		final List<Timing> overlayTimings = new ArrayList<>();
+		for (Map.Entry<Overlay, OverlayTiming> entry : overlays.entrySet())
+		{
+			OverlayTiming timing = entry.getValue();
+			overlayTimings.add(timing(entry.getKey().getName(), timing.histogram, timing.overruns));
+		}
+		overlayTimings.sort(Comparator.comparingLong(Timing::getP99).reversed());
+		timings.addAll(overlayTimings);
+		return timings;
+	}
+
+	public void reset()
+	{
+		frames.reset();
+		frameTime = 0;
+		layers.clear();
+		overlays.clear();
+	}
+
+	private static Timing timing(String name, Histogram histogram, int overruns)
+	{
+		return new Timing(name, histogram.getCount(), histogram.getMean(),
+			histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99), histogram.getMax(), overruns);
+	}
+}
@@ -95,6 +95,7 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final OverlayProfiler overlayProfiler;
 
 	// Overlay movement variables
 	private final Point overlayOffset = new Point();
@@ -126,13 +127,15 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final OverlayProfiler overlayProfiler
 	)
 	{
 		this.client = client;
 		this.overlayManager = overlayManager;
 		this.runeLiteConfig = runeLiteConfig;
 		this.clientUI = clientUI;
+		this.overlayProfiler = overlayProfiler;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
 
@@ -215,6 +218,7 @@ public class OverlayRenderer extends MouseAdapter
 	public void onBeforeRender(BeforeRender event)
 	{
 		curHoveredOverlay = null;
+		overlayProfiler.startFrame();
 
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
@@ -291,6 +295,9 @@ public class OverlayRenderer extends MouseAdapter
 		final Rectangle clip = clipBounds(layer);
 		graphics.setClip(clip);
 
+		final boolean profile = overlayProfiler.isActive();
+		final long layerStart = profile ? System.nanoTime() : 0;
+
 		for (Overlay overlay : overlays)
 		{
 			final OverlayPosition overlayPosition = getCorrectedOverlayPosition(overlay);
@@ -382,6 +389,11 @@ public class OverlayRenderer extends MouseAdapter
 				}
 			}
 		}
+
+		if (profile)
+		{
+			overlayProfiler.recordLayer(layer, System.nanoTime() - layerStart);
+		}
 	}
 
 	@Override
@@ -709,6 +721,12 @@ public class OverlayRenderer extends MouseAdapter
 
 	private void safeRender(Overlay overlay, Graphics2D graphics, Point point)
 	{
+		final boolean profile = overlayProfiler.isActive();
+		if (profile && !overlayProfiler.shouldRender(overlay))
+		{
+			return;
+		}
+
 		final OverlayPosition position = overlay.getPosition();
 
 		// Set font based on configuration
@@ -729,6 +747,7 @@ public class OverlayRenderer extends MouseAdapter
 		overlay.getBounds().setLocation(point);
 
 		final Dimension overlayDimension;
+		final long start = profile ? System.nanoTime() : 0;
 		try
 		{
 			overlayDimension = overlay.render(graphics);
@@ -738,6 +757,13 @@ public class OverlayRenderer extends MouseAdapter
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
 			return;
 		}
+		finally
+		{
+			if (profile)
+			{
+				overlayProfiler.recordOverlay(overlay, System.nanoTime() - start);
+			}
+		}
 
 		final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
 		overlay.getBounds().setSize(dimension);
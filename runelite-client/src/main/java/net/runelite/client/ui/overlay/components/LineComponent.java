@@ -34,12 +34,13 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-import net.runelite.client.util.Text;
 
 @Setter
 @Builder
+@EqualsAndHashCode
 public class LineComponent implements LayoutableRenderableEntity
 {
 	private String left;
@@ -56,6 +57,7 @@ public class LineComponent implements LayoutableRenderableEntity
 	private Font rightFont;
 
 	@Builder.Default
+	@EqualsAndHashCode.Exclude
 	private Point preferredLocation = new Point();
 
 	@Builder.Default
@@ -63,6 +65,7 @@ public class LineComponent implements LayoutableRenderableEntity
 
 	@Builder.Default
 	@Getter
+	@EqualsAndHashCode.Exclude
 	private final Rectangle bounds = new Rectangle();
 
 	@Override
@@ -159,40 +162,11 @@ public class LineComponent implements LayoutableRenderableEntity
 
 	private static int getLineWidth(final String line, final FontMetrics metrics)
 	{
-		return metrics.stringWidth(Text.removeTags(line));
+		return TextLayoutCache.width(line, metrics);
 	}
 
 	private static String[] lineBreakText(String text, int maxWidth, FontMetrics metrics)
 	{
-		final String[] words = text.split(" ");
-
-		if (words.length == 0)
-		{
-			return new String[0];
-		}
-
-		final StringBuilder wrapped = new StringBuilder(words[0]);
-		int spaceLeft = maxWidth - metrics.stringWidth(wrapped.toString());
-
-		for (int i = 1; i < words.length; i++)
-		{
-			final String word = words[i];
-			final int wordLen = metrics.stringWidth(word);
-			final int spaceWidth = metrics.stringWidth(" ");
-
-			if (wordLen + spaceWidth > spaceLeft)
-			{
-				wrapped.append('\n').append(word);
-				spaceLeft = maxWidth - wordLen;
-			}
-			else
-			{
-				wrapped.append(' ').append(word);
-				spaceLeft -= spaceWidth + wordLen;
-			}
-		}
-
-		return wrapped.toString().split("\n");
+		return TextLayoutCache.lineBreak(text, maxWidth, metrics);
 	}
 }
-
@@ -26,11 +26,14 @@ package net.runelite.client.ui.overlay.components;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -69,8 +72,34 @@ public class PanelComponent implements LayoutableRenderableEntity
 	@Setter
 	private Point gap = new Point(0, 0);
 
+	/**
+	 * Enables/disables rendering the panel into an image which is reused while the panel and its
+	 * children are unchanged. Only panels of {@link LineComponent}s and {@link TitleComponent}s
+	 * are retained, as the other components can't be compared by their content.
+	 * <p>
+	 * Children are compared with the previous frame's children by {@link Object#equals(Object)},
+	 * and the previous frame's children are the same instances, so a child which is mutated in
+	 * place instead of being rebuilt will not invalidate the retained image.
+	 */
+	@Setter
+	private boolean retained;
+
 	private final Dimension childDimensions = new Dimension();
 
+	// state of the previous frame, compared in place so that an unchanged frame allocates nothing
+	private final List<LayoutableRenderableEntity> retainedChildren = new ArrayList<>();
+	private boolean retainedValid;
+	private Font retainedFont;
+	private final Dimension retainedPreferredSize = new Dimension();
+	private Color retainedBackgroundColor;
+	private ComponentOrientation retainedOrientation;
+	private boolean retainedWrap;
+	private final Rectangle retainedBorder = new Rectangle();
+	private final Point retainedGap = new Point();
+	private Dimension retainedChildSize;
+	private Dimension retainedDimension;
+	private BufferedImage retainedImage;
+
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
@@ -79,6 +108,128 @@ public class PanelComponent implements LayoutableRenderableEntity
 			return null;
 		}
 
+		if (!retained || !isRetainable())
+		{
+			clearRetained();
+			return renderPanel(graphics);
+		}
+
+		if (!wrap)
+		{
+			// apply the child preferred sizes up front, so that they compare equal to the retained children.
+			// the size is shared by the children and replaced rather than mutated, as the retained children hold it too
+			final int childWidth = orientation == ComponentOrientation.VERTICAL ? preferredSize.width - border.x - border.width : 0;
+			final int childHeight = orientation == ComponentOrientation.VERTICAL ? 0 : preferredSize.height - border.y - border.height;
+			if (retainedChildSize == null || retainedChildSize.width != childWidth || retainedChildSize.height != childHeight)
+			{
+				retainedChildSize = new Dimension(childWidth, childHeight);
+			}
+
+			for (final LayoutableRenderableEntity child : children)
+			{
+				child.setPreferredSize(retainedChildSize);
+			}
+		}
+
+		final Font font = graphics.getFont();
+		if (!isRetainedCurrent(font))
+		{
+			// the panel has changed, render it normally until it is unchanged for a frame so that the child dimensions have settled
+			updateRetained(font);
+			return renderPanel(graphics);
+		}
+
+		if (retainedImage == null)
+		{
+			final int width = border.x + childDimensions.width + border.width;
+			final int height = border.y + childDimensions.height + border.height;
+			if (width <= 0 || height <= 0)
+			{
+				return renderPanel(graphics);
+			}
+
+			final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			final Graphics2D g = image.createGraphics();
+			final Point location = preferredLocation;
+			try
+			{
+				g.setRenderingHints(graphics.getRenderingHints());
+				g.setFont(font);
+				g.setColor(graphics.getColor());
+				preferredLocation = new Point();
+				renderPanel(g);
+			}
+			finally
+			{
+				preferredLocation = location;
+				g.dispose();
+			}
+			retainedImage = image;
+			retainedDimension = new Dimension(width, height);
+		}
+
+		graphics.drawImage(retainedImage, preferredLocation.x, preferredLocation.y, null);
+
+		bounds.setLocation(preferredLocation);
+		bounds.setSize(retainedDimension);
+		return retainedDimension;
+	}
+
+	private boolean isRetainable()
+	{
+		for (final LayoutableRenderableEntity child : children)
+		{
+			if (!(child instanceof LineComponent) && !(child instanceof TitleComponent))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isRetainedCurrent(Font font)
+	{
+		return retainedValid
+			&& retainedChildren.equals(children)
+			&& Objects.equals(retainedFont, font)
+			&& retainedPreferredSize.equals(preferredSize)
+			&& Objects.equals(retainedBackgroundColor, backgroundColor)
+			&& retainedOrientation == orientation
+			&& retainedWrap == wrap
+			&& retainedBorder.equals(border)
+			&& retainedGap.equals(gap);
+	}
+
+	private void updateRetained(Font font)
+	{
+		retainedChildren.clear();
+		retainedChildren.addAll(children);
+		retainedValid = true;
+		retainedFont = font;
+		retainedPreferredSize.setSize(preferredSize);
+		retainedBackgroundColor = backgroundColor;
+		retainedOrientation = orientation;
+		retainedWrap = wrap;
+		retainedBorder.setBounds(border);
+		retainedGap.setLocation(gap);
+		retainedImage = null;
+		retainedDimension = null;
+	}
+
+	private void clearRetained()
+	{
+		if (retainedValid)
+		{
+			retainedChildren.clear();
+			retainedValid = false;
+			retainedFont = null;
+			retainedImage = null;
+			retainedDimension = null;
+		}
+	}
+
+	private Dimension renderPanel(Graphics2D graphics)
+	{
 		// Calculate panel dimension
 		final Dimension dimension = new Dimension(
 			border.x + childDimensions.width + border.width,
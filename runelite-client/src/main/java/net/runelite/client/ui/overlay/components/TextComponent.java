@@ -30,8 +30,6 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Point;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import lombok.Setter;
 import net.runelite.client.ui.overlay.RenderableEntity;
@@ -39,8 +37,6 @@ import net.runelite.client.ui.overlay.RenderableEntity;
 @Setter
 public class TextComponent implements RenderableEntity
 {
-	private static final Pattern COL_TAG_PATTERN = Pattern.compile("<col=([0-9a-fA-F]{2,6})>");
-
 	private String text;
 	private Point position = new Point();
 	private Color color = Color.WHITE;
@@ -63,28 +59,14 @@ public class TextComponent implements RenderableEntity
 
 		final FontMetrics fontMetrics = graphics.getFontMetrics();
 
-		Matcher matcher = COL_TAG_PATTERN.matcher(text);
-		Color textColor = color;
-		int idx = 0;
-		int width = 0;
-		while (matcher.find())
-		{
-			String color = matcher.group(1);
-			String s = text.substring(idx, matcher.start());
-			idx = matcher.end();
-
-			renderText(graphics, textColor, position.x + width, position.y, s);
-			width += fontMetrics.stringWidth(s);
-
-			textColor = Color.decode("#" + color);
-		}
-
+		final TextLayoutCache.Segments segments = TextLayoutCache.segments(text, fontMetrics);
+		for (int i = 0; i < segments.text.length; ++i)
 		{
-			String s = text.substring(idx);
-			renderText(graphics, textColor, position.x + width, position.y, s);
-			width += fontMetrics.stringWidth(s);
+			final Color segmentColor = segments.colors[i];
+			renderText(graphics, segmentColor == null ? color : segmentColor, position.x + segments.offsets[i], position.y, segments.text[i]);
 		}
 
+		final int width = segments.width;
 		int height = fontMetrics.getHeight();
 
 		if (originalFont != null)
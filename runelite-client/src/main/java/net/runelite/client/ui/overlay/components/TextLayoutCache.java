@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.components;
+
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import net.runelite.client.util.Text;
+
+/**
+ * Memoizes the measuring, color tag parsing and line wrapping of component text. Overlays rebuild
+ * their components every frame, but the text usually changes much less often than that.
+ */
+final class TextLayoutCache
+{
+	private static final Pattern COL_TAG_PATTERN = Pattern.compile("<col=([0-9a-fA-F]{2,6})>");
+	private static final int MAX_ENTRIES = 4096;
+
+	/**
+	 * Text split on its color tags
+	 */
+	@AllArgsConstructor
+	static final class Segments
+	{
+		final String[] text;
+		/**
+		 * The color of each segment, with null being the default color of the text
+		 */
+		final Color[] colors;
+		/**
+		 * The x offset of each segment
+		 */
+		final int[] offsets;
+		final int width;
+	}
+
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	private static final class Key
+	{
+		final FontMetrics metrics;
+		final String text;
+		final int type;
+		final int maxWidth;
+	}
+
+	private static final int SEGMENTS = 0;
+	private static final int WIDTH = 1;
+	private static final int LINES = 2;
+
+	private static final Map<Key, Object> cache = new HashMap<>();
+
+	private TextLayoutCache()
+	{
+	}
+
+	static Segments segments(String text, FontMetrics metrics)
+	{
+		return (Segments) get(new Key(metrics, text, SEGMENTS, 0));
+	}
+
+	/**
+	 * Get the width of the text with its tags removed
+	 */
+	static int width(String text, FontMetrics metrics)
+	{
+		return (Integer) get(new Key(metrics, text, WIDTH, 0));
+	}
+
+	/**
+	 * Wrap the text on word boundaries to fit within the given width
+	 */
+	static String[] lineBreak(String text, int maxWidth, FontMetrics metrics)
+	{
+		return (String[]) get(new Key(metrics, text, LINES, maxWidth));
+	}
+
+	private static synchronized Object get(Key key)
+	{
+		Object value = cache.get(key);
+		if (value == null)
+		{
+			if (cache.size() >= MAX_ENTRIES)
+			{
+				cache.clear();
+			}
+
+			value = compute(key);
+			cache.put(key, value);
+		}
+		return value;
+	}
+
+	private static Object compute(Key key)
+	{
+		switch (key.type)
+		{
+			case SEGMENTS:
+				return computeSegments(key.text, key.metrics);
+			case WIDTH:
+				return key.metrics.stringWidth(Text.removeTags(key.text));
+			case LINES:
+				return computeLineBreak(key.text, key.maxWidth, key.metrics);
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	private static Segments computeSegments(String text, FontMetrics metrics)
+	{
+		final List<String> segments = new ArrayList<>(1);
+		final List<Color> colors = new ArrayList<>(1);
+		final Matcher matcher = COL_TAG_PATTERN.matcher(text);
+		Color color = null;
+		int idx = 0;
+		while (matcher.find())
+		{
+			segments.add(text.substring(idx, matcher.start()));
+			colors.add(color);
+			idx = matcher.end();
+			color = Color.decode("#" + matcher.group(1));
+		}
+		segments.add(text.substring(idx));
+		colors.add(color);
+
+		final int[] offsets = new int[segments.size()];
+		int width = 0;
+		for (int i = 0; i < offsets.length; ++i)
+		{
+			offsets[i] = width;
+			width += metrics.stringWidth(segments.get(i));
+		}
+
+		return new Segments(segments.toArray(new String[0]), colors.toArray(new Color[0]), offsets, width);
+	}
+
+	private static String[] computeLineBreak(String text, int maxWidth, FontMetrics metrics)
+	{
+		final String[] words = text.split(" ");
+
+		if (words.length == 0)
+		{
+			return new String[0];
+		}
+
+		final StringBuilder wrapped = new StringBuilder(words[0]);
+		int spaceLeft = maxWidth - metrics.stringWidth(wrapped.toString());
+		final int spaceWidth = metrics.stringWidth(" ");
+
+		for (int i = 1; i < words.length; i++)
+		{
+			final String word = words[i];
+			final int wordLen = metrics.stringWidth(word);
+
+			if (wordLen + spaceWidth > spaceLeft)
+			{
+				wrapped.append('\n').append(word);
+				spaceLeft = maxWidth - wordLen;
+			}
+			else
+			{
+				wrapped.append(' ').append(word);
+				spaceLeft -= spaceWidth + wordLen;
+			}
+		}
+
+		return wrapped.toString().split("\n");
+	}
+}
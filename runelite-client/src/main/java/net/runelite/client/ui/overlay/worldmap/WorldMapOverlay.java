@@ -64,6 +64,10 @@ public class WorldMapOverlay extends Overlay
 	private static final int TOOLTIP_PADDING_WIDTH = 2;
 	private static final int TOOLTIP_TEXT_OFFSET_HEIGHT = -2;
 
+	// Distance in pixels outside of the map view that points are still drawn, so icons
+	// centered just off the map are still partly visible
+	private static final int CULL_MARGIN = 128;
+
 	private static final Splitter TOOLTIP_SPLITTER = Splitter.on("<br>").trimResults().omitEmptyStrings();
 
 	private final WorldMapPointManager worldMapPointManager;
@@ -87,9 +91,7 @@ public class WorldMapOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		final List<WorldMapPoint> points = worldMapPointManager.getWorldMapPoints();
-
-		if (points.isEmpty())
+		if (worldMapPointManager.getWorldMapPoints().isEmpty())
 		{
 			return null;
 		}
@@ -119,6 +121,7 @@ public class WorldMapOverlay extends Overlay
 		bottomBar.setHasListener(true);
 
 		final Rectangle worldMapRectangle = widget.getBounds();
+		final List<WorldMapPoint> points = worldMapPointManager.getWorldMapPoints(getVisibleWorldArea(worldMapRectangle));
 		final Shape mapViewArea = getWorldMapClipArea(worldMapRectangle);
 		final Rectangle canvasBounds = new Rectangle(0, 0, client.getCanvasWidth(), client.getCanvasHeight());
 		final Shape canvasViewArea = getWorldMapClipArea(canvasBounds);
@@ -290,6 +293,30 @@ public class WorldMapOverlay extends Overlay
 		return null;
 	}
 
+	/**
+	 * Gets the area of the world, in world coordinates, which is shown in the world map view,
+	 * grown by {@link #CULL_MARGIN} pixels on each side.
+	 *
+	 * @param worldMapRect the bounds of the world map view
+	 * @return the visible area of the world
+	 */
+	private Rectangle getVisibleWorldArea(Rectangle worldMapRect)
+	{
+		WorldMap worldMap = client.getWorldMap();
+		float pixelsPerTile = worldMap.getWorldMapZoom();
+		Point worldMapPosition = worldMap.getWorldMapPosition();
+
+		int widthInTiles = (int) Math.ceil(worldMapRect.getWidth() / pixelsPerTile);
+		int heightInTiles = (int) Math.ceil(worldMapRect.getHeight() / pixelsPerTile);
+		int margin = (int) Math.ceil(CULL_MARGIN / pixelsPerTile) + 1;
+
+		return new Rectangle(
+			worldMapPosition.getX() - widthInTiles / 2 - margin,
+			worldMapPosition.getY() - heightInTiles / 2 - margin,
+			widthInTiles + margin * 2,
+			heightInTiles + margin * 2);
+	}
+
 	/**
 	 * Gets a clip area which excludes the area of widgets which overlay the world map.
 	 *
@@ -25,8 +25,14 @@
 package net.runelite.client.ui.overlay.worldmap;
 
 import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import net.runelite.api.Point;
 import net.runelite.api.coords.WorldPoint;
@@ -67,12 +73,42 @@ public class WorldMapPoint
 
 	private String tooltip;
 
+	/**
+	 * The manager this point has been added to, which indexes it by its world point
+	 */
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private final transient AtomicReference<WorldMapPointManager> manager = new AtomicReference<>();
+
 	public WorldMapPoint(WorldPoint worldPoint, BufferedImage image)
 	{
 		this.worldPoint = worldPoint;
 		this.image = image;
 	}
 
+	public void setWorldPoint(WorldPoint worldPoint)
+	{
+		this.worldPoint = worldPoint;
+		moved();
+	}
+
+	public void setSnapToEdge(boolean snapToEdge)
+	{
+		this.snapToEdge = snapToEdge;
+		moved();
+	}
+
+	private void moved()
+	{
+		WorldMapPointManager worldMapPointManager = manager.get();
+		if (worldMapPointManager != null)
+		{
+			worldMapPointManager.update(this);
+		}
+	}
+
 	public void onEdgeSnap()
 	{
 	}
@@ -24,31 +24,194 @@
  */
 package net.runelite.client.ui.overlay.worldmap;
 
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import javax.inject.Singleton;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.coords.WorldPoint;
 
+/**
+ * Holds the points drawn on the world map. Points are indexed in a grid by their
+ * world point, so that the overlay only needs to visit the points in view. Points
+ * which snap to the edge of the map are drawn even when they are out of view, so
+ * they are kept in a separate list instead.
+ */
 @Singleton
 public class WorldMapPointManager
 {
+	// the size of the cells of the index, in tiles
+	private static final int CELL_SIZE = 64;
+
+	private static final ClassValue<Boolean> MOVES_ITSELF = new ClassValue<Boolean>()
+	{
+		@Override
+		protected Boolean computeValue(Class<?> type)
+		{
+			try
+			{
+				return type.getMethod("getWorldPoint").getDeclaringClass() != WorldMapPoint.class
+					|| type.getMethod("isSnapToEdge").getDeclaringClass() != WorldMapPoint.class;
+			}
+			catch (NoSuchMethodException ex)
+			{
+				throw new IllegalStateException(ex);
+			}
+		}
+	};
+
 	@Getter(AccessLevel.PACKAGE)
 	private final List<WorldMapPoint> worldMapPoints = new CopyOnWriteArrayList<>();
 
-	public void add(WorldMapPoint worldMapPoint)
+	private final Map<WorldMapPoint, Entry> entries = new IdentityHashMap<>();
+	private final Map<Integer, List<Entry>> cells = new HashMap<>();
+	private final List<Entry> unindexed = new ArrayList<>();
+	private long nextSequence;
+
+	@RequiredArgsConstructor
+	private static class Entry
+	{
+		private final WorldMapPoint point;
+		private final long sequence;
+		private List<Entry> list;
+	}
+
+	/**
+	 * Add a point to the world map. A point which has already been added is ignored, as it
+	 * has only one entry in the index.
+	 */
+	public synchronized void add(WorldMapPoint worldMapPoint)
 	{
+		if (entries.containsKey(worldMapPoint))
+		{
+			return;
+		}
+
 		worldMapPoints.add(worldMapPoint);
+
+		Entry entry = new Entry(worldMapPoint, nextSequence++);
+		entries.put(worldMapPoint, entry);
+		index(entry);
+		worldMapPoint.getManager().set(this);
+	}
+
+	public synchronized void remove(WorldMapPoint worldMapPoint)
+	{
+		int idx = worldMapPoints.indexOf(worldMapPoint);
+		if (idx != -1)
+		{
+			unindex(worldMapPoints.remove(idx));
+		}
+	}
+
+	public synchronized void removeIf(Predicate<WorldMapPoint> filter)
+	{
+		worldMapPoints.removeIf(point ->
+		{
+			if (filter.test(point))
+			{
+				unindex(point);
+				return true;
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * Get the points which should be drawn for an area of the world. These are the points
+	 * in the area, and the points which are never culled, such as edge snapped points.
+	 *
+	 * @param area the area, in world coordinates
+	 * @return the points, in the order they were added
+	 */
+	synchronized List<WorldMapPoint> getWorldMapPoints(Rectangle area)
+	{
+		List<Entry> found = new ArrayList<>(unindexed);
+
+		int minCellX = Math.floorDiv(area.x, CELL_SIZE);
+		int maxCellX = Math.floorDiv(area.x + area.width - 1, CELL_SIZE);
+		int minCellY = Math.floorDiv(area.y, CELL_SIZE);
+		int maxCellY = Math.floorDiv(area.y + area.height - 1, CELL_SIZE);
+		for (int cellX = minCellX; cellX <= maxCellX; ++cellX)
+		{
+			for (int cellY = minCellY; cellY <= maxCellY; ++cellY)
+			{
+				List<Entry> cell = cells.get(cell(cellX, cellY));
+				if (cell == null)
+				{
+					continue;
+				}
+
+				for (Entry entry : cell)
+				{
+					WorldPoint worldPoint = entry.point.getWorldPoint();
+					if (area.contains(worldPoint.getX(), worldPoint.getY()))
+					{
+						found.add(entry);
+					}
+				}
+			}
+		}
+
+		found.sort(Comparator.comparingLong(entry -> entry.sequence));
+
+		List<WorldMapPoint> points = new ArrayList<>(found.size());
+		for (Entry entry : found)
+		{
+			points.add(entry.point);
+		}
+		return points;
+	}
+
+	/**
+	 * Move a point to the cell of its current world point, after it has changed
+	 */
+	synchronized void update(WorldMapPoint worldMapPoint)
+	{
+		Entry entry = entries.get(worldMapPoint);
+		if (entry != null)
+		{
+			entry.list.remove(entry);
+			index(entry);
+		}
+	}
+
+	private void index(Entry entry)
+	{
+		WorldMapPoint point = entry.point;
+		WorldPoint worldPoint = point.getWorldPoint();
+		if (point.isSnapToEdge() || worldPoint == null || MOVES_ITSELF.get(point.getClass()))
+		{
+			entry.list = unindexed;
+		}
+		else
+		{
+			int key = cell(Math.floorDiv(worldPoint.getX(), CELL_SIZE), Math.floorDiv(worldPoint.getY(), CELL_SIZE));
+			entry.list = cells.computeIfAbsent(key, k -> new ArrayList<>());
+		}
+		entry.list.add(entry);
 	}
 
-	public void remove(WorldMapPoint worldMapPoint)
+	private void unindex(WorldMapPoint worldMapPoint)
 	{
-		worldMapPoints.remove(worldMapPoint);
+		Entry entry = entries.remove(worldMapPoint);
+		if (entry != null)
+		{
+			entry.list.remove(entry);
+			worldMapPoint.getManager().compareAndSet(this, null);
+		}
 	}
 
-	public void removeIf(Predicate<WorldMapPoint> filter)
+	private static int cell(int cellX, int cellY)
 	{
-		worldMapPoints.removeIf(filter);
+		return cellX << 16 | (cellY & 0xFFFF);
 	}
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The shared executors of the client. They are split into lanes, so that slow tasks in one lane
+ * do not hold up the tasks in another:
+ * <ul>
+ * <li>timers - a single thread for scheduled and periodic tasks. This is the {@link ScheduledExecutorService}
+ * which is injected into plugins, and it runs tasks one at a time in order.</li>
+ * <li>io - for tasks which block on the network or disk. This uses virtual threads where the JVM supports them.</li>
+ * <li>cpu - for compute heavy tasks, with a thread per core other than the one for the client thread</li>
+ * </ul>
+ * Tasks should not rely on running in order with each other unless they are on the timers lane.
+ * The stats of each lane are shown in the devtools profiler.
+ */
+@Slf4j
+@Singleton
+public class ClientExecutors
+{
+	private static final int IO_THREADS = 8;
+
+	@Getter
+	private final ScheduledExecutorService timers;
+	@Getter
+	private final ExecutorService io;
+	@Getter
+	private final ExecutorService cpu;
+	private final List<ExecutorStats> stats;
+
+	public ClientExecutors()
+	{
+		ExecutorStats timerStats = new ExecutorStats("timers");
+		ExecutorLane ioLane = new ExecutorLane(newIoExecutor(), new ExecutorStats("io"));
+		ExecutorLane cpuLane = new ExecutorLane(newThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), "cpu"),
+			new ExecutorStats("cpu"));
+
+		timers = new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor(), timerStats);
+		io = ioLane;
+		cpu = cpuLane;
+		stats = ImmutableList.of(timerStats, ioLane.getStats(), cpuLane.getStats());
+	}
+
+	/**
+	 * Get the queue depth and latency stats of each lane
+	 */
+	public List<ExecutorStats> getStats()
+	{
+		return stats;
+	}
+
+	private static ExecutorService newIoExecutor()
+	{
+		try
+		{
+			// Java 21+
+			ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			log.debug("Using virtual threads for the io executor");
+			return executor;
+		}
+		catch (ReflectiveOperationException ex)
+		{
+			return newThreadPool(IO_THREADS, "io");
+		}
+	}
+
+	private static ExecutorService newThreadPool(int threads, String name)
+	{
+		ThreadFactory threadFactory = new ThreadFactoryBuilder()
+			.setNameFormat("executor-" + name + "-%d")
+			.setDaemon(true)
+			.build();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+}
@@ -33,24 +33,47 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import lombok.RequiredArgsConstructor;
+import javax.annotation.Nullable;
 
 /**
- * Wrapper for ${@link ScheduledExecutorService} that will log all uncaught exceptions as warning to console
+ * Wrapper for ${@link ScheduledExecutorService} that will log all uncaught exceptions as warning to console,
+ * and optionally record the latency of tasks in an {@link ExecutorStats}
  */
-@RequiredArgsConstructor
 public class ExecutorServiceExceptionLogger implements ScheduledExecutorService
 {
 	private final ScheduledExecutorService service;
+	@Nullable
+	private final ExecutorStats stats;
 
-	private static Runnable monitor(final Runnable command)
+	public ExecutorServiceExceptionLogger(ScheduledExecutorService service)
 	{
-		return RunnableExceptionLogger.wrap(command);
+		this(service, null);
 	}
 
-	private static <V> Callable<V> monitor(final Callable<V> command)
+	public ExecutorServiceExceptionLogger(ScheduledExecutorService service, @Nullable ExecutorStats stats)
 	{
-		return CallableExceptionLogger.wrap(command);
+		this.service = service;
+		this.stats = stats;
+	}
+
+	private Runnable monitor(final Runnable command)
+	{
+		return RunnableExceptionLogger.wrap(stats != null ? stats.wrap(command) : command);
+	}
+
+	private <V> Callable<V> monitor(final Callable<V> command)
+	{
+		return CallableExceptionLogger.wrap(stats != null ? stats.wrap(command) : command);
+	}
+
+	private Runnable measure(final Runnable command)
+	{
+		return stats != null ? stats.wrapScheduled(command) : command;
+	}
+
+	private <V> Callable<V> measure(final Callable<V> command)
+	{
+		return stats != null ? stats.wrapScheduled(command) : command;
 	}
 
 	@Override
@@ -77,7 +100,7 @@ public class ExecutorServiceExceptionLogger implements ScheduledExecutorService
 		service.execute(monitor(command));
 	}
 
-	// Everything below is direct proxy to provided executor service
+	// Everything below is direct proxy to provided executor service, other than recording the run time of scheduled tasks
 
 	@Override
 	public void shutdown()
@@ -136,24 +159,24 @@ public class ExecutorServiceExceptionLogger implements ScheduledExecutorService
 	@Override
 	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit)
 	{
-		return service.schedule(command, delay, unit);
+		return service.schedule(measure(command), delay, unit);
 	}
 
 	@Override
 	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit)
 	{
-		return service.schedule(callable, delay, unit);
+		return service.schedule(measure(callable), delay, unit);
 	}
 
 	@Override
 	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit)
 	{
-		return service.scheduleAtFixedRate(command, initialDelay, period, unit);
+		return service.scheduleAtFixedRate(measure(command), initialDelay, period, unit);
 	}
 
 	@Override
 	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit)
 	{
-		return service.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+		return service.scheduleWithFixedDelay(measure(command), initialDelay, delay, unit);
 	}
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queue depth and latency of the tasks run by an executor, grouped by the class which submitted them.
+ * The submitter of a task is the outermost class of the task, so for lambdas and inner classes it is
+ * the class they are declared in.
+ */
+@Slf4j
+public class ExecutorStats
+{
+	private static final long SLOW_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	@Getter
+	private final String name;
+	private final Map<String, Submitter> submitters = new ConcurrentHashMap<>();
+	// a ClassValue so that the task classes of unloaded plugins are not kept alive
+	private final ClassValue<Submitter> submittersByClass = new ClassValue<>()
+	{
+		@Override
+		protected Submitter computeValue(Class<?> type)
+		{
+			// lambdas are named Outer$$Lambda$n and inner classes Outer$Inner
+			String className = type.getName();
+			int idx = className.indexOf('$');
+			String name = idx == -1 ? className : className.substring(0, idx);
+			return submitters.computeIfAbsent(name, Submitter::new);
+		}
+	};
+
+	public ExecutorStats(String name)
+	{
+		this.name = name;
+	}
+
+	@Value
+	public static class Snapshot
+	{
+		String submitter;
+		/**
+		 * tasks submitted and not yet started. Tasks which are cancelled before they start are included.
+		 */
+		int queued;
+		long completed;
+		long totalWaitNanos;
+		long maxWaitNanos;
+		long totalRunNanos;
+		long maxRunNanos;
+	}
+
+	private static final class Submitter
+	{
+		private final String name;
+		private final AtomicInteger queued = new AtomicInteger();
+		private final LongAdder completed = new LongAdder();
+		private final LongAdder totalWaitNanos = new LongAdder();
+		private final AtomicLong maxWaitNanos = new AtomicLong();
+		private final LongAdder totalRunNanos = new LongAdder();
+		private final AtomicLong maxRunNanos = new AtomicLong();
+
+		private Submitter(String name)
+		{
+			this.name = name;
+		}
+	}
+
+	/**
+	 * Wrap a task to record its time spent queued and running
+	 */
+	public Runnable wrap(Runnable task)
+	{
+		final Submitter submitter = submitter(task);
+		final long submitted = System.nanoTime();
+		submitter.queued.incrementAndGet();
+		return () ->
+		{
+			final long start = started(submitter, submitted);
+			try
+			{
+				task.run();
+			}
+			finally
+			{
+				finished(submitter, start);
+			}
+		};
+	}
+
+	/**
+	 * Wrap a task to record its time spent queued and running
+	 */
+	public <V> Callable<V> wrap(Callable<V> task)
+	{
+		final Submitter submitter = submitter(task);
+		final long submitted = System.nanoTime();
+		submitter.queued.incrementAndGet();
+		return () ->
+		{
+			final long start = started(submitter, submitted);
+			try
+			{
+				return task.call();
+			}
+			finally
+			{
+				finished(submitter, start);
+			}
+		};
+	}
+
+	/**
+	 * Wrap a scheduled task to record its time spent running. The time until a scheduled task
+	 * runs is its delay, so it is not recorded as waiting.
+	 */
+	public Runnable wrapScheduled(Runnable task)
+	{
+		final Submitter submitter = submitter(task);
+		return () ->
+		{
+			final long start = System.nanoTime();
+			try
+			{
+				task.run();
+			}
+			finally
+			{
+				finished(submitter, start);
+			}
+		};
+	}
+
+	/**
+	 * Wrap a scheduled task to record its time spent running
+	 */
+	public <V> Callable<V> wrapScheduled(Callable<V> task)
+	{
+		final Submitter submitter = submitter(task);
+		return () ->
+		{
+			final long start = System.nanoTime();
+			try
+			{
+				return task.call();
+			}
+			finally
+			{
+				finished(submitter, start);
+			}
+		};
+	}
+
+	public List<Snapshot> snapshot()
+	{
+		List<Snapshot> snapshots = new ArrayList<>(submitters.size());
+		for (Submitter s : submitters.values())
+		{
+			snapshots.add(new Snapshot(s.name, s.queued.get(), s.completed.sum(),
+				s.totalWaitNanos.sum(), s.maxWaitNanos.get(), s.totalRunNanos.sum(), s.maxRunNanos.get()));
+		}
+		return snapshots;
+	}
+
+	private long started(Submitter submitter, long submitted)
+	{
+		final long start = System.nanoTime();
+		final long wait = start - submitted;
+		submitter.queued.decrementAndGet();
+		submitter.totalWaitNanos.add(wait);
+		submitter.maxWaitNanos.accumulateAndGet(wait, Math::max);
+		if (wait > SLOW_WAIT_NANOS)
+		{
+			log.debug("Task from {} waited {}ms in the {} executor", submitter.name, TimeUnit.NANOSECONDS.toMillis(wait), name);
+		}
+		return start;
+	}
+
+	private static void finished(Submitter submitter, long start)
+	{
+		final long run = System.nanoTime() - start;
+		submitter.completed.increment();
+		submitter.totalRunNanos.add(run);
+		submitter.maxRunNanos.accumulateAndGet(run, Math::max);
+	}
+
+	private Submitter submitter(Object task)
+	{
+		if (task instanceof RunnableExceptionLogger)
+		{
+			task = ((RunnableExceptionLogger) task).getRunnable();
+		}
+		else if (task instanceof CallableExceptionLogger)
+		{
+			task = ((CallableExceptionLogger<?>) task).getCallable();
+		}
+
+		return submittersByClass.get(task.getClass());
+	}
+}
@@ -35,15 +35,16 @@ import java.awt.TrayIcon;
 import java.awt.datatransfer.Clipboard;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -51,6 +52,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
+import net.runelite.cache.util.PngWriter;
 import net.runelite.client.Notifier;
 import static net.runelite.client.RuneLite.SCREENSHOT_DIR;
 import net.runelite.client.config.RuneScapeProfileType;
@@ -70,7 +72,7 @@ public class ImageCapture
 	private final Notifier notifier;
 	private final ClientUI clientUi;
 	private final DrawManager drawManager;
-	private final ScheduledExecutorService executor;
+	private final ClientExecutors clientExecutors;
 	private final EventBus eventBus;
 
 	/**
@@ -86,8 +88,8 @@ public class ImageCapture
 	{
 		drawManager.requestNextFrameListener((img) ->
 		{
-			// This callback is on the client thread, move to executor thread now that we have the screenshot
-			executor.submit(() ->
+			// This callback is on the client thread, move to an io thread now that we have the screenshot
+			clientExecutors.getIo().submit(() ->
 			{
 				final BufferedImage screenshot;
 				if (includeClientFrame)
@@ -222,7 +224,12 @@ public class ImageCapture
 
 		try
 		{
-			ImageIO.write(screenshot, "PNG", screenshotFile);
+			try (OutputStream out = new BufferedOutputStream(new FileOutputStream(screenshotFile)))
+			{
+				// this is on an io thread, so compress on the cpu lane
+				new PngWriter(out, screenshot.getWidth(), screenshot.getHeight(), screenshot.getColorModel().hasAlpha(), clientExecutors.getCpu())
+					.writeImage(screenshot);
+			}
 		}
 		catch (IOException ex)
 		{
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File configFile;
+
+	@Before
+	public void before()
+	{
+		configFile = new File(folder.getRoot(), "test.properties");
+	}
+
+	@Test
+	public void testPatch()
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("a.b", "1");
+		data.setProperty("a.c", "2");
+		data.patch(data.swapChanges());
+
+		// the first save writes the whole config
+		assertTrue(configFile.exists());
+		assertFalse(ConfigStorage.journalFile(configFile).exists());
+
+		// later saves only append to the journal
+		long modified = configFile.lastModified();
+		data.setProperty("a.b", "3");
+		data.unset("a.c");
+		data.patch(data.swapChanges());
+		assertTrue(ConfigStorage.journalFile(configFile).exists());
+		assertEquals(modified, configFile.lastModified());
+
+		assertEquals(ImmutableMap.of("a.b", "3"), new ConfigData(configFile).get());
+	}
+
+	@Test
+	public void testMerge()
+	{
+		ConfigData first = new ConfigData(configFile);
+		first.setProperty("a.b", "1");
+		first.patch(first.swapChanges());
+
+		// two clients with the same config
+		first = new ConfigData(configFile);
+		ConfigData second = new ConfigData(configFile);
+
+		first.setProperty("a.c", "2");
+		first.patch(first.swapChanges());
+
+		second.setProperty("a.d", "3");
+		second.unset("a.b");
+		second.patch(second.swapChanges());
+
+		ConfigData loaded = new ConfigData(configFile);
+		assertEquals(ImmutableMap.of("a.c", "2", "a.d", "3"), loaded.get());
+	}
+
+	@Test
+	public void testCompact() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("a.b", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("a.c", "2");
+		data.patch(data.swapChanges());
+
+		data.compact();
+		assertFalse(ConfigStorage.journalFile(configFile).exists());
+		assertTrue(ConfigStorage.snapshotFile(configFile).exists());
+		assertEquals(ImmutableMap.of("a.b", "1", "a.c", "2"), new ConfigData(configFile).get());
+
+		// the properties file is a complete export
+		File export = folder.newFile("export.properties");
+		ConfigStorage.export(configFile, export);
+		assertEquals(ImmutableMap.of("a.b", "1", "a.c", "2"), new ConfigData(export).get());
+
+		// and so is the compacted properties file
+		Properties properties = new Properties();
+		try (FileInputStream in = new FileInputStream(configFile))
+		{
+			properties.load(in);
+		}
+		assertEquals(ImmutableMap.of("a.b", "1", "a.c", "2"), properties);
+	}
+
+	@Test
+	public void testCompactLater()
+	{
+		ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+		List<Runnable> tasks = new ArrayList<>();
+		when(executor.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.SECONDS))).then(a ->
+		{
+			tasks.add(a.getArgument(0));
+			return null;
+		});
+
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("a.b", "1");
+		data.patch(data.swapChanges(), executor);
+		data.setProperty("a.b", "2");
+		data.patch(data.swapChanges(), executor);
+
+		// one compaction is queued for both patches, which are on disk before it runs
+		assertEquals(1, tasks.size());
+		assertEquals(ImmutableMap.of("a.b", "2"), new ConfigData(configFile).get());
+
+		tasks.get(0).run();
+		assertFalse(ConfigStorage.journalFile(configFile).exists());
+		assertEquals(ImmutableMap.of("a.b", "2"), new ConfigData(configFile).get());
+
+		data.setProperty("a.b", "3");
+		data.patch(data.swapChanges(), executor);
+		verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testTornJournal() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("a.b", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("a.c", "2");
+		data.patch(data.swapChanges());
+
+		// a crash in the middle of an append
+		try (FileOutputStream out = new FileOutputStream(ConfigStorage.journalFile(configFile), true))
+		{
+			out.write(new byte[]{0, 0, 0, 100, 1, 2, 3});
+		}
+		assertEquals(ImmutableMap.of("a.b", "1", "a.c", "2"), new ConfigData(configFile).get());
+
+		// the torn record is dropped, so later patches are still read
+		data.setProperty("a.d", "3");
+		data.patch(data.swapChanges());
+		assertEquals(ImmutableMap.of("a.b", "1", "a.c", "2", "a.d", "3"), new ConfigData(configFile).get());
+	}
+
+	@Test
+	public void testPropertiesChanged() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("a.b", "1");
+		data.patch(data.swapChanges());
+		data.compact();
+
+		// edited by hand, so the snapshot is stale
+		Files.write(configFile.toPath(), "a.b=2\na.c=3\n".getBytes(StandardCharsets.UTF_8));
+		assertTrue(configFile.setLastModified(configFile.lastModified() + 10_000));
+		assertEquals(ImmutableMap.of("a.b", "2", "a.c", "3"), new ConfigData(configFile).get());
+	}
+
+	@Test
+	public void testReplace() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile);
+		data.setProperty("a.b", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("a.c", "2");
+		data.patch(data.swapChanges());
+
+		ConfigStorage.replace(configFile, ImmutableMap.of("a.d", "4"));
+		assertFalse(ConfigStorage.journalFile(configFile).exists());
+		assertEquals(ImmutableMap.of("a.d", "4"), new ConfigData(configFile).get());
+
+		// a patch from a client with the old config lands on top of the replaced config
+		data.setProperty("a.e", "5");
+		data.patch(data.swapChanges());
+		assertEquals(ImmutableMap.of("a.d", "4", "a.e", "5"), new ConfigData(configFile).get());
+	}
+}
@@ -29,6 +29,8 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -165,6 +167,31 @@ public class ConfigManagerTest
 		Assert.assertNull(conf.nullDefaultKey());
 	}
 
+	@Test
+	public void testGetConfigurationKeys()
+	{
+		manager.setConfiguration("keys", "region_1", "a");
+		manager.setConfiguration("keys", "region_2", "b");
+		manager.setConfiguration("keys", "other", "c");
+		manager.setConfiguration("keysother", "region_3", "d");
+		manager.unsetConfiguration("keys", "region_2");
+
+		Assert.assertEquals(Collections.singletonList("keys.region_1"), manager.getConfigurationKeys("keys.region_"));
+		Assert.assertEquals(Arrays.asList("keys.other", "keys.region_1"), manager.getConfigurationKeys("keys."));
+	}
+
+	@Test
+	public void testGetRSProfileConfigurationKeys()
+	{
+		manager.setConfiguration("keys", "rsprofile.123", "region_1", "a");
+		manager.setConfiguration("keys", "rsprofile.123", "region_2.sub", "b");
+		manager.setConfiguration("keys", "rsprofile.456", "region_3", "c");
+		manager.setConfiguration("keys", "rsprofile.123", "other", "d");
+
+		Assert.assertEquals(Arrays.asList("region_1", "region_2.sub"), manager.getRSProfileConfigurationKeys("keys", "rsprofile.123", "region_"));
+		Assert.assertEquals(Collections.emptyList(), manager.getRSProfileConfigurationKeys("keys", null, "region_"));
+	}
+
 	@Test
 	public void testKeySplitter()
 	{
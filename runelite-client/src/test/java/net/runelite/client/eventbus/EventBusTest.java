@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private static class TestEvent
+	{
+	}
+
+	private static class TestSubscriber
+	{
+		int count;
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			++count;
+		}
+	}
+
+	@Test
+	public void testTimings()
+	{
+		EventBus eventBus = new EventBus();
+		TestSubscriber subscriber = new TestSubscriber();
+		eventBus.register(subscriber);
+
+		// not recorded when not profiling
+		eventBus.post(new TestEvent());
+		assertTrue(eventBus.getTimings().isEmpty());
+
+		eventBus.setProfiling(true);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		assertEquals(3, subscriber.count);
+
+		List<EventBus.Timing> timings = eventBus.getTimings();
+		assertEquals(1, timings.size());
+		EventBus.Timing timing = timings.get(0);
+		assertEquals("TestEvent", timing.getEvent());
+		assertEquals(TestSubscriber.class.getName() + ".onTestEvent", timing.getSubscriber());
+		assertEquals(2, timing.getCount());
+		assertTrue(timing.getMaxNanos() <= timing.getTotalNanos());
+
+		eventBus.resetTimings();
+		assertTrue(eventBus.getTimings().isEmpty());
+	}
+}
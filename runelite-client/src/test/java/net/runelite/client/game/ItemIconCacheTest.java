@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemIconCacheTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReadWrite()
+	{
+		ItemIconCache cache = new ItemIconCache(folder.getRoot());
+
+		BufferedImage image = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		image.setRGB(3, 4, 0xff00ff00);
+		image.setRGB(20, 30, 0x80123456);
+		cache.write(200, 995, 1000, true, 42, image);
+
+		BufferedImage read = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		assertTrue(cache.read(200, 995, 1000, true, 42, read));
+		assertArrayEquals(image.getRGB(0, 0, 36, 32, null, 0, 36), read.getRGB(0, 0, 36, 32, null, 0, 36));
+
+		// different key or definition
+		assertFalse(cache.read(200, 995, 1000, false, 42, read));
+		assertFalse(cache.read(200, 995, 1, true, 42, read));
+		assertFalse(cache.read(200, 995, 1000, true, 43, read));
+		assertFalse(cache.read(201, 995, 1000, true, 42, read));
+	}
+
+	@Test
+	public void testPruneRevisions()
+	{
+		ItemIconCache cache = new ItemIconCache(folder.getRoot());
+		BufferedImage image = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		cache.write(200, 995, 1, false, 0, image);
+		cache.write(201, 995, 1, false, 0, image);
+
+		assertFalse(new File(folder.getRoot(), "200").exists());
+		assertTrue(cache.read(201, 995, 1, false, 0, image));
+	}
+
+	@Test
+	public void testPruneIcons()
+	{
+		File revisionDir = new File(folder.getRoot(), "200");
+		BufferedImage image = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		ItemIconCache cache = new ItemIconCache(folder.getRoot(), Long.MAX_VALUE);
+		for (int i = 0; i < 256; ++i)
+		{
+			cache.write(200, 995, i, true, 0, image);
+		}
+
+		// icon 0 was last used a long time ago, and then icons 1, 2, 3...
+		final long now = System.currentTimeMillis();
+		File[] files = revisionDir.listFiles();
+		for (File f : files)
+		{
+			int quantity = Integer.parseInt(f.getName().split("_")[1]);
+			f.setLastModified(quantity == 0 ? now - TimeUnit.DAYS.toMillis(60) : now - TimeUnit.MINUTES.toMillis(256 - quantity));
+		}
+
+		// a new cache checks its size on the first write
+		long iconSize = files[0].length();
+		cache = new ItemIconCache(folder.getRoot(), iconSize * 100);
+		cache.write(200, 995, 256, true, 0, image);
+
+		assertTrue(revisionDir.list().length <= 75);
+		assertFalse(cache.read(200, 995, 0, true, 0, image));
+		assertFalse(cache.read(200, 995, 1, true, 0, image));
+		assertTrue(cache.read(200, 995, 255, true, 0, image));
+		assertTrue(cache.read(200, 995, 256, true, 0, image));
+	}
+}
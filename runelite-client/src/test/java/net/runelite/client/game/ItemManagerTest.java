@@ -31,15 +31,22 @@ import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Named;
 import net.runelite.api.Client;
+import net.runelite.api.IndexDataBase;
+import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemID;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.http.api.item.ItemPrice;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -95,4 +102,56 @@ public class ItemManagerTest
 		itemPrice.setWikiPrice(300_000); // outside of 5x range
 		assertEquals(itemPrice.getPrice(), itemManager.getWikiPrice(itemPrice));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testIconQuantity()
+	{
+		assertEquals(1, ItemManager.iconQuantity(1));
+		assertEquals(99_999, ItemManager.iconQuantity(99_999));
+		// 123K
+		assertEquals(123_000, ItemManager.iconQuantity(123_456));
+		assertEquals(9_999_000, ItemManager.iconQuantity(9_999_999));
+		// 12M
+		assertEquals(12_000_000, ItemManager.iconQuantity(12_345_678));
+		assertEquals(2_147_000_000, ItemManager.iconQuantity(Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testIconFingerprint()
+	{
+		IndexDataBase configs = mock(IndexDataBase.class);
+		IndexDataBase models = mock(IndexDataBase.class);
+		when(client.getIndexConfig()).thenReturn(configs);
+		when(client.getIndex(IndexType.MODELS.getNumber())).thenReturn(models);
+
+		// a noted whip
+		ItemComposition itemComposition = mock(ItemComposition.class);
+		when(itemComposition.getId()).thenReturn(ItemID.ABYSSAL_WHIP + 1);
+		when(itemComposition.getNote()).thenReturn(799);
+		when(itemComposition.getLinkedNoteId()).thenReturn(ItemID.ABYSSAL_WHIP);
+		when(itemComposition.getPlaceholderTemplateId()).thenReturn(-1);
+		when(itemComposition.getInventoryModel()).thenReturn(5412);
+
+		when(configs.loadData(ConfigType.ITEM.getId(), ItemID.ABYSSAL_WHIP + 1)).thenReturn(new byte[]{1, 2});
+		when(configs.loadData(ConfigType.ITEM.getId(), 799)).thenReturn(new byte[]{3});
+		when(configs.loadData(ConfigType.ITEM.getId(), ItemID.ABYSSAL_WHIP)).thenReturn(new byte[]{4, 5});
+		when(models.loadData(5412, 0)).thenReturn(new byte[]{6, 7, 8});
+		final int fingerprint = ItemManager.iconFingerprint(client, itemComposition);
+		assertEquals(fingerprint, ItemManager.iconFingerprint(client, itemComposition));
+
+		// a change to the definition of the item it is a note of
+		when(configs.loadData(ConfigType.ITEM.getId(), ItemID.ABYSSAL_WHIP)).thenReturn(new byte[]{4, 6});
+		assertNotEquals(fingerprint, ItemManager.iconFingerprint(client, itemComposition));
+		when(configs.loadData(ConfigType.ITEM.getId(), ItemID.ABYSSAL_WHIP)).thenReturn(new byte[]{4, 5});
+
+		// a change to the model
+		when(models.loadData(5412, 0)).thenReturn(new byte[]{6, 7, 9});
+		assertNotEquals(fingerprint, ItemManager.iconFingerprint(client, itemComposition));
+		when(models.loadData(5412, 0)).thenReturn(new byte[]{6, 7, 8});
+
+		// moving bytes between files
+		when(configs.loadData(ConfigType.ITEM.getId(), ItemID.ABYSSAL_WHIP + 1)).thenReturn(new byte[]{1, 2, 3});
+		when(configs.loadData(ConfigType.ITEM.getId(), 799)).thenReturn(new byte[0]);
+		assertNotEquals(fingerprint, ItemManager.iconFingerprint(client, itemComposition));
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.Value;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RegionMarkerStoreTest
+{
+	@Value
+	private static class Point
+	{
+		int x;
+		int y;
+		int z;
+		String name;
+	}
+
+	@Mock
+	private ConfigManager configManager;
+
+	private final Gson gson = new Gson();
+
+	private RegionMarkerStore<Point> store;
+
+	@Before
+	public void before()
+	{
+		// CHECKSTYLE:OFF
+		store = new RegionMarkerStore<>(configManager, gson, "test", new TypeToken<List<Point>>(){}.getType(),
+			p -> RegionMarkerStore.packTile(p.getX(), p.getY(), p.getZ()), p -> !p.getName().equals("null"));
+		// CHECKSTYLE:ON
+	}
+
+	@Test
+	public void testGet()
+	{
+		Point a = new Point(1, 2, 0, "a");
+		Point b = new Point(1, 2, 0, "b");
+		Point c = new Point(63, 0, 3, "c");
+		when(configManager.getConfiguration("test", "region_1")).thenReturn(gson.toJson(Arrays.asList(c, a, new Point(5, 5, 0, "null"), b)));
+
+		RegionMarkerStore.Region<Point> region = store.get(1);
+		assertEquals(Arrays.asList(a, b, c), region.getPoints());
+		assertEquals(Arrays.asList(a, b), region.getPoints(1, 2, 0));
+		assertEquals(Collections.singletonList(c), region.getPoints(63, 0, 3));
+		assertTrue(region.getPoints(2, 1, 0).isEmpty());
+		assertTrue(region.getPoints(5, 5, 0).isEmpty());
+
+		// cached
+		store.get(1);
+		verify(configManager, times(1)).getConfiguration("test", "region_1");
+
+		assertTrue(store.get(2).isEmpty());
+	}
+
+	@Test
+	public void testSave()
+	{
+		Point a = new Point(1, 2, 0, "a");
+		store.save(1, Collections.singletonList(a));
+		verify(configManager).setConfiguration("test", "region_1", gson.toJson(Collections.singletonList(a)));
+
+		// the config change from the save does not invalidate the region
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup("test");
+		configChanged.setKey("region_1");
+		configChanged.setNewValue(gson.toJson(Collections.singletonList(a)));
+		store.onConfigChanged(configChanged);
+
+		assertEquals(Collections.singletonList(a), store.get(1).getPoints(1, 2, 0));
+		verify(configManager, times(0)).getConfiguration("test", "region_1");
+
+		// other changes do
+		configChanged.setNewValue(null);
+		store.onConfigChanged(configChanged);
+
+		assertTrue(store.get(1).isEmpty());
+		verify(configManager).getConfiguration("test", "region_1");
+
+		store.save(1, null);
+		verify(configManager).unsetConfiguration("test", "region_1");
+		assertTrue(store.get(1).isEmpty());
+	}
+}
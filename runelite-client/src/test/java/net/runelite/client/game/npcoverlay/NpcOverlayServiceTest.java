@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game.npcoverlay;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.NpcID;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NpcOverlayServiceTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private ClientThread clientThread;
+
+	@Mock
+	@Bind
+	private OverlayManager overlayManager;
+
+	@Mock
+	@Bind
+	private ModelOutlineRenderer modelOutlineRenderer;
+
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Inject
+	private NpcOverlayService npcOverlayService;
+
+	private NPC guard;
+	private NPC imp;
+
+	@Before
+	public void before()
+	{
+		doAnswer(a ->
+		{
+			a.<Runnable>getArgument(0).run();
+			return null;
+		}).when(clientThread).invoke(any(Runnable.class));
+
+		guard = npc(NpcID.GUARD);
+		imp = npc(NpcID.IMP);
+		List<NPC> npcs = Arrays.asList(guard, imp);
+		when(client.getNpcs()).thenReturn(npcs);
+
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testIdHighlighter()
+	{
+		HighlightedNpc highlight = HighlightedNpc.builder().npc(imp).highlightColor(Color.RED).build();
+		Function<NPC, HighlightedNpc> f = spy(new Highlight(highlight));
+		npcOverlayService.registerHighlighter(f, ImmutableSet.of(NpcID.IMP));
+
+		verify(f, never()).apply(guard);
+		assertSame(highlight, npcOverlayService.getHighlight(imp));
+		assertNull(npcOverlayService.getHighlight(guard));
+	}
+
+	@Test
+	public void testPriority()
+	{
+		HighlightedNpc first = HighlightedNpc.builder().npc(imp).highlightColor(Color.RED).build();
+		HighlightedNpc second = HighlightedNpc.builder().npc(imp).highlightColor(Color.RED).build();
+		Function<NPC, HighlightedNpc> f1 = new Highlight(first);
+		Function<NPC, HighlightedNpc> f2 = spy(new Highlight(second));
+
+		npcOverlayService.registerHighlighter(f1, ImmutableSet.of(NpcID.IMP));
+		npcOverlayService.registerHighlighter(f2);
+		assertSame(first, npcOverlayService.getHighlight(imp));
+		assertSame(second, npcOverlayService.getHighlight(guard));
+
+		// the imp is owned by an earlier highlighter, so it should not be re-evaluated
+		npcOverlayService.rebuild(f2);
+		verify(f2, never()).apply(imp);
+		assertSame(first, npcOverlayService.getHighlight(imp));
+
+		npcOverlayService.unregisterHighlighter(f1);
+		assertSame(second, npcOverlayService.getHighlight(imp));
+	}
+
+	private static NPC npc(int id)
+	{
+		NPC npc = mock(NPC.class);
+		when(npc.getId()).thenReturn(id);
+		return npc;
+	}
+
+	private static class Highlight implements Function<NPC, HighlightedNpc>
+	{
+		private final HighlightedNpc highlightedNpc;
+
+		Highlight(HighlightedNpc highlightedNpc)
+		{
+			this.highlightedNpc = highlightedNpc;
+		}
+
+		@Override
+		public HighlightedNpc apply(NPC npc)
+		{
+			return highlightedNpc;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import net.runelite.http.api.RuneLiteAPI;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HiscoreManagerTest
+{
+	private static final HiscoreResult ZEZIMA = new HiscoreResult("Zezima",
+		ImmutableMap.of(HiscoreSkill.ATTACK, new Skill(1, 99, 13_034_431L)));
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Mock
+	private HiscoreClient hiscoreClient;
+
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+	private HiscoreDiskCache diskCache;
+	private HiscoreManager hiscoreManager;
+
+	@Before
+	public void before()
+	{
+		diskCache = new HiscoreDiskCache(folder.getRoot(), RuneLiteAPI.GSON);
+		hiscoreManager = new HiscoreManager(tasks::add, hiscoreClient, diskCache);
+	}
+
+	private void runTasks()
+	{
+		for (Runnable r; (r = tasks.poll()) != null; )
+		{
+			r.run();
+		}
+	}
+
+	@Test
+	public void testLookupAsyncCoalesced() throws IOException
+	{
+		when(hiscoreClient.lookup("Zezima", HiscoreEndpoint.NORMAL)).thenReturn(ZEZIMA);
+
+		assertNull(hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		assertNull(hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL));
+		assertNull(hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		assertEquals(1, tasks.size());
+
+		runTasks();
+
+		assertSame(ZEZIMA, hiscoreManager.lookupAsync("zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, times(1)).lookup("Zezima", HiscoreEndpoint.NORMAL);
+	}
+
+	@Test
+	public void testLookupFromDisk() throws IOException
+	{
+		when(hiscoreClient.lookup("Zezima", HiscoreEndpoint.NORMAL)).thenReturn(ZEZIMA);
+		hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL);
+		runTasks();
+
+		// a new session reads the result back from disk
+		hiscoreManager = new HiscoreManager(tasks::add, hiscoreClient, diskCache);
+		HiscoreResult result = hiscoreManager.lookup("Zezima", HiscoreEndpoint.NORMAL);
+		assertEquals(ZEZIMA, result);
+		assertEquals(0, tasks.size());
+		verify(hiscoreClient, times(1)).lookup("Zezima", HiscoreEndpoint.NORMAL);
+	}
+
+	@Test
+	public void testStaleWhileRevalidate() throws IOException
+	{
+		HiscoreResult old = new HiscoreResult("Zezima", ImmutableMap.of(HiscoreSkill.ATTACK, new Skill(1, 98, 12_000_000L)));
+		diskCache.write(new HiscoreManager.HiscoreKey("zezima", HiscoreEndpoint.NORMAL),
+			new HiscoreDiskCache.Entry(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1), old));
+		when(hiscoreClient.lookup("Zezima", HiscoreEndpoint.NORMAL)).thenReturn(ZEZIMA);
+
+		assertEquals(old, hiscoreManager.lookup("Zezima", HiscoreEndpoint.NORMAL));
+		assertEquals(old, hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		assertEquals(1, tasks.size());
+
+		runTasks();
+
+		assertSame(ZEZIMA, hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+	}
+
+	@Test
+	public void testNotFound() throws IOException
+	{
+		assertNull(hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		runTasks();
+
+		// the miss is cached in memory and on disk
+		hiscoreManager = new HiscoreManager(tasks::add, hiscoreClient, diskCache);
+		assertNull(hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		runTasks();
+		verify(hiscoreClient, times(1)).lookup("Zezima", HiscoreEndpoint.NORMAL);
+	}
+
+	@Test
+	public void testExpired() throws IOException
+	{
+		diskCache.write(new HiscoreManager.HiscoreKey("zezima", HiscoreEndpoint.NORMAL),
+			new HiscoreDiskCache.Entry(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(30), ZEZIMA));
+
+		assertNull(hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, never()).lookup("Zezima", HiscoreEndpoint.NORMAL);
+		runTasks();
+		verify(hiscoreClient, times(1)).lookup("Zezima", HiscoreEndpoint.NORMAL);
+	}
+
+	@Test
+	public void testFailureNotCached() throws IOException
+	{
+		hiscoreManager = new HiscoreManager(Runnable::run, hiscoreClient, diskCache);
+		when(hiscoreClient.lookup("Zezima", HiscoreEndpoint.NORMAL))
+			.thenThrow(new IOException())
+			.thenReturn(ZEZIMA);
+
+		assertNull(hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+
+		// async lookups briefly back off after a failure
+		assertNull(hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, times(1)).lookup("Zezima", HiscoreEndpoint.NORMAL);
+
+		// but the failure isn't cached as a miss
+		assertSame(ZEZIMA, hiscoreManager.lookup("Zezima", HiscoreEndpoint.NORMAL));
+		assertSame(ZEZIMA, hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+	}
+}
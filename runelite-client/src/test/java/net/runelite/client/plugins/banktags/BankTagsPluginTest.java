@@ -27,6 +27,9 @@ package net.runelite.client.plugins.banktags;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import javax.inject.Inject;
 import javax.inject.Named;
 import net.runelite.api.Client;
@@ -35,12 +38,15 @@ import net.runelite.api.events.ScriptCallbackEvent;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemVariationMapping;
 import static net.runelite.client.plugins.banktags.BankTagsPlugin.ITEM_KEY_PREFIX;
 import net.runelite.client.plugins.banktags.tabs.TabInterface;
 import net.runelite.client.plugins.cluescrolls.ClueScrollService;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -105,6 +111,21 @@ public class BankTagsPluginTest
 		when(itemManager.canonicalize(ABYSSAL_WHIP)).thenReturn(ABYSSAL_WHIP);
 		when(client.getIntStackSize()).thenReturn(2);
 		when(client.getStringStackSize()).thenReturn(1);
+		when(configManager.getConfigurationKeys(BankTagsPlugin.CONFIG_GROUP + "." + ITEM_KEY_PREFIX))
+			.thenReturn(Arrays.asList(BankTagsPlugin.CONFIG_GROUP + "." + ITEM_KEY_PREFIX + ABYSSAL_WHIP,
+				BankTagsPlugin.CONFIG_GROUP + "." + ITEM_KEY_PREFIX + -ItemVariationMapping.map(ABYSSAL_WHIP)));
+	}
+
+	private void setTags(int id, String tags)
+	{
+		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
+			ITEM_KEY_PREFIX + id)).thenReturn(tags);
+
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(BankTagsPlugin.CONFIG_GROUP);
+		configChanged.setKey(ITEM_KEY_PREFIX + id);
+		configChanged.setNewValue(tags);
+		tagManager.onConfigChanged(configChanged);
 	}
 
 	@Test
@@ -113,22 +134,19 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{0, ABYSSAL_WHIP});
 		when(client.getStringStack()).thenReturn(new String[]{"tag:whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ABYSSAL_WHIP)).thenReturn("herb,bossing,whip");
+		setTags(ABYSSAL_WHIP, "herb,bossing,whip");
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 
 		// Search should be found at the start of the tag
 		when(client.getIntStack()).thenReturn(new int[]{0, ABYSSAL_WHIP});
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ABYSSAL_WHIP)).thenReturn("herb,bossing,whip long tag");
+		setTags(ABYSSAL_WHIP, "herb,bossing,whip long tag");
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 
 		// Search should not be be found in the middle of the tag
 		// and explicit search does not allow fall through
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ABYSSAL_WHIP)).thenReturn("herb,bossing whip");
+		setTags(ABYSSAL_WHIP, "herb,bossing whip");
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(0, client.getIntStack()[0]);
 	}
@@ -139,8 +157,7 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{1, ABYSSAL_WHIP});
 		when(client.getStringStack()).thenReturn(new String[]{"whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ABYSSAL_WHIP)).thenReturn("herb,bossing");
+		setTags(ABYSSAL_WHIP, "herb,bossing");
 
 		assertFalse(tagManager.findTag(ABYSSAL_WHIP, "whip"));
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
@@ -153,10 +170,68 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{0, ABYSSAL_WHIP});
 		when(client.getStringStack()).thenReturn(new String[]{"whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ABYSSAL_WHIP)).thenReturn("herb,bossing,whip long tag");
+		setTags(ABYSSAL_WHIP, "herb,bossing,whip long tag");
 
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 	}
+
+	@Test
+	public void testFindTag()
+	{
+		setTags(ABYSSAL_WHIP, "herb");
+		setTags(-ItemVariationMapping.map(ABYSSAL_WHIP), "bossing,whip");
+
+		// any tag of the item or its variations starting with the search
+		assertTrue(tagManager.findTag(ABYSSAL_WHIP, "herb"));
+		assertTrue(tagManager.findTag(ABYSSAL_WHIP, "wh"));
+		assertTrue(tagManager.findTag(ABYSSAL_WHIP, "Bossing"));
+		assertTrue(tagManager.findTag(ABYSSAL_WHIP, ""));
+		assertFalse(tagManager.findTag(ABYSSAL_WHIP, "hip"));
+		assertFalse(tagManager.findTag(ABYSSAL_WHIP, "whips"));
+
+		// the cached search is updated from config changes
+		setTags(-ItemVariationMapping.map(ABYSSAL_WHIP), "bossing");
+		assertFalse(tagManager.findTag(ABYSSAL_WHIP, "wh"));
+		setTags(ABYSSAL_WHIP, "herb,whip");
+		assertTrue(tagManager.findTag(ABYSSAL_WHIP, "wh"));
+	}
+
+	@Test
+	public void testGetItemsForTag()
+	{
+		when(configManager.getConfigurationKeys(BankTagsPlugin.CONFIG_GROUP + "." + ITEM_KEY_PREFIX))
+			.thenReturn(Arrays.asList(BankTagsPlugin.CONFIG_GROUP + "." + ITEM_KEY_PREFIX + ABYSSAL_WHIP,
+				BankTagsPlugin.CONFIG_GROUP + "." + ITEM_KEY_PREFIX + -ABYSSAL_WHIP));
+		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
+			ITEM_KEY_PREFIX + ABYSSAL_WHIP)).thenReturn("herb,whip");
+		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
+			ITEM_KEY_PREFIX + -ABYSSAL_WHIP)).thenReturn("whip");
+
+		assertEquals(Arrays.asList(-ABYSSAL_WHIP, ABYSSAL_WHIP), tagManager.getItemsForTag("whip"));
+		assertEquals(Collections.singletonList(ABYSSAL_WHIP), tagManager.getItemsForTag("herb"));
+
+		// the index is updated from config changes
+		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
+			ITEM_KEY_PREFIX + ABYSSAL_WHIP)).thenReturn("bossing");
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(BankTagsPlugin.CONFIG_GROUP);
+		configChanged.setKey(ITEM_KEY_PREFIX + ABYSSAL_WHIP);
+		configChanged.setNewValue("bossing");
+		tagManager.onConfigChanged(configChanged);
+
+		assertEquals(Collections.singletonList(-ABYSSAL_WHIP), tagManager.getItemsForTag("whip"));
+		assertEquals(Collections.emptyList(), tagManager.getItemsForTag("herb"));
+		assertEquals(Collections.singletonList(ABYSSAL_WHIP), tagManager.getItemsForTag("bossing"));
+
+		// the new tags are read before the config change is seen
+		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
+			ITEM_KEY_PREFIX + ABYSSAL_WHIP)).thenReturn("herb");
+		assertEquals(Collections.singletonList("herb"), new ArrayList<>(tagManager.getTags(ABYSSAL_WHIP, false)));
+		configChanged.setNewValue("herb");
+		tagManager.onConfigChanged(configChanged);
+
+		assertEquals(Collections.emptyList(), tagManager.getItemsForTag("bossing"));
+		assertEquals(Collections.singletonList(ABYSSAL_WHIP), tagManager.getItemsForTag("herb"));
+	}
 }
@@ -40,6 +40,7 @@ import net.runelite.api.ObjectComposition;
 import net.runelite.api.events.PostMenuSort;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.TestMenuEntry;
 import org.junit.After;
@@ -54,6 +55,7 @@ import org.mockito.Mock;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -170,6 +172,64 @@ public class MenuEntrySwapperPluginTest
 		}, argumentCaptor.getValue());
 	}
 
+	@Test
+	public void testSwapConfigChanged()
+	{
+		entries = new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Bank", "Gnome banker", MenuAction.NPC_THIRD_OPTION),
+			menu("Talk-to", "Gnome banker", MenuAction.NPC_FIRST_OPTION),
+		};
+
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+		verify(menu, never()).setMenuEntries(any(MenuEntry[].class));
+
+		when(config.swapBank()).thenReturn(true);
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(MenuEntrySwapperConfig.GROUP);
+		configChanged.setKey("swapBank");
+		menuEntrySwapperPlugin.onConfigChanged(configChanged);
+
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+
+		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
+		verify(menu).setMenuEntries(argumentCaptor.capture());
+
+		assertArrayEquals(new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Talk-to", "Gnome banker", MenuAction.NPC_FIRST_OPTION),
+			menu("Bank", "Gnome banker", MenuAction.NPC_THIRD_OPTION),
+		}, argumentCaptor.getValue());
+	}
+
+	@Test
+	public void testShiftSwapWithoutConfigChange()
+	{
+		when(config.shopBuy()).thenReturn(BuyMode.BUY_50);
+
+		entries = new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Buy 50", "Feather", MenuAction.CC_OP, 5),
+			menu("Value", "Feather", MenuAction.CC_OP, 1),
+		};
+
+		// the swap table is built while shift is up
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+		verify(menu, never()).setMenuEntries(any(MenuEntry[].class));
+
+		when(client.isKeyPressed(KeyCode.KC_SHIFT)).thenReturn(true);
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+
+		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
+		verify(menu).setMenuEntries(argumentCaptor.capture());
+
+		assertArrayEquals(new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Value", "Feather", MenuAction.CC_OP, 1),
+			menu("Buy 50", "Feather", MenuAction.CC_OP, 5),
+		}, argumentCaptor.getValue());
+	}
+
 	@Test
 	public void testBankers()
 	{
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import net.runelite.client.ui.overlay.tooltip.TooltipOverlay;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+
+public class OverlayProfilerTest
+{
+	private static class TestOverlay extends Overlay
+	{
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			return null;
+		}
+	}
+
+	@Test
+	public void testTimings()
+	{
+		OverlayProfiler profiler = new OverlayProfiler();
+		assertFalse(profiler.isActive());
+		profiler.setEnabled(true);
+
+		Overlay overlay = new TestOverlay();
+		for (int i = 0; i < 10; ++i)
+		{
+			profiler.startFrame();
+			profiler.recordOverlay(overlay, TimeUnit.MILLISECONDS.toNanos(1));
+			profiler.recordLayer(OverlayLayer.ABOVE_SCENE, TimeUnit.MILLISECONDS.toNanos(2));
+		}
+		profiler.startFrame();
+
+		List<OverlayProfiler.Timing> timings = profiler.getTimings();
+		assertEquals(3, timings.size());
+		assertEquals("Frame", timings.get(0).getName());
+		assertEquals(10, timings.get(0).getCount());
+		assertEquals("Layer ABOVE_SCENE", timings.get(1).getName());
+		assertEquals("TestOverlay", timings.get(2).getName());
+		assertEquals(10, timings.get(2).getCount());
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(1), timings.get(2).getMax());
+	}
+
+	@Test
+	public void testFrameBudget()
+	{
+		OverlayProfiler profiler = new OverlayProfiler();
+		profiler.setFrameBudget(TimeUnit.MILLISECONDS.toNanos(5));
+		assertTrue(profiler.isActive());
+
+		Overlay overlay = new TestOverlay();
+		assertTrue(profiler.shouldRender(overlay));
+		profiler.recordOverlay(overlay, TimeUnit.MILLISECONDS.toNanos(1));
+		assertTrue(profiler.shouldRender(overlay));
+
+		// first overrun skips one frame
+		profiler.recordOverlay(overlay, TimeUnit.MILLISECONDS.toNanos(10));
+		assertFalse(profiler.shouldRender(overlay));
+		assertTrue(profiler.shouldRender(overlay));
+
+		// second overrun skips two
+		profiler.recordOverlay(overlay, TimeUnit.MILLISECONDS.toNanos(10));
+		assertFalse(profiler.shouldRender(overlay));
+		assertFalse(profiler.shouldRender(overlay));
+		assertTrue(profiler.shouldRender(overlay));
+	}
+
+	@Test
+	public void testFrameBudgetRecovery()
+	{
+		OverlayProfiler profiler = new OverlayProfiler();
+		profiler.setFrameBudget(TimeUnit.MILLISECONDS.toNanos(5));
+
+		Overlay overlay = new TestOverlay();
+		for (int i = 0; i < 3; ++i)
+		{
+			profiler.recordOverlay(overlay, TimeUnit.MILLISECONDS.toNanos(10));
+			while (!profiler.shouldRender(overlay))
+			{
+			}
+		}
+
+		// after a run of frames within budget, the next overrun only skips one frame again
+		for (int i = 0; i < 256; ++i)
+		{
+			profiler.recordOverlay(overlay, TimeUnit.MILLISECONDS.toNanos(1));
+		}
+		profiler.recordOverlay(overlay, TimeUnit.MILLISECONDS.toNanos(10));
+		assertFalse(profiler.shouldRender(overlay));
+		assertTrue(profiler.shouldRender(overlay));
+	}
+
+	@Test
+	public void testFrameBudgetExempt()
+	{
+		OverlayProfiler profiler = new OverlayProfiler();
+		profiler.setFrameBudget(TimeUnit.MILLISECONDS.toNanos(5));
+
+		Overlay widgetOverlay = mock(WidgetOverlay.class);
+		Overlay tooltipOverlay = mock(TooltipOverlay.class);
+		profiler.recordOverlay(widgetOverlay, TimeUnit.MILLISECONDS.toNanos(10));
+		profiler.recordOverlay(tooltipOverlay, TimeUnit.MILLISECONDS.toNanos(10));
+		assertTrue(profiler.shouldRender(widgetOverlay));
+		assertTrue(profiler.shouldRender(tooltipOverlay));
+	}
+}
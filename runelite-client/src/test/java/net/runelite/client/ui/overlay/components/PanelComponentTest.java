@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.components;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import org.mockito.Mock;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PanelComponentTest
+{
+	@Mock
+	private Graphics2D graphics;
+
+	private final Font font = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+
+	@Before
+	public void before()
+	{
+		Graphics2D real = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+		when(graphics.getFont()).thenReturn(font);
+		when(graphics.getFontMetrics(font)).thenReturn(real.getFontMetrics(font));
+		when(graphics.getFontMetrics()).thenReturn(real.getFontMetrics(font));
+	}
+
+	private Dimension renderFrame(PanelComponent panelComponent, String value)
+	{
+		panelComponent.getChildren().clear();
+		panelComponent.getChildren().add(TitleComponent.builder().text("Title").color(Color.GREEN).build());
+		panelComponent.getChildren().add(LineComponent.builder().left("Value:").right(value).build());
+		return panelComponent.render(graphics);
+	}
+
+	@Test
+	public void testRetained()
+	{
+		when(graphics.getRenderingHints()).thenReturn(new RenderingHints(null));
+
+		PanelComponent panelComponent = new PanelComponent();
+		panelComponent.setRetained(true);
+		panelComponent.setPreferredLocation(new Point(10, 20));
+
+		renderFrame(panelComponent, "1");
+		verify(graphics, never()).drawImage(any(BufferedImage.class), anyInt(), anyInt(), isNull());
+
+		// the panel is unchanged, so it is rendered into an image
+		clearInvocations(graphics);
+		Dimension second = renderFrame(panelComponent, "1");
+		verify(graphics).drawImage(any(BufferedImage.class), eq(10), eq(20), isNull());
+		verify(graphics, never()).drawString(anyString(), anyInt(), anyInt());
+
+		// and is the same size as when it isn't retained
+		PanelComponent notRetained = new PanelComponent();
+		notRetained.setPreferredLocation(new Point(10, 20));
+		renderFrame(notRetained, "1");
+		assertEquals(renderFrame(notRetained, "1"), second);
+
+		clearInvocations(graphics);
+		assertSame(second, renderFrame(panelComponent, "1"));
+		verify(graphics).drawImage(any(BufferedImage.class), eq(10), eq(20), isNull());
+		verify(graphics, never()).getRenderingHints();
+
+		// the panel has changed
+		clearInvocations(graphics);
+		renderFrame(panelComponent, "2");
+		verify(graphics, never()).drawImage(any(BufferedImage.class), anyInt(), anyInt(), isNull());
+		verify(graphics, times(2)).drawString(eq("2"), anyInt(), anyInt());
+	}
+
+	@Test
+	public void testNotRetained()
+	{
+		PanelComponent panelComponent = new PanelComponent();
+		renderFrame(panelComponent, "1");
+		clearInvocations(graphics);
+		renderFrame(panelComponent, "1");
+		verify(graphics, never()).drawImage(any(BufferedImage.class), anyInt(), anyInt(), isNull());
+		verify(graphics, times(2)).drawString(eq("1"), anyInt(), anyInt());
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.worldmap;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.Collections;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WorldMapPointManagerTest
+{
+	private WorldMapPointManager worldMapPointManager;
+
+	@Before
+	public void before()
+	{
+		worldMapPointManager = new WorldMapPointManager();
+	}
+
+	@Test
+	public void testArea()
+	{
+		WorldMapPoint lumbridge = point(3222, 3218);
+		WorldMapPoint varrock = point(3213, 3424);
+		WorldMapPoint falador = point(2965, 3380);
+		worldMapPointManager.add(varrock);
+		worldMapPointManager.add(lumbridge);
+		worldMapPointManager.add(falador);
+
+		assertEquals(Collections.singletonList(lumbridge), worldMapPointManager.getWorldMapPoints(new Rectangle(3200, 3200, 64, 64)));
+		// insertion order is kept across cells
+		assertEquals(Arrays.asList(varrock, lumbridge, falador), worldMapPointManager.getWorldMapPoints(new Rectangle(2900, 3100, 400, 400)));
+		assertEquals(Collections.emptyList(), worldMapPointManager.getWorldMapPoints(new Rectangle(0, 0, 100, 100)));
+	}
+
+	@Test
+	public void testSnapToEdge()
+	{
+		WorldMapPoint lumbridge = point(3222, 3218);
+		WorldMapPoint snapped = point(1000, 1000);
+		snapped.setSnapToEdge(true);
+		worldMapPointManager.add(snapped);
+		worldMapPointManager.add(lumbridge);
+
+		assertEquals(Collections.singletonList(snapped), worldMapPointManager.getWorldMapPoints(new Rectangle(0, 0, 100, 100)));
+		assertEquals(Arrays.asList(snapped, lumbridge), worldMapPointManager.getWorldMapPoints(new Rectangle(3200, 3200, 64, 64)));
+
+		snapped.setSnapToEdge(false);
+		assertEquals(Collections.singletonList(lumbridge), worldMapPointManager.getWorldMapPoints(new Rectangle(3200, 3200, 64, 64)));
+	}
+
+	@Test
+	public void testMove()
+	{
+		WorldMapPoint point = point(3222, 3218);
+		worldMapPointManager.add(point);
+
+		point.setWorldPoint(new WorldPoint(3213, 3424, 0));
+		assertEquals(Collections.emptyList(), worldMapPointManager.getWorldMapPoints(new Rectangle(3200, 3200, 64, 64)));
+		assertEquals(Collections.singletonList(point), worldMapPointManager.getWorldMapPoints(new Rectangle(3200, 3400, 64, 64)));
+	}
+
+	@Test
+	public void testRemove()
+	{
+		WorldMapPoint lumbridge = point(3222, 3218);
+		WorldMapPoint varrock = point(3213, 3424);
+		worldMapPointManager.add(lumbridge);
+		worldMapPointManager.add(varrock);
+
+		worldMapPointManager.remove(lumbridge);
+		worldMapPointManager.removeIf(varrock::equals);
+
+		assertEquals(Collections.emptyList(), worldMapPointManager.getWorldMapPoints());
+		assertEquals(Collections.emptyList(), worldMapPointManager.getWorldMapPoints(new Rectangle(2900, 3100, 400, 400)));
+
+		// removed points no longer update the index
+		lumbridge.setWorldPoint(new WorldPoint(3213, 3424, 0));
+		assertEquals(Collections.emptyList(), worldMapPointManager.getWorldMapPoints(new Rectangle(2900, 3100, 400, 400)));
+	}
+
+	@Test
+	public void testAddTwice()
+	{
+		WorldMapPoint lumbridge = point(3222, 3218);
+		worldMapPointManager.add(lumbridge);
+		worldMapPointManager.add(lumbridge);
+		assertEquals(Collections.singletonList(lumbridge), worldMapPointManager.getWorldMapPoints());
+
+		worldMapPointManager.remove(lumbridge);
+		assertEquals(Collections.emptyList(), worldMapPointManager.getWorldMapPoints());
+		assertEquals(Collections.emptyList(), worldMapPointManager.getWorldMapPoints(new Rectangle(3200, 3200, 64, 64)));
+	}
+
+	private static WorldMapPoint point(int x, int y)
+	{
+		return new WorldMapPoint(new WorldPoint(x, y, 0), null);
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class ExecutorStatsTest
+{
+	@Test
+	public void testLane() throws ExecutionException, InterruptedException
+	{
+		ExecutorLane lane = new ExecutorLane(MoreExecutors.newDirectExecutorService(), new ExecutorStats("test"));
+		lane.execute(() ->
+		{
+		});
+		assertEquals(42, (int) lane.submit(() -> 42).get());
+		lane.submit(RunnableExceptionLogger.wrap(new Task())).get();
+
+		// the exception logger is not the submitter, and nested classes and lambdas count towards their outer class
+		List<ExecutorStats.Snapshot> snapshots = lane.getStats().snapshot();
+		assertEquals(1, snapshots.size());
+
+		ExecutorStats.Snapshot snapshot = snapshots.get(0);
+		assertEquals(ExecutorStatsTest.class.getName(), snapshot.getSubmitter());
+		assertEquals(3, snapshot.getCompleted());
+		assertEquals(0, snapshot.getQueued());
+	}
+
+	private static class Task implements Runnable
+	{
+		@Override
+		public void run()
+		{
+		}
+	}
+}
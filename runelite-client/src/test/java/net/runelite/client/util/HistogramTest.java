@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class HistogramTest
+{
+	@Test
+	public void testBuckets()
+	{
+		long prevHighest = -1;
+		for (int bucket = 0; bucket < 60 * 16; ++bucket)
+		{
+			long highest = Histogram.highestValue(bucket);
+			assertTrue(highest > prevHighest);
+			assertEquals(bucket, Histogram.bucket(prevHighest + 1));
+			assertEquals(bucket, Histogram.bucket(highest));
+			prevHighest = highest;
+		}
+		assertEquals(Long.MAX_VALUE, prevHighest);
+	}
+
+	@Test
+	public void testPercentiles()
+	{
+		Histogram histogram = new Histogram();
+		for (int i = 1; i <= 1000; ++i)
+		{
+			histogram.record(i * 1000L);
+		}
+
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1_000_000L, histogram.getMax());
+		assertEquals(500_500L, histogram.getMean());
+		assertWithin(500_000L, histogram.getValueAtPercentile(50));
+		assertWithin(990_000L, histogram.getValueAtPercentile(99));
+		assertEquals(1_000_000L, histogram.getValueAtPercentile(100));
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getValueAtPercentile(99));
+	}
+
+	private static void assertWithin(long expected, long actual)
+	{
+		assertTrue(actual + " is not within 1/16 of " + expected, actual >= expected && actual <= expected + expected / 16);
+	}
+}